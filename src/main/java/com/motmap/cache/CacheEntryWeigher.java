@@ -0,0 +1,72 @@
+package com.motmap.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.motmap.dto.EncodedTile;
+import com.motmap.dto.RestaurantClusterDto;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.dto.RestaurantStatsDto;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 캐시 항목의 추정 메모리 크기 (바이트, 압축 OOP 기준)
+ * 정확한 측정이 아니라 캐시 간 상대 크기를 맞추기 위한 근사치다.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int DEFAULT_WEIGHT = 64;
+
+    // 날짜 두 개, Double 여러 개 등 문자열 외 필드의 대략적인 크기
+    private static final int RESTAURANT_FIXED = 240;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = estimate(key) + estimate(value);
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    public static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String text) {
+            return 40 + 2L * text.length();
+        }
+        if (value instanceof RestaurantResponseDto restaurant) {
+            return RESTAURANT_FIXED
+                    + estimate(restaurant.getName())
+                    + estimate(restaurant.getAddress())
+                    + estimate(restaurant.getReview())
+                    + estimate(restaurant.getImageUrl())
+                    + estimate(restaurant.getCreatedBy())
+                    + estimate(restaurant.getCreatedByNickname());
+        }
+        if (value instanceof EncodedTile tile) {
+            return OBJECT_HEADER + 16 + tile.getData().length + estimate(tile.getEtag());
+        }
+        if (value instanceof RestaurantClusterDto) {
+            return 160;
+        }
+        if (value instanceof RestaurantStatsDto) {
+            return 600;
+        }
+        if (value instanceof Collection<?> collection) {
+            long total = OBJECT_HEADER + 16 + (long) REFERENCE * collection.size();
+            for (Object element : collection) {
+                total += estimate(element);
+            }
+            return total;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long total = OBJECT_HEADER + 48L * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                total += estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return total;
+        }
+        return DEFAULT_WEIGHT;
+    }
+}
@@ -0,0 +1,312 @@
+package com.motmap.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.motmap.dto.CacheEventMetricsDto;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.CacheEvent;
+import com.motmap.repository.CacheEventRepository;
+import com.motmap.service.CatalogReloadedEvent;
+import com.motmap.service.RestaurantChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DB 변경 기록(cache_events) 기반 노드 간 캐시 동기화
+ * 맛집을 바꾼 트랜잭션이 커밋되기 직전에 변경 전/후 스냅샷을 같은 트랜잭션으로 기록하고,
+ * 각 노드는 주기적으로 마지막으로 확인한 ID 이후의 기록만 기본 키 범위로 읽어
+ * 다른 노드의 변경을 RestaurantChangedEvent로 다시 발행한다. 인덱스, 캐시, 데이터 버전은 로컬 변경과 같은 경로로 갱신된다.
+ *
+ * 자동 증가 ID는 커밋 순서와 다를 수 있어, 중간에 빈 ID가 있으면 커서를 그 앞에 멈추고 늦게 커밋되는 기록을 기다린다.
+ * 빈 ID는 처음 발견한 시각을 각각 기억해 폴링마다 그 ID만 다시 조회하고, 발견 후 gap-timeout 동안 채워지지 않으면 롤백된 ID로 보고 넘어간다.
+ * 새 기록은 커서가 아니라 이미 읽은 최대 ID 이후부터 읽으므로, 커서가 멈춰 있어도 같은 페이지를 반복해서 읽지 않는다.
+ * 커서 뒤의 기록도 읽는 즉시 반영하며, 이미 반영한 ID는 다시 반영하지 않는다.
+ */
+@Component
+@Slf4j
+public class CacheEventBus {
+
+    // 대량 변경 기록의 유형 (맛집 한 건이 아니므로 스냅샷 없이 기록하고, 받은 노드는 전체를 다시 읽음)
+    public static final String RELOADED_TYPE = "RELOADED";
+
+    private final CacheEventRepository cacheEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final Duration gapTimeout;
+    private final Duration retention;
+
+    // 이 ID 이하는 모두 반영했거나 건너뛴 기록 (폴링 스레드에서만 변경)
+    private volatile long cursor;
+
+    // 지금까지 읽은 최대 ID (새 기록은 이 ID 이후부터 읽음, 폴링 스레드에서만 변경)
+    private long maxSeenId;
+
+    // 커서 이후에 이미 반영한 ID
+    private final TreeSet<Long> appliedAfterCursor = new TreeSet<>();
+
+    // 커서 이후의 빈 ID와 처음 발견한 시각 (System.nanoTime)
+    private final TreeMap<Long, Long> missingSince = new TreeMap<>();
+
+    private volatile boolean started = false;
+
+    // 지표
+    private final AtomicLong appliedEvents = new AtomicLong();
+    private final AtomicLong skippedOwnEvents = new AtomicLong();
+    private final AtomicLong skippedGaps = new AtomicLong();
+    private volatile long pendingGaps;
+    private volatile long lastLagMillis;
+    private volatile long maxLagMillis;
+    private volatile double applyRatePerSecond;
+    private volatile LocalDateTime lastPolledAt;
+    private long rateWindowStart = System.nanoTime();
+    private long rateWindowCount;
+
+    public CacheEventBus(CacheEventRepository cacheEventRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         ObjectMapper objectMapper,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${motmap.cache-events.node-id:}") String nodeId,
+                         @Value("${motmap.cache-events.gap-timeout:10s}") Duration gapTimeout,
+                         @Value("${motmap.cache-events.retention:1h}") Duration retention) {
+        this.cacheEventRepository = cacheEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+    }
+
+    /**
+     * 기동 시점까지의 기록은 DB 상태에 이미 반영되어 있으므로 현재 최대 ID부터 따라감
+     */
+    @PostConstruct
+    void initCursor() {
+        cursor = cacheEventRepository.findMaxId();
+        maxSeenId = cursor;
+        log.info("캐시 변경 기록 구독 시작 - 노드: {}, 시작 ID: {}", nodeId, cursor);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        started = true;
+    }
+
+    /**
+     * 로컬 변경을 같은 트랜잭션 안에서 기록 (기록이 실패하면 변경도 롤백)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.isReplayed()) {
+            return;
+        }
+        CacheEvent saved = cacheEventRepository.save(CacheEvent.builder()
+                .restaurantId(event.getRestaurantId())
+                .type(event.getType().name())
+                .origin(nodeId)
+                .beforeJson(toJson(event.getBefore()))
+                .afterJson(toJson(event.getAfter()))
+                .build());
+        event.setLogId(saved.getId());
+    }
+
+    /**
+     * 대량 변경도 같은 트랜잭션 안에서 한 건으로 기록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        if (event.isReplayed()) {
+            return;
+        }
+        CacheEvent saved = cacheEventRepository.save(CacheEvent.builder()
+                .restaurantId(0L)
+                .type(RELOADED_TYPE)
+                .origin(nodeId)
+                .build());
+        event.setLogId(saved.getId());
+    }
+
+    /**
+     * 다른 노드의 변경 반영
+     * 한 번에 읽은 기록은 한 트랜잭션 안에서 다시 발행하므로, 커밋 후 리스너(인덱스 -> 캐시 -> 버전)가 순서대로 실행된다.
+     */
+    @Scheduled(fixedDelayString = "${motmap.cache-events.poll-interval:1000}")
+    public void poll() {
+        if (!started) {
+            return;
+        }
+        // 늦게 커밋된 빈 ID부터 다시 확인
+        List<Long> missing = new ArrayList<>(missingSince.keySet());
+        for (int from = 0; from < missing.size(); from += 100) {
+            List<CacheEvent> events = new ArrayList<>(cacheEventRepository.findAllById(
+                    missing.subList(from, Math.min(missing.size(), from + 100))));
+            if (!events.isEmpty()) {
+                events.sort(Comparator.comparing(CacheEvent::getId));
+                events.forEach(event -> missingSince.remove(event.getId()));
+                transactionTemplate.execute(status -> replay(events));
+            }
+        }
+
+        boolean more;
+        do {
+            List<CacheEvent> events = cacheEventRepository.findTop100ByIdGreaterThanOrderByIdAsc(maxSeenId);
+            transactionTemplate.execute(status -> replay(events));
+            recordMissing(events);
+            // 한 번에 가득 읽었으면 바로 이어서 읽음
+            more = events.size() == 100;
+        } while (more);
+        advanceCursor();
+        lastPolledAt = LocalDateTime.now();
+        updateRate();
+    }
+
+    /**
+     * 보관 기간이 지난 기록 삭제 (모든 노드가 반영했을 만큼 충분히 지난 기록)
+     */
+    @Scheduled(fixedDelayString = "${motmap.cache-events.cleanup-interval:600000}")
+    public void cleanup() {
+        if (!started) {
+            return;
+        }
+        Integer deleted = transactionTemplate.execute(status ->
+                cacheEventRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.debug("오래된 캐시 변경 기록 {}건 삭제", deleted);
+        }
+    }
+
+    public CacheEventMetricsDto metrics() {
+        return CacheEventMetricsDto.builder()
+                .nodeId(nodeId)
+                .cursor(cursor)
+                .appliedEvents(appliedEvents.get())
+                .skippedOwnEvents(skippedOwnEvents.get())
+                .skippedGaps(skippedGaps.get())
+                .pendingGaps(pendingGaps)
+                .lastLagMillis(lastLagMillis)
+                .maxLagMillis(maxLagMillis)
+                .applyRatePerSecond(applyRatePerSecond)
+                .lastPolledAt(lastPolledAt)
+                .build();
+    }
+
+    // 아직 반영하지 않은 기록을 다시 발행 (트랜잭션 안에서 호출)
+    private Void replay(List<CacheEvent> events) {
+        int applied = 0;
+        for (CacheEvent event : events) {
+            if (event.getId() <= cursor || !appliedAfterCursor.add(event.getId())) {
+                continue;
+            }
+            if (event.getOrigin().equals(nodeId)) {
+                skippedOwnEvents.incrementAndGet();
+                continue;
+            }
+            if (RELOADED_TYPE.equals(event.getType())) {
+                CatalogReloadedEvent reloaded = CatalogReloadedEvent.replayed();
+                reloaded.setLogId(event.getId());
+                eventPublisher.publishEvent(reloaded);
+            } else {
+                RestaurantChangedEvent changed = RestaurantChangedEvent.replayed(
+                        RestaurantChangedEvent.Type.valueOf(event.getType()),
+                        fromJson(event.getBeforeJson()),
+                        fromJson(event.getAfterJson()));
+                changed.setLogId(event.getId());
+                eventPublisher.publishEvent(changed);
+            }
+            applied++;
+
+            long lag = Math.max(0, Duration.between(event.getCreatedAt(), LocalDateTime.now()).toMillis());
+            lastLagMillis = lag;
+            maxLagMillis = Math.max(maxLagMillis, lag);
+        }
+        appliedEvents.addAndGet(applied);
+        rateWindowCount += applied;
+        if (applied > 0) {
+            log.debug("다른 노드의 맛집 변경 {}건 반영 - 지연 {}ms", applied, lastLagMillis);
+        }
+        return null;
+    }
+
+    // 새로 읽은 기록 사이의 빈 ID를 발견 시각과 함께 기억하고 최대 ID를 옮김
+    private void recordMissing(List<CacheEvent> events) {
+        long now = System.nanoTime();
+        for (CacheEvent event : events) {
+            for (long id = maxSeenId + 1; id < event.getId(); id++) {
+                missingSince.put(id, now);
+            }
+            maxSeenId = Math.max(maxSeenId, event.getId());
+        }
+    }
+
+    // 빈 ID 없이 이어지는 곳까지 커서를 옮김 (발견 후 gap-timeout이 지난 빈 ID는 건너뜀)
+    private void advanceCursor() {
+        long now = System.nanoTime();
+        long next = cursor + 1;
+        while (next <= maxSeenId) {
+            if (!appliedAfterCursor.remove(next)) {
+                Long since = missingSince.get(next);
+                if (since != null && now - since < gapTimeout.toNanos()) {
+                    break;
+                }
+                missingSince.remove(next);
+                skippedGaps.incrementAndGet();
+            }
+            cursor = next++;
+        }
+        pendingGaps = missingSince.size();
+    }
+
+    // 최근 1분 단위 반영 속도
+    private void updateRate() {
+        long elapsed = System.nanoTime() - rateWindowStart;
+        if (elapsed >= Duration.ofMinutes(1).toNanos()) {
+            applyRatePerSecond = rateWindowCount / (elapsed / 1_000_000_000.0);
+            rateWindowStart = System.nanoTime();
+            rateWindowCount = 0;
+        }
+    }
+
+    private String toJson(RestaurantResponseDto restaurant) {
+        if (restaurant == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(restaurant);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("맛집 스냅샷 직렬화 실패 - ID: " + restaurant.getId(), e);
+        }
+    }
+
+    private RestaurantResponseDto fromJson(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, RestaurantResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("맛집 스냅샷 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.motmap.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 캐시별 로더 등록소 (refresh-after-write 캐시용)
+ * 서비스가 시작할 때 캐시 이름마다 "키 -> 값" 로더를 등록하면, Caffeine이 이를 이용해
+ * - 캐시가 비었을 때 같은 키의 동시 요청 중 하나만 로더를 실행하고 나머지는 그 결과를 기다리며(single-flight),
+ * - 갱신 주기가 지난 항목은 기존 값을 바로 돌려주면서 백그라운드에서 한 번만 다시 읽는다(stale-while-revalidate).
+ * 로더는 읽기 전용 트랜잭션 안에서 실행되므로 백그라운드 스레드에서도 지연 로딩이 동작한다.
+ */
+@Component
+@Slf4j
+public class CacheRefreshLoaders {
+
+    private final Map<String, Function<Object, ?>> loaders = new ConcurrentHashMap<>();
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CacheRefreshLoaders(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void register(String cacheName, Function<Object, ?> loader) {
+        loaders.put(cacheName, loader);
+        log.debug("캐시 로더 등록 - {}", cacheName);
+    }
+
+    /**
+     * 캐시에 연결할 Caffeine 로더
+     * 아직 로더가 등록되지 않았으면 읽기는 캐시 미스로, 갱신은 기존 값 유지로 처리한다.
+     */
+    public CacheLoader<Object, Object> loaderFor(String cacheName) {
+        return new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                Function<Object, ?> loader = loaders.get(cacheName);
+                if (loader == null) {
+                    return null;
+                }
+                return readOnlyTransaction.execute(status -> loader.apply(key));
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                if (!loaders.containsKey(cacheName)) {
+                    return oldValue;
+                }
+                log.debug("캐시 백그라운드 갱신 - {}: {}", cacheName, key);
+                return load(key);
+            }
+        };
+    }
+}
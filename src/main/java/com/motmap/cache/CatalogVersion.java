@@ -0,0 +1,94 @@
+package com.motmap.cache;
+
+import com.motmap.index.RestaurantStatsAggregate;
+import com.motmap.repository.CacheEventRepository;
+import com.motmap.service.CatalogReloadedEvent;
+import com.motmap.service.ChangeListenerOrder;
+import com.motmap.service.RestaurantChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 맛집 데이터 버전 (조건부 GET의 ETag / Last-Modified 기준)
+ * 버전은 이 노드에 반영된 가장 큰 변경 기록(cache_events) ID로, 모든 노드가 같은 기록을 공유하므로
+ * 같은 변경까지 반영한 노드는 같은 ETag를 만든다 (로드 밸런서 뒤에서 다른 노드로 가도 304로 재검증됨).
+ * 기록 ID와 함께 현재 맛집 수를 ETag에 넣어, 기록이 없는 변경(초기 데이터 적재 등)도 구분한다.
+ * 메모리에만 있으므로 DB를 읽지 않고 최신 여부를 판단할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogVersion {
+
+    private final CacheEventRepository cacheEventRepository;
+    private final RestaurantStatsAggregate statsAggregate;
+
+    private final AtomicLong version = new AtomicLong();
+
+    // 마지막 변경 시각 (HTTP 날짜 정밀도에 맞춰 초 단위로 내림한 밀리초)
+    private volatile long lastModified = truncateToSeconds(System.currentTimeMillis());
+
+    /**
+     * 기동 시점까지의 변경 기록은 DB 상태에 이미 반영되어 있으므로 현재 최대 ID에서 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        advance(cacheEventRepository.findMaxId());
+    }
+
+    @Order(ChangeListenerOrder.VERSION)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        long current = advance(event.getLogId());
+        log.debug("맛집 데이터 버전 갱신 - {} (ID: {}, 유형: {})", current, event.getRestaurantId(), event.getType());
+    }
+
+    @Order(ChangeListenerOrder.VERSION)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        long current = advance(event.getLogId());
+        log.debug("맛집 데이터 버전 갱신 - {} (대량 변경 {}건)", current, event.getChangedCount());
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public long lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * 현재 버전의 강한 ETag (따옴표 포함)
+     * gzip 응답은 본문 바이트가 다르므로 다른 ETag를 쓴다.
+     */
+    public String etag(boolean gzip) {
+        return "\"" + version.get() + "-" + statsAggregate.count() + (gzip ? "-gz" : "") + "\"";
+    }
+
+    /**
+     * 날짜에 따라 내용이 바뀌는 응답(최근 30일 등록 수 등)의 ETag (날짜가 바뀌면 변경이 없어도 달라짐)
+     */
+    public String etag(boolean gzip, LocalDate today) {
+        return "\"" + version.get() + "-" + statsAggregate.count() + "-" + today.toEpochDay() + (gzip ? "-gz" : "") + "\"";
+    }
+
+    // 시각을 먼저 올린 뒤 버전을 올려, 새 버전을 본 요청은 항상 새 시각도 보게 함
+    private long advance(long logId) {
+        lastModified = Math.max(lastModified, truncateToSeconds(System.currentTimeMillis()));
+        return version.accumulateAndGet(logId, Math::max);
+    }
+
+    private static long truncateToSeconds(long millis) {
+        return millis / 1000 * 1000;
+    }
+}
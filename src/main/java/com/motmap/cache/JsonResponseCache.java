@@ -0,0 +1,132 @@
+package com.motmap.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.motmap.dto.EncodedJson;
+import com.motmap.entity.Category;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 목록 API 응답의 직렬화 결과 캐시
+ * 목록/통계 응답은 맛집 데이터 버전(CatalogVersion의 ETag 값)이 같으면 내용도 같다.
+ * 그래서 엔드포인트별로 마지막에 직렬화한 바이트를 그때의 버전과 함께 두고,
+ * 버전이 그대로면 서비스 조회와 Jackson을 거치지 않고 저장된 바이트를 그대로 응답한다.
+ * 원본 객체는 보관하지 않으므로 교체된 목록이 이 캐시 때문에 메모리에 남지 않는다.
+ */
+@Component
+@Slf4j
+public class JsonResponseCache {
+
+    public static final String ALL_KEY = "all";
+    public static final String HIGH_RATED_KEY = "highRated";
+    public static final String STATS_KEY = "stats";
+
+    private final ObjectMapper objectMapper;
+    private final CatalogVersion catalogVersion;
+    private final boolean gzipEnabled;
+    private final int gzipMinSize;
+
+    // 엔드포인트 키 -> 마지막 직렬화 결과 (키는 목록 종류만큼만 생김)
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public JsonResponseCache(ObjectMapper objectMapper,
+                             CatalogVersion catalogVersion,
+                             @Value("${motmap.json-cache.gzip:true}") boolean gzipEnabled,
+                             @Value("${motmap.json-cache.gzip-min-size:1024}") int gzipMinSize) {
+        this.objectMapper = objectMapper;
+        this.catalogVersion = catalogVersion;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    /**
+     * 응답의 직렬화 결과 조회 (마지막으로 직렬화한 뒤 데이터 버전이 바뀌었을 때만 다시 조회/직렬화)
+     * 버전을 조회 전에 읽으므로 저장되는 내용은 함께 저장되는 버전보다 같거나 새롭다.
+     * @param key 엔드포인트 구분 키 (예: "all", "category:KOREAN")
+     * @param source 서비스 캐시에서 목록/통계 객체를 받아 오는 조회
+     */
+    public EncodedJson get(String key, Supplier<?> source) {
+        String version = version(key);
+        return entries.compute(key, (k, entry) ->
+                entry != null && entry.version.equals(version) ? entry : new Entry(version, encode(k, source.get()))).json;
+    }
+
+    /**
+     * 저장된 직렬화 결과를 모두 버림 (변경 이벤트 없이 데이터가 바뀌었을 때)
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    public static String categoryKey(Category category) {
+        return "category:" + category;
+    }
+
+    /**
+     * Accept-Encoding에 gzip이 있고 q=0으로 거부하지 않았는지
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // 통계는 최근 30일 등록 수가 날짜에 따라 바뀌므로 날짜를 포함한 버전 (ConditionalGetInterceptor의 ETag와 같은 기준)
+    private String version(String key) {
+        return STATS_KEY.equals(key) ? catalogVersion.etag(false, LocalDate.now()) : catalogVersion.etag(false);
+    }
+
+    private EncodedJson encode(String key, Object source) {
+        byte[] data;
+        try {
+            data = objectMapper.writeValueAsBytes(source);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON 직렬화 실패: " + key, e);
+        }
+        byte[] gzipData = gzipEnabled && data.length >= gzipMinSize ? gzip(data) : null;
+        log.debug("JSON 응답 직렬화 - {}: {}바이트, gzip {}바이트", key, data.length,
+                gzipData != null ? gzipData.length : "-");
+        return new EncodedJson(data, gzipData);
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static final class Entry {
+
+        // 직렬화할 때의 데이터 버전
+        private final String version;
+        private final EncodedJson json;
+
+        private Entry(String version, EncodedJson json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.motmap.cache;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.service.ChangeListenerOrder;
+import com.motmap.service.RestaurantChangedEvent;
+import com.motmap.util.BoundingBox;
+import com.motmap.util.LocationUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 근처 맛집 검색 결과 캐시
+ * 좌표를 반경 구간별 격자 셀로 양자화해 셀 단위로 결과를 캐싱한다.
+ * 셀에는 "셀 안의 어느 점에서 구간 반경으로 검색해도 빠지지 않는" 상위 집합을 저장하고,
+ * 조회 시 실제 좌표와 반경으로 다시 잘라낸다.
+ * 맛집이 바뀌면 그 좌표를 덮는 셀만 무효화한다.
+ */
+@Component
+@Slf4j
+public class NearbyQueryCache {
+
+    public static final String CACHE_NAME = "nearbyRestaurants";
+
+    // 반경 구간 (km), 마지막 구간보다 큰 반경은 캐싱하지 않는다
+    private static final double[] RADIUS_BUCKETS = {0.5, 1, 2, 3, 5, 10, 20, 50};
+
+    // 구간 반경 대비 셀 크기 비율
+    private static final double CELLS_PER_RADIUS = 4.0;
+
+    private static final double KM_PER_DEGREE = 111.195;
+
+    private final Cache cache;
+
+    public NearbyQueryCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    /**
+     * 반경 검색 결과를 셀 캐시에서 조회 (없으면 loader로 상위 집합을 채움)
+     * @return 반경 안의 맛집 (가까운 순, 거리 포함)
+     */
+    public List<RestaurantResponseDto> find(double latitude, double longitude, double radiusKm, NearbyLoader loader) {
+        int bucket = bucketOf(radiusKm);
+        if (bucket < 0) {
+            return loader.load(latitude, longitude, radiusKm);
+        }
+
+        double bucketRadius = RADIUS_BUCKETS[bucket];
+        double cellSize = cellSize(bucket);
+        long row = index(latitude + 90.0, cellSize);
+        long column = index(longitude + 180.0, cellSize);
+        String key = key(bucket, row, column);
+
+        double centerLatitude = (row + 0.5) * cellSize - 90.0;
+        double centerLongitude = (column + 0.5) * cellSize - 180.0;
+        List<RestaurantResponseDto> superset = cache.get(key,
+                () -> loader.load(centerLatitude, centerLongitude, bucketRadius + halfDiagonalKm(bucket)));
+
+        List<RestaurantResponseDto> result = new ArrayList<>();
+        for (RestaurantResponseDto restaurant : superset) {
+            double distance = LocationUtils.calculateDistance(
+                    latitude, longitude, restaurant.getLatitude(), restaurant.getLongitude());
+            if (distance < radiusKm) {
+                result.add(restaurant.withDistance(distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(RestaurantResponseDto::getDistance));
+        return result;
+    }
+
+    /**
+     * 변경된 맛집의 변경 전/후 좌표를 덮는 셀만 무효화
+     */
+    @Order(ChangeListenerOrder.CACHE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        if (event.getBefore() != null) {
+            evictCellsCovering(event.getBefore().getLatitude(), event.getBefore().getLongitude());
+        }
+        if (event.getAfter() != null) {
+            evictCellsCovering(event.getAfter().getLatitude(), event.getAfter().getLongitude());
+        }
+    }
+
+    public void evictCellsCovering(double latitude, double longitude) {
+        int evicted = 0;
+        for (int bucket = 0; bucket < RADIUS_BUCKETS.length; bucket++) {
+            double cellSize = cellSize(bucket);
+            // 셀 중심에서 (구간 반경 + 셀 반대각선) 안에 이 좌표가 들어오는 셀들
+            BoundingBox box = LocationUtils.boundingBox(latitude, longitude,
+                    RADIUS_BUCKETS[bucket] + halfDiagonalKm(bucket));
+            long minRow = index(box.getMinLatitude() + 90.0, cellSize);
+            long maxRow = index(box.getMaxLatitude() + 90.0, cellSize);
+            long minColumn = index(box.getMinLongitude() + 180.0, cellSize);
+            long maxColumn = index(box.getMaxLongitude() + 180.0, cellSize);
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long column = minColumn; column <= maxColumn; column++) {
+                    cache.evict(key(bucket, row, column));
+                    evicted++;
+                }
+            }
+        }
+        log.debug("근처 맛집 캐시 셀 무효화 - 좌표: ({}, {}), 셀 {}개", latitude, longitude, evicted);
+    }
+
+    private static int bucketOf(double radiusKm) {
+        for (int i = 0; i < RADIUS_BUCKETS.length; i++) {
+            if (radiusKm <= RADIUS_BUCKETS[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 셀 크기 (도 단위, 위도/경도 공통)
+    private static double cellSize(int bucket) {
+        return RADIUS_BUCKETS[bucket] / CELLS_PER_RADIUS / KM_PER_DEGREE;
+    }
+
+    // 셀 중심에서 셀 안 가장 먼 점까지의 거리 상한 (km)
+    private static double halfDiagonalKm(int bucket) {
+        return RADIUS_BUCKETS[bucket] / CELLS_PER_RADIUS * Math.sqrt(2) / 2;
+    }
+
+    private static long index(double offset, double cellSize) {
+        return (long) Math.floor(offset / cellSize);
+    }
+
+    private static String key(int bucket, long row, long column) {
+        return bucket + ":" + row + ":" + column;
+    }
+
+    /**
+     * 셀의 상위 집합을 읽어오는 함수
+     */
+    @FunctionalInterface
+    public interface NearbyLoader {
+        List<RestaurantResponseDto> load(double latitude, double longitude, double radiusKm);
+    }
+}
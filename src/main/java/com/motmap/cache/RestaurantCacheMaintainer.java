@@ -0,0 +1,135 @@
+package com.motmap.cache;
+
+import com.motmap.config.CacheConfig;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.service.CatalogReloadedEvent;
+import com.motmap.service.ChangeListenerOrder;
+import com.motmap.service.RestaurantChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 맛집 목록 캐시를 통째로 비우지 않고 변경된 맛집 한 건만 반영
+ * 캐시된 목록은 수정하지 않고 바뀐 사본으로 교체하므로(copy-on-write) 읽는 쪽은 잠금 없이 기존 목록을 계속 쓸 수 있다.
+ * 캐시에 목록이 없으면 아무것도 하지 않고, 다음 조회 때 DB에서 새로 채운다.
+ */
+@Component
+@Slf4j
+public class RestaurantCacheMaintainer {
+
+    public static final String ALL_CACHE = "restaurants";
+    public static final String CATEGORY_CACHE = "categoryRestaurants";
+    public static final String HIGH_RATED_CACHE = "highRatedRestaurants";
+
+    public static final String ALL_KEY = "all";
+    public static final String HIGH_RATED_KEY = "highRated";
+
+    // 고평점 기준 (4점 이상)
+    private static final int HIGH_RATING = 4;
+
+    // 캐시를 채우는 쿼리의 반환 순서와 같게 유지 (전체/카테고리: ID 순, 고평점: 평점 인덱스 순)
+    private static final Comparator<RestaurantResponseDto> ID_ORDER =
+            Comparator.comparing(RestaurantResponseDto::getId);
+    private static final Comparator<RestaurantResponseDto> RATING_ORDER =
+            Comparator.comparing(RestaurantResponseDto::getRating).thenComparing(RestaurantResponseDto::getId);
+
+    private final CacheManager cacheManager;
+
+    public RestaurantCacheMaintainer(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Order(ChangeListenerOrder.CACHE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        RestaurantResponseDto before = event.getBefore();
+        RestaurantResponseDto after = event.getAfter();
+        Long id = event.getRestaurantId();
+
+        // 전체 목록: 한 건 추가/교체/삭제
+        patch(ALL_CACHE, ALL_KEY, list -> replace(list, id, after, ID_ORDER));
+
+        // 카테고리 목록: 변경 전/후 카테고리만
+        if (before != null && (after == null || before.getCategory() != after.getCategory())) {
+            patch(CATEGORY_CACHE, before.getCategory(), list -> replace(list, id, null, ID_ORDER));
+        }
+        if (after != null) {
+            patch(CATEGORY_CACHE, after.getCategory(), list -> replace(list, id, after, ID_ORDER));
+        }
+
+        // 고평점 목록: 변경 전이나 후가 고평점일 때만
+        boolean wasHighRated = before != null && before.getRating() >= HIGH_RATING;
+        boolean isHighRated = after != null && after.getRating() >= HIGH_RATING;
+        if (wasHighRated || isHighRated) {
+            patch(HIGH_RATED_CACHE, HIGH_RATED_KEY,
+                    list -> replace(list, id, isHighRated ? after : null, RATING_ORDER));
+        }
+        log.debug("맛집 목록 캐시 갱신 - ID: {}, 유형: {}", id, event.getType());
+    }
+
+    /**
+     * 대량 변경은 건별로 고치지 않고 맛집 캐시를 모두 한 번에 비움 (다음 조회 때 다시 채움)
+     */
+    @Order(ChangeListenerOrder.CACHE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        for (String name : CacheConfig.CACHE_NAMES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.debug("맛집 캐시 전체 비움 - 대량 변경 {}건", event.getChangedCount());
+    }
+
+    // 캐시에 목록이 있을 때만 원자적으로 교체
+    @SuppressWarnings("unchecked")
+    private void patch(String cacheName, Object key, UnaryOperator<List<RestaurantResponseDto>> change) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            ConcurrentMap<Object, Object> map = caffeineCache.getNativeCache().asMap();
+            map.computeIfPresent(key, (k, value) ->
+                    value instanceof List<?> list ? change.apply((List<RestaurantResponseDto>) list) : value);
+        } else if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    /**
+     * 목록에서 ID가 같은 맛집을 빼고, replacement가 있으면 정렬 순서에 맞는 위치에 넣은 사본
+     */
+    private static List<RestaurantResponseDto> replace(List<RestaurantResponseDto> list, Long id,
+                                                       RestaurantResponseDto replacement,
+                                                       Comparator<RestaurantResponseDto> order) {
+        List<RestaurantResponseDto> result = new ArrayList<>(list.size() + 1);
+        boolean placed = replacement == null;
+        for (RestaurantResponseDto restaurant : list) {
+            if (Objects.equals(restaurant.getId(), id)) {
+                continue;
+            }
+            if (!placed && order.compare(restaurant, replacement) > 0) {
+                result.add(replacement);
+                placed = true;
+            }
+            result.add(restaurant);
+        }
+        if (!placed) {
+            result.add(replacement);
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
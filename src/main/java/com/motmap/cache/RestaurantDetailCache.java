@@ -0,0 +1,142 @@
+package com.motmap.cache;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.service.ChangeListenerOrder;
+import com.motmap.service.RestaurantChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 맛집 상세 캐시 (ID 단위)
+ * 조회한 맛집을 ID별로 캐싱하고, 없는 ID도 짧은 시간 동안 기억해(negative caching) 반복되는 404 조회가 DB까지 가지 않게 한다.
+ * 수정/등록은 커밋 후 새 스냅샷을 바로 써 넣고(write-through), 삭제는 항목을 지우고 없는 ID로 기록한다.
+ * DB에서 읽은 값은 putIfAbsent로만 채우고, 조회 도중 같은 ID(같은 버전 칸)에 변경이 커밋되었으면 채운 값을 다시 지워
+ * 삭제/수정 직전에 읽은 이전 값이 캐시에 남지 않게 한다.
+ * (변경 반영은 버전을 먼저 올리고 캐시를 쓰며, 채우기는 캐시에 쓴 뒤 버전을 확인하므로 어느 순서로 겹쳐도 이전 값이 남지 않음)
+ */
+@Component
+@Slf4j
+public class RestaurantDetailCache {
+
+    public static final String CACHE_NAME = "restaurantById";
+    public static final String MISSING_CACHE_NAME = "restaurantMissing";
+
+    // ID별 변경 버전 (ID를 칸에 나눠 담아 메모리를 고정, 같은 칸의 다른 ID 변경은 채우기를 한 번 건너뛰게 할 뿐)
+    private static final int VERSION_SLOTS = 1024;
+
+    private final Cache cache;
+    private final Cache missing;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+
+    public RestaurantDetailCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.missing = cacheManager.getCache(MISSING_CACHE_NAME);
+    }
+
+    /**
+     * 맛집 한 건 조회 (캐시에 없으면 loader로 읽어 채움)
+     * @return 없는 ID면 빈 값 (DB에 없거나 최근에 없다고 확인된 ID)
+     */
+    public Optional<RestaurantResponseDto> find(Long id, Function<Long, Optional<RestaurantResponseDto>> loader) {
+        RestaurantResponseDto cached = cache.get(id, RestaurantResponseDto.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (missing.get(id) != null) {
+            return Optional.empty();
+        }
+
+        long version = version(id);
+        Optional<RestaurantResponseDto> loaded = loader.apply(id);
+        fill(id, loaded.orElse(null), version);
+        return loaded;
+    }
+
+    /**
+     * 여러 맛집 조회 (캐시에 없는 ID만 모아 loader로 한 번에 읽음)
+     * @param ids 중복 없는 맛집 ID
+     * @return ID -> 맛집, ids 순서 유지 (없는 ID는 빠짐)
+     */
+    public Map<Long, RestaurantResponseDto> findAll(Collection<Long> ids,
+                                                    Function<Collection<Long>, List<RestaurantResponseDto>> loader) {
+        Map<Long, RestaurantResponseDto> found = new LinkedHashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : ids) {
+            RestaurantResponseDto cached = cache.get(id, RestaurantResponseDto.class);
+            // 순서를 유지하기 위해 캐시에 없는 ID도 자리를 먼저 잡아 둠
+            found.put(id, cached);
+            if (cached == null && missing.get(id) == null) {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, Long> loadVersions = new LinkedHashMap<>();
+            misses.forEach(id -> loadVersions.put(id, version(id)));
+            Set<Long> absent = new HashSet<>(misses);
+            for (RestaurantResponseDto restaurant : loader.apply(misses)) {
+                found.put(restaurant.getId(), restaurant);
+                fill(restaurant.getId(), restaurant, loadVersions.get(restaurant.getId()));
+                absent.remove(restaurant.getId());
+            }
+            absent.forEach(id -> fill(id, null, loadVersions.get(id)));
+            log.debug("맛집 상세 일괄 조회 - 요청 {}개, DB 조회 {}개, 없음 {}개", ids.size(), misses.size(), absent.size());
+        }
+
+        found.values().removeIf(Objects::isNull);
+        return found;
+    }
+
+    /**
+     * 커밋된 변경을 바로 반영 (등록/수정은 새 값으로 교체, 삭제는 없는 ID로 기록)
+     */
+    @Order(ChangeListenerOrder.CACHE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        Long id = event.getRestaurantId();
+        // 진행 중인 채우기가 이전 값을 남기지 않도록 캐시를 쓰기 전에 버전부터 올림
+        versions.incrementAndGet(slot(id));
+        if (event.getAfter() != null) {
+            cache.put(id, event.getAfter());
+            missing.evict(id);
+        } else {
+            cache.evict(id);
+            missing.put(id, Boolean.TRUE);
+        }
+    }
+
+    // DB에서 읽은 값 채우기 (없으면 없는 ID로 기록), 읽는 동안 변경이 커밋되었으면 채운 값을 되돌림
+    private void fill(Long id, RestaurantResponseDto restaurant, long loadedVersion) {
+        Cache target = restaurant != null ? cache : missing;
+        target.putIfAbsent(id, restaurant != null ? restaurant : Boolean.TRUE);
+        if (version(id) != loadedVersion) {
+            target.evict(id);
+            log.debug("조회 중 변경된 맛집은 캐시에 채우지 않음 - ID: {}", id);
+        }
+    }
+
+    private long version(Long id) {
+        return versions.get(slot(id));
+    }
+
+    private int slot(Long id) {
+        return Math.floorMod(id, VERSION_SLOTS);
+    }
+}
@@ -1,22 +1,73 @@
 package com.motmap.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.motmap.cache.CacheEntryWeigher;
+import com.motmap.cache.CacheRefreshLoaders;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
+@Slf4j
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfig {
 
+    public static final List<String> CACHE_NAMES = List.of(
+        "restaurants",           // 전체 맛집 목록
+        "restaurantById",        // 맛집 상세 (ID 단위)
+        "restaurantMissing",     // 없는 맛집 ID (negative caching)
+        "categoryRestaurants",   // 카테고리별 맛집
+        "highRatedRestaurants",  // 고평점 맛집
+        "nearbyRestaurants",     // 근처 맛집 (좌표 셀 단위)
+        "restaurantTiles"        // 지도 마커 타일
+    );
+
+    /**
+     * Caffeine 캐시 (W-TinyLFU 기반 입장/축출, 추정 바이트 크기 상한, 만료, 통계 수집)
+     * refresh-after-write가 설정된 캐시는 등록된 로더로 읽는 LoadingCache로 만들어
+     * 미스 시 같은 키의 로더를 한 번만 실행하고, 갱신 주기가 지나면 기존 값을 주면서 백그라운드에서 다시 읽는다.
+     */
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-            "restaurants",           // 전체 맛집 목록
-            "restaurantStats",       // 통계 정보
-            "categoryRestaurants",   // 카테고리별 맛집
-            "highRatedRestaurants"   // 고평점 맛집
-        );
+    public CacheManager cacheManager(CacheProperties properties, CacheRefreshLoaders refreshLoaders) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        for (String name : CACHE_NAMES) {
+            CacheProperties.Spec spec = properties.specFor(name);
+            Caffeine<Object, Object> builder = buildCache(spec);
+            if (spec.getRefreshAfterWrite() != null) {
+                cacheManager.registerCustomCache(name, builder.build(refreshLoaders.loaderFor(name)));
+            } else {
+                cacheManager.registerCustomCache(name, builder.build());
+            }
+            log.debug("캐시 등록 - {}: 최대 {}, 쓰기 후 만료 {}, 조회 후 만료 {}, 갱신 주기 {}",
+                    name, spec.getMaximumWeight(), spec.getExpireAfterWrite(), spec.getExpireAfterAccess(),
+                    spec.getRefreshAfterWrite());
+        }
+        // 등록하지 않은 이름으로 캐시가 만들어지지 않도록 고정
+        cacheManager.setCacheNames(List.of());
+        return cacheManager;
+    }
+
+    private static Caffeine<Object, Object> buildCache(CacheProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight().toBytes()).weigher(new CacheEntryWeigher());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        if (spec.getRefreshAfterWrite() != null) {
+            builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+        }
+        return builder;
     }
 }
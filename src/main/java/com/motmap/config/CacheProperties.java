@@ -0,0 +1,57 @@
+package com.motmap.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 크기/만료 설정 (motmap.cache)
+ * caches에 없는 항목은 defaults 값을 사용한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "motmap.cache")
+public class CacheProperties {
+
+    private Spec defaults = new Spec();
+
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    /**
+     * 캐시 이름에 해당하는 설정 (지정하지 않은 값은 defaults에서 가져옴)
+     */
+    public Spec specFor(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        Spec merged = new Spec();
+        merged.setMaximumWeight(spec.getMaximumWeight() != null ? spec.getMaximumWeight() : defaults.getMaximumWeight());
+        merged.setExpireAfterWrite(spec.getExpireAfterWrite() != null ? spec.getExpireAfterWrite() : defaults.getExpireAfterWrite());
+        merged.setExpireAfterAccess(spec.getExpireAfterAccess() != null ? spec.getExpireAfterAccess() : defaults.getExpireAfterAccess());
+        merged.setRefreshAfterWrite(spec.getRefreshAfterWrite() != null ? spec.getRefreshAfterWrite() : defaults.getRefreshAfterWrite());
+        return merged;
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        // 캐시 항목의 추정 크기 합계 상한
+        private DataSize maximumWeight;
+
+        // 저장 후 만료 시간
+        private Duration expireAfterWrite;
+
+        // 마지막 조회 후 만료 시간
+        private Duration expireAfterAccess;
+
+        // 저장 후 이 시간이 지나면 다음 조회 때 기존 값을 돌려주고 백그라운드에서 다시 읽음 (만료 시간보다 짧게)
+        private Duration refreshAfterWrite;
+    }
+}
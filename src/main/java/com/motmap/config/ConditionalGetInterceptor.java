@@ -0,0 +1,54 @@
+package com.motmap.config;
+
+import com.motmap.cache.CatalogVersion;
+import com.motmap.cache.JsonResponseCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 맛집 조회 API의 조건부 GET 처리
+ * 모든 응답은 맛집 데이터 버전(CatalogVersion)으로 결정되므로, 컨트롤러에 가기 전에 버전 기반 ETag와
+ * 마지막 변경 시각으로 If-None-Match / If-Modified-Since를 확인하고 바뀐 것이 없으면 DB 조회나 직렬화 없이 304로 응답한다.
+ * 브라우저/서비스 워커가 응답을 저장하되 매번 재검증하도록 Cache-Control: no-cache를 붙인다.
+ * 통계 응답은 최근 30일 등록 수가 날짜에 따라 바뀌므로 ETag에 오늘 날짜를 넣고 Last-Modified도 오늘 자정 이후로 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String STATISTICS_PATH = "/api/restaurants/statistics";
+
+    private final CatalogVersion catalogVersion;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return true;
+        }
+
+        // 버전을 조회 전에 읽으므로 응답 내용은 ETag의 버전보다 같거나 새롭다
+        boolean gzip = JsonResponseCache.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = catalogVersion.etag(gzip);
+        long lastModified = catalogVersion.lastModified();
+        if (STATISTICS_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()))) {
+            LocalDate today = LocalDate.now();
+            etag = catalogVersion.etag(gzip, today);
+            lastModified = Math.max(lastModified, today.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+
+        // 일치하면 304 상태와 ETag / Last-Modified 헤더가 설정되고, 아니면 헤더만 설정된다
+        return !new ServletWebRequest(request, response).checkNotModified(etag, lastModified);
+    }
+}
@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -78,11 +80,8 @@ public class DataInitializer implements CommandLineRunner {
                 .build()
         };
 
-        // 데이터베이스에 일괄 저장
-        for (Restaurant restaurant : initialRestaurants) {
-            restaurantRepository.save(restaurant);
-            log.debug("초기 맛집 데이터 저장: {}", restaurant.getName());
-        }
+        // 데이터베이스에 일괄 저장 (한 트랜잭션, JDBC 배치 INSERT)
+        restaurantRepository.saveAll(Arrays.asList(initialRestaurants));
 
         log.info("✅ 초기 맛집 데이터 {}개가 성공적으로 생성되었습니다.", initialRestaurants.length);
     }
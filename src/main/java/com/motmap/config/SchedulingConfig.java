@@ -0,0 +1,12 @@
+package com.motmap.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 활성화 (캐시 변경 기록 폴링 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
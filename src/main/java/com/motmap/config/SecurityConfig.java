@@ -79,6 +79,7 @@ public class SecurityConfig {
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(
                                 "/api/auth/**",           // 로그인, 회원가입
+                                "/api/health/**",         // 준비 상태 확인 (로드밸런서)
                                 "/",                      // 메인 페이지
                                 "/css/**",                // 정적 리소스
                                 "/js/**",
@@ -94,6 +95,7 @@ public class SecurityConfig {
 
                         // 맛집 조회 (GET)는 비로그인 둘러보기 허용
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/restaurants/**").permitAll()
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/tiles/**").permitAll()
 
                         // 관리자만 접근 가능
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
@@ -10,6 +10,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 더미 사용자 데이터 초기화
  * 테스트용 사용자 계정 생성
@@ -32,35 +35,44 @@ public class UserDataInitializer {
             }
 
             log.info("더미 사용자 데이터 생성을 시작합니다...");
+            List<User> users = new ArrayList<>();
 
             // 관리자 계정
-            createUser("admin", "admin@motmap.com", "admin1234", "관리자", Role.ADMIN);
+            users.add(createUser("admin", "admin@motmap.com", "admin1234", "관리자", Role.ADMIN));
 
             // 일반 사용자 계정들
-            createUser("john", "john@example.com", "john1234", "존", Role.USER);
-            createUser("emily", "emily@example.com", "emily1234", "에밀리", Role.USER);
-            createUser("david", "david@example.com", "david1234", "데이비드", Role.USER);
-            createUser("sarah", "sarah@example.com", "sarah1234", "사라", Role.USER);
-            createUser("michael", "michael@example.com", "michael1234", "마이클", Role.USER);
+            users.add(createUser("john", "john@example.com", "john1234", "존", Role.USER));
+            users.add(createUser("emily", "emily@example.com", "emily1234", "에밀리", Role.USER));
+            users.add(createUser("david", "david@example.com", "david1234", "데이비드", Role.USER));
+            users.add(createUser("sarah", "sarah@example.com", "sarah1234", "사라", Role.USER));
+            users.add(createUser("michael", "michael@example.com", "michael1234", "마이클", Role.USER));
 
             // 한국 이름 사용자들
-            createUser("kim", "kim@example.com", "kim1234", "김철수", Role.USER);
-            createUser("lee", "lee@example.com", "lee1234", "이영희", Role.USER);
-            createUser("park", "park@example.com", "park1234", "박민수", Role.USER);
-            createUser("choi", "choi@example.com", "choi1234", "최지원", Role.USER);
-            createUser("jung", "jung@example.com", "jung1234", "정수민", Role.USER);
-            createUser("kang", "kang@example.com", "kang1234", "강준호", Role.USER);
-            createUser("han", "han@example.com", "han1234", "한서연", Role.USER);
-            createUser("song", "song@example.com", "song1234", "송민재", Role.USER);
-            createUser("yoon", "yoon@example.com", "yoon1234", "윤지아", Role.USER);
+            users.add(createUser("kim", "kim@example.com", "kim1234", "김철수", Role.USER));
+            users.add(createUser("lee", "lee@example.com", "lee1234", "이영희", Role.USER));
+            users.add(createUser("park", "park@example.com", "park1234", "박민수", Role.USER));
+            users.add(createUser("choi", "choi@example.com", "choi1234", "최지원", Role.USER));
+            users.add(createUser("jung", "jung@example.com", "jung1234", "정수민", Role.USER));
+            users.add(createUser("kang", "kang@example.com", "kang1234", "강준호", Role.USER));
+            users.add(createUser("han", "han@example.com", "han1234", "한서연", Role.USER));
+            users.add(createUser("song", "song@example.com", "song1234", "송민재", Role.USER));
+            users.add(createUser("yoon", "yoon@example.com", "yoon1234", "윤지아", Role.USER));
 
             // 맛집 리뷰어 계정들
-            createUser("foodlover", "foodlover@example.com", "food1234", "맛집탐험가", Role.USER);
-            createUser("gourmet", "gourmet@example.com", "gourmet1234", "미식가", Role.USER);
-            createUser("foodie", "foodie@example.com", "foodie1234", "푸디", Role.USER);
-            createUser("tastyhunter", "tasty@example.com", "tasty1234", "맛헌터", Role.USER);
-            createUser("restaurant_lover", "restaurant@example.com", "rest1234", "식당러버", Role.USER);
+            users.add(createUser("foodlover", "foodlover@example.com", "food1234", "맛집탐험가", Role.USER));
+            users.add(createUser("gourmet", "gourmet@example.com", "gourmet1234", "미식가", Role.USER));
+            users.add(createUser("foodie", "foodie@example.com", "foodie1234", "푸디", Role.USER));
+            users.add(createUser("tastyhunter", "tasty@example.com", "tasty1234", "맛헌터", Role.USER));
+            users.add(createUser("restaurant_lover", "restaurant@example.com", "rest1234", "식당러버", Role.USER));
 
+            // 한 트랜잭션에서 JDBC 배치 INSERT로 저장
+            // 한 명이라도 실패하면 배치 전체가 롤백되므로, 그때는 한 명씩 다시 저장해 나머지 사용자는 생성되게 함
+            try {
+                userRepository.saveAll(users);
+            } catch (Exception e) {
+                log.warn("사용자 일괄 생성 실패 - 한 명씩 다시 생성합니다", e);
+                users.forEach(this::saveUser);
+            }
             log.info("✅ 더미 사용자 데이터 {}명 생성 완료!", userRepository.count());
 
             // 생성된 사용자 목록 로깅
@@ -74,24 +86,31 @@ public class UserDataInitializer {
     }
 
     /**
-     * 사용자 생성 헬퍼 메서드
+     * 사용자 한 명 저장 (일괄 저장 실패 시, 실패한 사용자는 로그만 남기고 건너뜀)
      */
-    private void createUser(String username, String email, String password, String nickname, Role role) {
+    private void saveUser(User user) {
         try {
-            User user = User.builder()
-                    .username(username)
-                    .email(email)
-                    .password(passwordEncoder.encode(password))
-                    .nickname(nickname)
-                    .role(role)
-                    .enabled(true)
-                    .build();
-
+            // 롤백된 배치에서 시퀀스로 받은 ID는 버리고 새로 받음
+            user.setId(null);
             userRepository.save(user);
-            log.debug("사용자 생성: {} ({})", username, nickname);
         } catch (Exception e) {
-            log.error("사용자 생성 실패: {}", username, e);
+            log.error("사용자 생성 실패: {}", user.getUsername(), e);
         }
     }
+
+    /**
+     * 사용자 생성 헬퍼 메서드 (저장은 모아서 한 번에)
+     */
+    private User createUser(String username, String email, String password, String nickname, Role role) {
+        log.debug("사용자 생성: {} ({})", username, nickname);
+        return User.builder()
+                .username(username)
+                .email(email)
+                .password(passwordEncoder.encode(password))
+                .nickname(nickname)
+                .role(role)
+                .enabled(true)
+                .build();
+    }
 }
 
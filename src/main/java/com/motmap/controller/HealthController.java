@@ -0,0 +1,36 @@
+package com.motmap.controller;
+
+import com.motmap.dto.WarmupStatusDto;
+import com.motmap.service.WarmupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 상태 확인 컨트롤러 (로드밸런서 / 오케스트레이터용)
+ */
+@RestController
+@RequestMapping("/api/health")
+@RequiredArgsConstructor
+@Tag(name = "상태 확인", description = "서버 준비 상태 API")
+public class HealthController {
+
+    private final WarmupService warmupService;
+
+    @Operation(summary = "준비 상태 조회",
+            description = "기동 워밍업(인덱스 구성, 캐시 적재, JIT 예열)이 끝나면 200, 진행 중이면 503을 응답합니다. " +
+                    "제한 시간이 지나면 워밍업이 끝나지 않았더라도 200을 응답합니다.")
+    @ApiResponse(responseCode = "200", description = "트래픽을 받을 준비 완료")
+    @ApiResponse(responseCode = "503", description = "워밍업 진행 중")
+    @GetMapping("/readiness")
+    public ResponseEntity<WarmupStatusDto> getReadiness() {
+        WarmupStatusDto status = warmupService.getStatus();
+        return ResponseEntity.status(status.isReady() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(status);
+    }
+}
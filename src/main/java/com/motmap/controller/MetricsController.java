@@ -0,0 +1,46 @@
+package com.motmap.controller;
+
+import com.motmap.dto.CacheEventMetricsDto;
+import com.motmap.dto.CacheMetricsDto;
+import com.motmap.dto.SuggestIndexMetricsDto;
+import com.motmap.service.MetricsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 운영 지표 컨트롤러 (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+@Tag(name = "운영 지표", description = "인메모리 인덱스 등 운영 지표 API (관리자 전용)")
+public class MetricsController {
+
+    private final MetricsService metricsService;
+
+    @Operation(summary = "자동완성 트라이 지표", description = "자동완성 트라이의 노드 수와 추정 메모리 사용량을 조회합니다.")
+    @GetMapping("/suggest")
+    public ResponseEntity<SuggestIndexMetricsDto> getSuggestIndexMetrics() {
+        return ResponseEntity.ok(metricsService.getSuggestIndexMetrics());
+    }
+
+    @Operation(summary = "캐시 통계", description = "캐시별 크기, 적중률, 축출 횟수, 평균 불러오기 시간을 조회합니다.")
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheMetricsDto>> getCacheMetrics() {
+        return ResponseEntity.ok(metricsService.getCacheMetrics());
+    }
+
+    @Operation(summary = "노드 간 캐시 동기화 지표",
+            description = "변경 기록 커서, 반영/건너뛴 변경 수, 반영 지연, 초당 반영 수를 조회합니다.")
+    @GetMapping("/cache-events")
+    public ResponseEntity<CacheEventMetricsDto> getCacheEventMetrics() {
+        return ResponseEntity.ok(metricsService.getCacheEventMetrics());
+    }
+}
@@ -1,23 +1,40 @@
 package com.motmap.controller;
 
+import com.motmap.cache.JsonResponseCache;
+import com.motmap.dto.EncodedJson;
 import com.motmap.dto.RestaurantRequestDto;
 import com.motmap.dto.RestaurantResponseDto;
 import com.motmap.dto.RestaurantPageResponseDto;
+import com.motmap.dto.RestaurantCursorPageDto;
 import com.motmap.dto.RestaurantStatsDto;
+import com.motmap.dto.StatsGranularity;
+import com.motmap.dto.StatsTimeseriesDto;
+import com.motmap.dto.SuggestionDto;
+import com.motmap.dto.ViewportResponseDto;
 import com.motmap.entity.Category;
+import com.motmap.service.RestaurantExportService;
 import com.motmap.service.RestaurantService;
+import com.motmap.service.RestaurantStatsRollupService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Tag(name = "맛집 관리", description = "맛집 CRUD 및 검색 API")
@@ -26,16 +43,44 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RestaurantController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final RestaurantService restaurantService;
+    private final RestaurantExportService restaurantExportService;
+    private final RestaurantStatsRollupService statsRollupService;
+    private final JsonResponseCache jsonResponseCache;
 
     @Operation(summary = "전체 맛집 조회", description = "등록된 모든 맛집 목록을 조회합니다.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = RestaurantResponseDto.class)))),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping
-    public ResponseEntity<List<RestaurantResponseDto>> getAllRestaurants() {
-        List<RestaurantResponseDto> restaurants = restaurantService.getAllRestaurants();
+    public ResponseEntity<byte[]> getAllRestaurants(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return jsonResponse(jsonResponseCache.get(JsonResponseCache.ALL_KEY, restaurantService::getAllRestaurants),
+                acceptEncoding);
+    }
+
+    @Operation(summary = "전체 맛집 스트리밍 조회",
+            description = "전체 맛집을 ID 순으로 한 줄에 하나씩 JSON(NDJSON)으로 내려받습니다. " +
+                    "DB에서 읽는 즉시 응답하므로 맛집 수와 관계없이 서버 메모리 사용량이 일정합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공 (application/x-ndjson)")
+    @GetMapping(value = "/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRestaurants() {
+        StreamingResponseBody body = restaurantExportService::exportAll;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    @Operation(summary = "맛집 일괄 조회",
+            description = "여러 맛집을 ID로 한 번에 조회합니다. 요청한 순서로 반환하며 없는 ID는 제외합니다. (최대 100개)")
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<RestaurantResponseDto>> getRestaurantsByIds(
+            @Parameter(description = "맛집 ID 목록 (쉼표로 구분)", example = "1,2,3") @RequestParam List<Long> ids) {
+        List<RestaurantResponseDto> restaurants = restaurantService.getRestaurantsByIds(ids);
         return ResponseEntity.ok(restaurants);
     }
 
@@ -71,10 +116,14 @@ public class RestaurantController {
     }
 
     @Operation(summary = "카테고리별 맛집 조회", description = "특정 카테고리에 속한 맛집 목록을 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = RestaurantResponseDto.class))))
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<RestaurantResponseDto>> getRestaurantsByCategory(@PathVariable Category category) {
-        List<RestaurantResponseDto> restaurants = restaurantService.getRestaurantsByCategory(category);
-        return ResponseEntity.ok(restaurants);
+    public ResponseEntity<byte[]> getRestaurantsByCategory(
+            @PathVariable Category category,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return jsonResponse(jsonResponseCache.get(JsonResponseCache.categoryKey(category),
+                () -> restaurantService.getRestaurantsByCategory(category)), acceptEncoding);
     }
 
     @Operation(summary = "평점별 맛집 조회", description = "특정 평점 이상의 맛집 목록을 조회합니다.")
@@ -84,13 +133,41 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurants);
     }
 
-    @Operation(summary = "키워드로 맛집 검색", description = "이름이나 설명에 키워드가 포함된 맛집을 검색합니다.")
+    @Operation(summary = "키워드로 맛집 검색",
+            description = "이름이나 설명에 키워드가 포함된 맛집을 검색합니다. " +
+                    "mode=hangul이면 맛집 이름을 초성(ㅁㄷㄱㅈ)이나 입력 중인 음절(명ㄷ)로 검색합니다.")
     @GetMapping("/search")
-    public ResponseEntity<List<RestaurantResponseDto>> searchRestaurants(@RequestParam String keyword) {
-        List<RestaurantResponseDto> restaurants = restaurantService.searchRestaurants(keyword);
+    public ResponseEntity<List<RestaurantResponseDto>> searchRestaurants(
+            @RequestParam String keyword,
+            @Parameter(description = "검색 방식 (keyword: 포함 검색, hangul: 초성/자모 검색)", example = "keyword")
+            @RequestParam(defaultValue = "keyword") String mode) {
+        List<RestaurantResponseDto> restaurants = restaurantService.searchRestaurants(keyword, mode);
         return ResponseEntity.ok(restaurants);
     }
 
+    @Operation(summary = "관련도 순위 검색",
+            description = "이름, 주소, 리뷰를 BM25F로 채점해 관련도가 높은 순서로 페이징 조회합니다. " +
+                    "이름 > 주소 > 리뷰 순으로 가중치가 적용됩니다.")
+    @GetMapping("/search/ranked")
+    public ResponseEntity<RestaurantPageResponseDto> searchRestaurantsRanked(
+            @Parameter(description = "검색어", example = "명동 만두") @RequestParam String keyword,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (1~100)", example = "10") @RequestParam(defaultValue = "10") int size) {
+        RestaurantPageResponseDto result = restaurantService.searchRestaurantsRanked(keyword, page, size);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "검색어 자동완성",
+            description = "맛집 이름이나 주소의 단어가 접두어로 시작하는 맛집을 평점 높은 순으로 조회합니다.")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> getSuggestions(
+            @Parameter(description = "입력 중인 검색어", example = "명동") @RequestParam String prefix,
+            @Parameter(description = "최대 개수 (기본값이자 최댓값은 motmap.index.suggest.top-k)", example = "10")
+            @RequestParam(required = false) Integer limit) {
+        List<SuggestionDto> suggestions = restaurantService.getSuggestions(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
     @Operation(summary = "평점순 맛집 정렬", description = "평점이 높은 순서대로 맛집 목록을 정렬합니다.")
     @GetMapping("/sorted/rating")
     public ResponseEntity<List<RestaurantResponseDto>> getRestaurantsByRatingOrder() {
@@ -105,7 +182,7 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurants);
     }
 
-    @Operation(summary = "근처 맛집 검색", description = "현재 위치를 기준으로 근처의 맛집 목록을 검색합니다.")
+    @Operation(summary = "근처 맛집 검색", description = "현재 위치를 기준으로 반경 내 맛집 목록을 가까운 순으로 검색합니다.")
     @GetMapping("/nearby")
     public ResponseEntity<List<RestaurantResponseDto>> getNearbyRestaurants(
             @RequestParam Double latitude,
@@ -115,15 +192,40 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurants);
     }
 
+    @Operation(summary = "가까운 맛집 검색", description = "기준 위치에서 가장 가까운 맛집 k개를 거리순으로 조회합니다.")
+    @GetMapping("/nearest")
+    public ResponseEntity<List<RestaurantResponseDto>> getNearestRestaurants(
+            @Parameter(description = "위도", example = "37.563692") @RequestParam Double lat,
+            @Parameter(description = "경도", example = "126.982814") @RequestParam Double lng,
+            @Parameter(description = "조회 개수 (1~100)", example = "10") @RequestParam(required = false) Integer k) {
+        List<RestaurantResponseDto> restaurants = restaurantService.getNearestRestaurants(lat, lng, k);
+        return ResponseEntity.ok(restaurants);
+    }
+
+    @Operation(summary = "지도 화면 영역 맛집 조회",
+            description = "지도 화면 영역(남서/북동 좌표) 안의 맛집을 조회합니다. 맛집이 많으면 줌 레벨별 클러스터로 응답합니다.")
+    @GetMapping("/viewport")
+    public ResponseEntity<ViewportResponseDto> getRestaurantsInViewport(
+            @Parameter(description = "남서쪽 위도", example = "37.55") @RequestParam Double swLat,
+            @Parameter(description = "남서쪽 경도", example = "126.96") @RequestParam Double swLng,
+            @Parameter(description = "북동쪽 위도", example = "37.58") @RequestParam Double neLat,
+            @Parameter(description = "북동쪽 경도", example = "127.00") @RequestParam Double neLng,
+            @Parameter(description = "줌 레벨 (0~18, 클수록 확대)", example = "15") @RequestParam int zoom) {
+        ViewportResponseDto viewport = restaurantService.getRestaurantsInViewport(swLat, swLng, neLat, neLng, zoom);
+        return ResponseEntity.ok(viewport);
+    }
+
     @Operation(summary = "고평점 맛집 조회", description = "평점 4점 이상의 고평점 맛집 목록을 조회합니다.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = RestaurantResponseDto.class)))),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/high-rated")
-    public ResponseEntity<List<RestaurantResponseDto>> getHighRatedRestaurants() {
-        List<RestaurantResponseDto> restaurants = restaurantService.getHighRatedRestaurants();
-        return ResponseEntity.ok(restaurants);
+    public ResponseEntity<byte[]> getHighRatedRestaurants(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return jsonResponse(jsonResponseCache.get(JsonResponseCache.HIGH_RATED_KEY,
+                restaurantService::getHighRatedRestaurants), acceptEncoding);
     }
 
     @Operation(summary = "페이징된 맛집 조회", description = "맛집 목록을 페이징하여 조회합니다.")
@@ -145,14 +247,67 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurants);
     }
 
-    @Operation(summary = "맛집 통계 조회", description = "전체 맛집 현황 및 통계 정보를 조회합니다.")
+    @Operation(summary = "커서 페이징된 맛집 조회",
+            description = "mode=cursor이면 이전 응답의 nextCursor 다음부터 조회합니다. 전체 개수를 세지 않으며 " +
+                    "페이지 깊이와 무관하게 일정한 비용으로 조회합니다. 정렬 기준은 createdAt, rating만 지원합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "지원하지 않는 정렬 기준이거나 잘못된 커서")
+    })
+    @GetMapping(value = "/paged", params = "mode=cursor")
+    public ResponseEntity<RestaurantCursorPageDto> getRestaurantsWithCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "정렬 기준 (createdAt, rating)", example = "createdAt")
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "정렬 방향", example = "desc")
+            @RequestParam(defaultValue = "desc") String sortDir) {
+        RestaurantCursorPageDto restaurants = restaurantService.getRestaurantsWithCursor(cursor, size, sortBy, sortDir);
+        return ResponseEntity.ok(restaurants);
+    }
+
+    @Operation(summary = "맛집 통계 조회", description = "전체 맛집 현황 및 통계 정보를 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = RestaurantStatsDto.class))),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping("/statistics")
-    public ResponseEntity<RestaurantStatsDto> getRestaurantStatistics() {
-        RestaurantStatsDto stats = restaurantService.getRestaurantStatistics();
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<byte[]> getRestaurantStatistics(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return jsonResponse(jsonResponseCache.get(JsonResponseCache.STATS_KEY,
+                restaurantService::getRestaurantStatistics), acceptEncoding);
+    }
+
+    @Operation(summary = "맛집 통계 추이 조회",
+            description = "기간 안의 일/주/월 단위 맛집 등록 수와 평균 평점을 카테고리별로 조회합니다. " +
+                    "일별 집계 테이블을 읽으므로 최근 등록분은 다음 집계 때 반영됩니다. (최대 약 3년)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 기간")
+    })
+    @GetMapping("/statistics/timeseries")
+    public ResponseEntity<StatsTimeseriesDto> getStatisticsTimeseries(
+            @Parameter(description = "시작일 (기본: 단위별 최근 30일 / 12주 / 12개월)", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (포함, 기본: 오늘)", example = "2024-03-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "집계 단위", example = "WEEK")
+            @RequestParam(defaultValue = "DAY") StatsGranularity granularity) {
+        StatsTimeseriesDto timeseries = statsRollupService.getTimeseries(from, to, granularity);
+        return ResponseEntity.ok(timeseries);
+    }
+
+    // 미리 직렬화한 JSON을 그대로 응답 (gzip을 받는 클라이언트에는 압축본)
+    private static ResponseEntity<byte[]> jsonResponse(EncodedJson json, String acceptEncoding) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (json.getGzipData() != null && JsonResponseCache.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(json.getGzipData());
+        }
+        return response.body(json.getData());
     }
 }
@@ -0,0 +1,43 @@
+package com.motmap.controller;
+
+import com.motmap.dto.ImportFormat;
+import com.motmap.dto.ImportReportDto;
+import com.motmap.service.RestaurantImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 맛집 대량 가져오기 컨트롤러 (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/admin/restaurants")
+@RequiredArgsConstructor
+@Tag(name = "맛집 대량 가져오기", description = "CSV / NDJSON 파일로 맛집을 한꺼번에 등록하는 API (관리자 전용)")
+public class RestaurantImportController {
+
+    private final RestaurantImportService restaurantImportService;
+
+    @Operation(summary = "맛집 대량 가져오기",
+            description = "요청 본문의 CSV(text/csv) 또는 NDJSON(application/x-ndjson)을 읽어 맛집을 등록합니다. " +
+                    "올바르지 않은 행과 이미 등록된 맛집(이름+주소)은 건너뛰고, 처리 결과와 처리 속도를 응답합니다.")
+    @PostMapping("/import")
+    public ResponseEntity<ImportReportDto> importRestaurants(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @Parameter(description = "파일 형식 (없으면 Content-Type으로 판별)")
+            @RequestParam(required = false) ImportFormat format,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(restaurantImportService.importRestaurants(body, contentType, format));
+    }
+}
@@ -0,0 +1,43 @@
+package com.motmap.controller;
+
+import com.motmap.dto.EncodedTile;
+import com.motmap.service.TileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "지도 타일", description = "지도 마커용 바이너리 타일 API")
+@RestController
+@RequestMapping("/api/tiles")
+@RequiredArgsConstructor
+public class TileController {
+
+    private static final MediaType TILE_MEDIA_TYPE = MediaType.parseMediaType("application/vnd.motmap.tile");
+
+    private final TileService tileService;
+
+    @Operation(summary = "마커 타일 조회",
+            description = "XYZ 타일 영역 안 맛집의 ID, 양자화된 좌표, 카테고리, 평점을 바이너리로 조회합니다. " +
+                    "ETag가 같으면 304를 응답합니다.")
+    @GetMapping("/{z}/{x}/{y}")
+    public ResponseEntity<byte[]> getTile(
+            @Parameter(description = "줌 레벨", example = "15") @PathVariable int z,
+            @Parameter(description = "타일 X", example = "27941") @PathVariable int x,
+            @Parameter(description = "타일 Y", example = "12698") @PathVariable int y) {
+        EncodedTile tile = tileService.getTile(z, x, y);
+        // ETag가 일치하면 본문 없이 304로 응답된다
+        return ResponseEntity.ok()
+                .contentType(TILE_MEDIA_TYPE)
+                .cacheControl(CacheControl.noCache())
+                .eTag(tile.getEtag())
+                .body(tile.getData());
+    }
+}
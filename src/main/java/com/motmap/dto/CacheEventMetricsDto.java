@@ -0,0 +1,48 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "노드 간 캐시 동기화 지표 DTO")
+public class CacheEventMetricsDto {
+
+    @Schema(description = "이 노드의 ID (motmap.cache-events.node-id, 미지정 시 기동마다 임의 생성)",
+            example = "3f2b8c1e-7d4a-4e2b-9a51-0c6d2f8e1a77")
+    private String nodeId;
+
+    @Schema(description = "이 ID까지의 변경 기록은 모두 확인함", example = "1024")
+    private long cursor;
+
+    @Schema(description = "반영한 다른 노드의 변경 수", example = "311")
+    private long appliedEvents;
+
+    @Schema(description = "건너뛴 이 노드의 변경 수", example = "298")
+    private long skippedOwnEvents;
+
+    @Schema(description = "커밋되지 않아 건너뛴 빈 ID 수", example = "2")
+    private long skippedGaps;
+
+    @Schema(description = "커서 뒤에서 아직 기다리는 빈 ID 수", example = "0")
+    private long pendingGaps;
+
+    @Schema(description = "마지막으로 반영한 변경의 기록 후 반영까지 걸린 시간 (밀리초)", example = "420")
+    private long lastLagMillis;
+
+    @Schema(description = "기동 후 최대 반영 지연 (밀리초)", example = "1350")
+    private long maxLagMillis;
+
+    @Schema(description = "최근 1분 동안의 초당 반영 수", example = "0.8")
+    private double applyRatePerSecond;
+
+    @Schema(description = "마지막 폴링 시각")
+    private LocalDateTime lastPolledAt;
+}
@@ -0,0 +1,51 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "캐시 통계 DTO")
+public class CacheMetricsDto {
+
+    @Schema(description = "캐시 이름", example = "restaurants")
+    private String name;
+
+    @Schema(description = "저장된 항목 수 (근사치)", example = "1")
+    private long size;
+
+    @Schema(description = "저장된 항목의 추정 크기 합계 (바이트)", example = "48213")
+    private Long weightedSize;
+
+    @Schema(description = "추정 크기 상한 (바이트)", example = "33554432")
+    private Long maximumWeight;
+
+    @Schema(description = "적중 횟수", example = "120")
+    private long hitCount;
+
+    @Schema(description = "미적중 횟수", example = "8")
+    private long missCount;
+
+    @Schema(description = "적중률 (0~1)", example = "0.9375")
+    private double hitRate;
+
+    @Schema(description = "축출된 항목 수 (크기 초과, 만료)", example = "2")
+    private long evictionCount;
+
+    @Schema(description = "축출된 항목의 추정 크기 합계 (바이트)", example = "9120")
+    private long evictionWeight;
+
+    @Schema(description = "캐시가 직접 값을 불러온 횟수", example = "8")
+    private long loadCount;
+
+    @Schema(description = "값 불러오기 실패 횟수", example = "0")
+    private long loadFailureCount;
+
+    @Schema(description = "평균 불러오기 시간 (ms)", example = "3.2")
+    private double averageLoadMillis;
+}
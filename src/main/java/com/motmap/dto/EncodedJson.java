@@ -0,0 +1,18 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미리 직렬화한 JSON 응답 본문
+ */
+@Getter
+@AllArgsConstructor
+public class EncodedJson {
+
+    // UTF-8 JSON
+    private final byte[] data;
+
+    // gzip으로 압축한 JSON (압축하지 않는 크기면 null)
+    private final byte[] gzipData;
+}
@@ -0,0 +1,17 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인코딩된 지도 타일과 그 ETag
+ */
+@Getter
+@AllArgsConstructor
+public class EncodedTile {
+
+    private final byte[] data;
+
+    // 내용 해시 기반 강한 ETag (따옴표 포함)
+    private final String etag;
+}
@@ -0,0 +1,46 @@
+package com.motmap.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.MediaType;
+
+import java.util.Optional;
+
+@Schema(description = "맛집 대량 가져오기 파일 형식")
+public enum ImportFormat {
+    @Schema(description = "CSV (첫 줄은 헤더: name,address,category,rating,review,imageUrl,latitude,longitude)")
+    CSV("text/csv"),
+
+    @Schema(description = "NDJSON (한 줄에 맛집 등록 요청 하나)")
+    NDJSON("application/x-ndjson");
+
+    private final MediaType mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Content-Type으로 형식 판별 (charset 등 파라미터는 무시)
+     */
+    public static Optional<ImportFormat> fromContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return Optional.empty();
+        }
+        MediaType requested;
+        try {
+            requested = MediaType.parseMediaType(contentType);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        for (ImportFormat format : values()) {
+            if (format.mediaType.equalsTypeAndSubtype(requested)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
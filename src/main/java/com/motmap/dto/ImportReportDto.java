@@ -0,0 +1,54 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "맛집 대량 가져오기 결과")
+public class ImportReportDto {
+
+    @Schema(description = "파일 형식", example = "CSV")
+    private ImportFormat format;
+
+    @Schema(description = "읽은 행 수 (CSV 헤더와 빈 줄 제외)", example = "50000")
+    private long totalRows;
+
+    @Schema(description = "등록한 맛집 수", example = "49210")
+    private long imported;
+
+    @Schema(description = "이미 등록되어 있거나 파일 안에서 반복되어 건너뛴 행 수 (이름+주소 기준)", example = "640")
+    private long duplicates;
+
+    @Schema(description = "형식이나 값이 올바르지 않아 건너뛴 행 수", example = "150")
+    private long invalid;
+
+    @Schema(description = "건너뛴 행의 오류 (앞쪽 일부만)")
+    private List<RowError> errors;
+
+    @Schema(description = "소요 시간 (밀리초)", example = "4210")
+    private long durationMillis;
+
+    @Schema(description = "초당 처리한 행 수", example = "11876.5")
+    private double rowsPerSecond;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "가져오지 못한 행")
+    public static class RowError {
+
+        @Schema(description = "파일의 줄 번호 (1부터)", example = "42")
+        private long line;
+
+        @Schema(description = "오류 내용", example = "평점은 1-5점 사이여야 합니다")
+        private String message;
+    }
+}
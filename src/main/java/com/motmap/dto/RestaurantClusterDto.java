@@ -0,0 +1,30 @@
+package com.motmap.dto;
+
+import com.motmap.entity.Category;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "지도 맛집 클러스터 DTO")
+public class RestaurantClusterDto {
+
+    @Schema(description = "클러스터 중심 위도", example = "37.5641")
+    private double latitude;
+
+    @Schema(description = "클러스터 중심 경도", example = "126.9827")
+    private double longitude;
+
+    @Schema(description = "클러스터에 포함된 맛집 수", example = "42")
+    private long count;
+
+    @Schema(description = "카테고리별 맛집 수")
+    private Map<Category, Long> categoryCounts;
+}
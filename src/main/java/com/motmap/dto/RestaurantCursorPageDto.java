@@ -0,0 +1,35 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "커서 페이징된 맛집 목록 응답 DTO (전체 개수 없음)")
+public class RestaurantCursorPageDto {
+
+    @Schema(description = "맛집 목록")
+    private List<RestaurantResponseDto> restaurants;
+
+    @Schema(description = "페이지 크기", example = "10")
+    private int pageSize;
+
+    @Schema(description = "정렬 기준", example = "createdAt")
+    private String sortBy;
+
+    @Schema(description = "정렬 방향", example = "desc")
+    private String sortDir;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "Y3JlYXRlZEF0fGRlc2N8MjAyNS0wOS0yOVQwMDo0NTowMHw0Mg")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지가 있는지", example = "true")
+    private boolean hasNext;
+}
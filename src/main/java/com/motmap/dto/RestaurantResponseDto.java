@@ -1,5 +1,6 @@
 package com.motmap.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.motmap.entity.Category;
 import com.motmap.entity.Restaurant;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,7 +13,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Schema(description = "맛집 조회 응답 DTO")
 public class RestaurantResponseDto {
 
@@ -61,6 +62,14 @@ public class RestaurantResponseDto {
     @Schema(description = "현재 사용자가 수정/삭제 가능 여부", example = "true")
     private Boolean canEdit;
 
+    @Schema(description = "기준 위치로부터의 거리 (km, 위치 기반 조회에서만 포함)", example = "0.42")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distance;
+
+    @Schema(description = "검색 관련도 점수 (순위 검색에서만 포함)", example = "7.31")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double score;
+
     // Entity에서 DTO로 변환하는 생성자
     public RestaurantResponseDto(Restaurant restaurant) {
         this.id = restaurant.getId();
@@ -83,8 +92,43 @@ public class RestaurantResponseDto {
         }
     }
 
+    // 조회 쿼리의 생성자 프로젝션용 (RestaurantRepository.DTO_SELECT, 작성자가 없으면 null)
+    public RestaurantResponseDto(Long id, String name, String address, Category category, Integer rating,
+                                 String review, String imageUrl, Double latitude, Double longitude,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt,
+                                 String createdBy, String createdByNickname) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+        this.category = category;
+        this.categoryDisplayName = category.getDisplayName();
+        this.rating = rating;
+        this.review = review;
+        this.imageUrl = imageUrl;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.createdBy = createdBy;
+        this.createdByNickname = createdByNickname;
+    }
+
     // 정적 팩토리 메소드 추가
     public static RestaurantResponseDto from(Restaurant restaurant) {
         return new RestaurantResponseDto(restaurant);
     }
+
+    // 거리 정보를 붙인 사본 반환 (소수점 셋째 자리, 약 1m 단위)
+    public RestaurantResponseDto withDistance(double distanceKm) {
+        return toBuilder()
+                .distance(Math.round(distanceKm * 1000.0) / 1000.0)
+                .build();
+    }
+
+    // 검색 점수를 포함한 복사본 (소수점 셋째 자리까지)
+    public RestaurantResponseDto withScore(double score) {
+        return toBuilder()
+                .score(Math.round(score * 1000.0) / 1000.0)
+                .build();
+    }
 }
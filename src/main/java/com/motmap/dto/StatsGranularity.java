@@ -0,0 +1,41 @@
+package com.motmap.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+@Schema(description = "통계 추이 집계 단위")
+public enum StatsGranularity {
+    @Schema(description = "일")
+    DAY,
+
+    @Schema(description = "주 (월요일 시작)")
+    WEEK,
+
+    @Schema(description = "월")
+    MONTH;
+
+    /**
+     * 날짜가 속한 구간의 시작일
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * 다음 구간의 시작일
+     */
+    public LocalDate next(LocalDate periodStart) {
+        return switch (this) {
+            case DAY -> periodStart.plusDays(1);
+            case WEEK -> periodStart.plusWeeks(1);
+            case MONTH -> periodStart.plusMonths(1);
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "맛집 통계 추이 DTO")
+public class StatsTimeseriesDto {
+
+    @Schema(description = "집계 단위", example = "WEEK")
+    private StatsGranularity granularity;
+
+    @Schema(description = "조회 시작일 (구간 시작일로 맞춤)", example = "2024-01-01")
+    private LocalDate from;
+
+    @Schema(description = "조회 종료일 (포함)", example = "2024-03-31")
+    private LocalDate to;
+
+    @Schema(description = "집계가 반영된 마지막 날짜 (이후 등록분은 다음 집계 때 반영)", example = "2024-03-31")
+    private LocalDate rolledUpTo;
+
+    @Schema(description = "구간별 통계 (빈 구간 포함, 시작일 순)")
+    private List<StatsTimeseriesPointDto> points;
+}
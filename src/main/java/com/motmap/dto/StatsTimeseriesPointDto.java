@@ -0,0 +1,43 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "맛집 통계 추이의 한 구간")
+public class StatsTimeseriesPointDto {
+
+    @Schema(description = "구간 시작일", example = "2024-01-01")
+    private LocalDate periodStart;
+
+    @Schema(description = "구간에 등록된 맛집 수", example = "12")
+    private long restaurantsAdded;
+
+    @Schema(description = "구간에 등록된 맛집의 평균 평점 (등록이 없으면 0)", example = "4.25")
+    private double averageRating;
+
+    @Schema(description = "카테고리별 등록 수와 평균 평점 (등록이 있는 카테고리만)")
+    private Map<String, CategoryTrend> categories;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "카테고리별 구간 통계")
+    public static class CategoryTrend {
+
+        @Schema(description = "등록된 맛집 수", example = "3")
+        private long restaurantsAdded;
+
+        @Schema(description = "평균 평점", example = "4.33")
+        private double averageRating;
+    }
+}
@@ -0,0 +1,33 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "자동완성 트라이 메모리 사용량 DTO")
+public class SuggestIndexMetricsDto {
+
+    @Schema(description = "색인된 맛집 수", example = "100")
+    private long restaurants;
+
+    @Schema(description = "색인된 단어 수 (이름, 이름의 단어, 주소 단어)", example = "620")
+    private long terms;
+
+    @Schema(description = "트라이 노드 수", example = "2400")
+    private long nodes;
+
+    @Schema(description = "노드별 상위 k개 목록에 저장된 항목 수", example = "9800")
+    private long topEntries;
+
+    @Schema(description = "노드당 상위 항목 수 (k)", example = "10")
+    private int topK;
+
+    @Schema(description = "추정 메모리 사용량 (바이트, 압축 OOP 기준)", example = "412000")
+    private long estimatedBytes;
+}
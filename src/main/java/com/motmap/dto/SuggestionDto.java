@@ -0,0 +1,34 @@
+package com.motmap.dto;
+
+import com.motmap.entity.Category;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "검색어 자동완성 DTO")
+public class SuggestionDto {
+
+    @Schema(description = "맛집 ID", example = "1")
+    private Long restaurantId;
+
+    @Schema(description = "맛집 이름", example = "명동교자")
+    private String name;
+
+    @Schema(description = "입력한 접두어와 일치한 단어 (이름 또는 주소의 한 단어)", example = "명동2가")
+    private String matched;
+
+    @Schema(description = "일치한 항목", example = "NAME", allowableValues = {"NAME", "ADDRESS"})
+    private String field;
+
+    @Schema(description = "카테고리", example = "KOREAN")
+    private Category category;
+
+    @Schema(description = "평점", example = "5")
+    private Integer rating;
+}
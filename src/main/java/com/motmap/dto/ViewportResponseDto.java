@@ -0,0 +1,32 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "지도 화면 영역 조회 응답 DTO")
+public class ViewportResponseDto {
+
+    @Schema(description = "조회한 줌 레벨", example = "14")
+    private int zoom;
+
+    @Schema(description = "영역 안의 전체 맛집 수", example = "350")
+    private long totalCount;
+
+    @Schema(description = "클러스터로 응답했는지 여부", example = "true")
+    private boolean clustered;
+
+    @Schema(description = "개별 맛집 목록 (clustered = false 일 때)")
+    private List<RestaurantResponseDto> restaurants;
+
+    @Schema(description = "클러스터 목록 (clustered = true 일 때)")
+    private List<RestaurantClusterDto> clusters;
+}
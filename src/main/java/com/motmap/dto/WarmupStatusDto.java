@@ -0,0 +1,36 @@
+package com.motmap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "기동 워밍업 / 준비 상태 DTO")
+public class WarmupStatusDto {
+
+    @Schema(description = "상태 (WARMING_UP: 워밍업 중, READY: 완료, TIMED_OUT: 제한 시간 초과로 먼저 준비 완료 처리)",
+            example = "READY")
+    private String status;
+
+    @Schema(description = "트래픽을 받을 준비가 되었는지", example = "true")
+    private boolean ready;
+
+    @Schema(description = "워밍업 소요 시간 (진행 중이면 지금까지, 밀리초)", example = "1840")
+    private long durationMillis;
+
+    @Schema(description = "워밍업으로 채운 캐시 항목 수 합계", example = "112")
+    private long entriesLoaded;
+
+    @Schema(description = "캐시별 항목 수")
+    private Map<String, Long> cacheEntries;
+
+    @Schema(description = "JIT 예열을 위해 실행한 조회 수", example = "600")
+    private long exercisedCalls;
+}
@@ -0,0 +1,54 @@
+package com.motmap.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 맛집 변경 기록 (노드 간 캐시 동기화용)
+ * 맛집을 바꾼 트랜잭션 안에서 함께 저장되고, 다른 노드가 ID 순으로 읽어 자기 캐시와 인덱스에 반영한다.
+ */
+@Entity
+@Table(name = "cache_events", indexes = {
+    @Index(name = "idx_cache_event_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CacheEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 대량 변경(RELOADED)은 0
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    // 변경 유형 (CREATED, UPDATED, DELETED, RELOADED)
+    @Column(nullable = false, length = 20)
+    private String type;
+
+    // 기록한 노드 ID (자기 변경은 이미 반영했으므로 건너뜀)
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    // 변경 전/후 맛집 스냅샷 (JSON, 등록 시 before / 삭제 시 after는 null)
+    @Lob
+    @Column(name = "before_json")
+    private String beforeJson;
+
+    @Lob
+    @Column(name = "after_json")
+    private String afterJson;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
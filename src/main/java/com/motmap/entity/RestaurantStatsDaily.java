@@ -0,0 +1,41 @@
+package com.motmap.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 맛집 통계 집계 (등록일, 카테고리 단위)
+ * 그날 등록된 맛집 수와 평점 합계를 담으며, 주기 작업이 새로 등록된 맛집만 읽어 채운다.
+ * 주/월 단위 추이는 이 행들을 메모리에서 다시 합산해 만든다.
+ */
+@Entity
+@Table(name = "restaurant_stats_daily", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_stats_daily_date_category", columnNames = {"stat_date", "category"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RestaurantStatsDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Category category;
+
+    // 그날 등록된 맛집 수
+    @Column(name = "restaurants_added", nullable = false)
+    private long restaurantsAdded;
+
+    // 그날 등록된 맛집의 평점 합계 (평균 = 합계 / 수)
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+}
@@ -26,8 +26,10 @@ import java.util.List;
 @Builder
 public class User implements UserDetails {
 
+    // 맛집과 같은 풀링 시퀀스 방식 (Restaurant 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_id")
+    @SequenceGenerator(name = "user_id", sequenceName = "user_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -0,0 +1,199 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.util.BoundingBox;
+import com.motmap.util.LocationUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 균일 격자 기반 위치 인덱스
+ * 위도/경도를 고정 크기 셀로 나누어 반경 검색 시 후보 셀만 확인한 뒤 정확한 거리로 걸러낸다.
+ */
+@Component
+@Slf4j
+public class GridSpatialIndex implements RestaurantIndex {
+
+    private final double cellSize;
+    private final long columns;
+
+    // 셀 키 -> 셀에 속한 맛집 ID
+    private final Map<Long, Set<Long>> cells = new HashMap<>();
+
+    // 맛집 ID -> {위도, 경도}
+    private final Map<Long, double[]> points = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public GridSpatialIndex(@Value("${motmap.index.grid.cell-size-degrees:0.01}") double cellSize) {
+        this.cellSize = cellSize;
+        this.columns = (long) Math.ceil(360.0 / cellSize) + 1;
+    }
+
+    @Override
+    public void rebuild(List<RestaurantResponseDto> restaurants) {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            points.clear();
+            for (RestaurantResponseDto restaurant : restaurants) {
+                put(restaurant.getId(), restaurant.getLatitude(), restaurant.getLongitude());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("격자 위치 인덱스 구성 완료 - 맛집 {}개, 셀 {}개", restaurants.size(), cells.size());
+    }
+
+    @Override
+    public void add(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+            put(restaurant.getId(), restaurant.getLatitude(), restaurant.getLongitude());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 내 맛집 조회
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @return 반경 안에 있는 맛집 (가까운 순)
+     * @throws IllegalArgumentException 반경이 음수이거나 NaN/무한대일 때
+     */
+    public List<Neighbor> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        if (!Double.isFinite(radiusKm) || radiusKm < 0) {
+            throw new IllegalArgumentException("반경은 0 이상의 유한한 값이어야 합니다: " + radiusKm);
+        }
+        BoundingBox box = LocationUtils.boundingBox(latitude, longitude, radiusKm);
+        List<Neighbor> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(box)) {
+                double[] point = points.get(id);
+                double distance = LocationUtils.calculateDistance(latitude, longitude, point[0], point[1]);
+                if (distance < radiusKm) {
+                    result.add(new Neighbor(id, distance));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(Comparator.comparingDouble(Neighbor::getDistance));
+        return result;
+    }
+
+    /**
+     * 사각 영역 안의 맛집 ID 조회
+     */
+    public List<Long> findWithinBounds(BoundingBox box) {
+        lock.readLock().lock();
+        try {
+            return candidates(box);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 사각 영역과 겹치는 셀의 맛집 중 영역 안에 있는 것만 반환 (읽기 잠금 필요)
+    private List<Long> candidates(BoundingBox box) {
+        long minRow = row(box.getMinLatitude());
+        long maxRow = row(box.getMaxLatitude());
+        long minCol = column(box.getMinLongitude());
+        long maxCol = column(box.getMaxLongitude());
+
+        List<Long> result = new ArrayList<>();
+
+        // 확인할 셀 수가 전체 맛집 수보다 많으면 전체를 훑는 편이 빠르다
+        if ((maxRow - minRow + 1) * (maxCol - minCol + 1) > points.size()) {
+            points.forEach((id, point) -> {
+                if (box.contains(point[0], point[1])) {
+                    result.add(id);
+                }
+            });
+            return result;
+        }
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Set<Long> ids = cells.get(row * columns + col);
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    double[] point = points.get(id);
+                    if (box.contains(point[0], point[1])) {
+                        result.add(id);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void put(Long id, double latitude, double longitude) {
+        points.put(id, new double[]{latitude, longitude});
+        cells.computeIfAbsent(cellKey(latitude, longitude), key -> new HashSet<>()).add(id);
+    }
+
+    private void delete(Long id) {
+        double[] point = points.remove(id);
+        if (point == null) {
+            return;
+        }
+        long key = cellKey(point[0], point[1]);
+        Set<Long> ids = cells.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return row(latitude) * columns + column(longitude);
+    }
+
+    private long row(double latitude) {
+        return (long) Math.floor((latitude + 90.0) / cellSize);
+    }
+
+    private long column(double longitude) {
+        return (long) Math.floor((longitude + 180.0) / cellSize);
+    }
+}
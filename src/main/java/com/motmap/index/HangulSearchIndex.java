@@ -0,0 +1,168 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.util.HangulUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 맛집 이름의 초성/자모 검색 인덱스
+ * 이름(공백 제거)의 각 글자 위치에서 시작하는 초성 문자열과 자모 분해 문자열을 정렬 맵의 키로 저장하고,
+ * 검색어로 시작하는 키 범위만 읽는다.
+ * "ㅁㄷㄱㅈ"처럼 자음만 입력하면 초성으로, "명ㄷ"/"명도"처럼 입력 중인 음절은 자모 접두어로 찾는다.
+ */
+@Component
+@Slf4j
+public class HangulSearchIndex implements RestaurantIndex {
+
+    // 초성 문자열 접미사 -> 맛집 ID
+    private final NavigableMap<String, Set<Long>> chosungKeys = new TreeMap<>();
+
+    // 자모 분해 문자열 접미사 -> 맛집 ID
+    private final NavigableMap<String, Set<Long>> jamoKeys = new TreeMap<>();
+
+    // 맛집 ID -> 정규화된 이름
+    private final Map<Long, String> names = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void rebuild(List<RestaurantResponseDto> restaurants) {
+        lock.writeLock().lock();
+        try {
+            chosungKeys.clear();
+            jamoKeys.clear();
+            names.clear();
+            restaurants.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("초성/자모 검색 인덱스 구성 완료 - 맛집 {}개, 키 {}개",
+                restaurants.size(), chosungKeys.size() + jamoKeys.size());
+    }
+
+    @Override
+    public void add(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+            put(restaurant);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 초성 또는 입력 중인 음절로 이름 검색
+     * @return 이름이 검색어로 시작하는 맛집을 먼저, 그 다음 ID 순
+     */
+    public List<Long> search(String query) {
+        String normalized = HangulUtils.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        boolean chosung = HangulUtils.isChosungOnly(normalized);
+        String prefix = chosung ? normalized : HangulUtils.toJamo(normalized);
+
+        List<Long> result;
+        lock.readLock().lock();
+        try {
+            NavigableMap<String, Set<Long>> keys = chosung ? chosungKeys : jamoKeys;
+            Set<Long> ids = new HashSet<>();
+            keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values().forEach(ids::addAll);
+
+            result = new ArrayList<>(ids);
+            Map<Long, Boolean> leading = new HashMap<>();
+            for (Long id : result) {
+                leading.put(id, key(names.get(id), chosung).startsWith(prefix));
+            }
+            result.sort(Comparator.comparing((Long id) -> !leading.get(id)).thenComparing(Comparator.naturalOrder()));
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 인덱스 없이 이름 하나가 검색어와 맞는지 확인 (인덱스 구성 전 대체 경로)
+     */
+    public static boolean matches(String name, String query) {
+        String normalized = HangulUtils.normalize(query);
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        boolean chosung = HangulUtils.isChosungOnly(normalized);
+        String prefix = chosung ? normalized : HangulUtils.toJamo(normalized);
+        return suffixKeys(HangulUtils.normalize(name), chosung).stream().anyMatch(key -> key.startsWith(prefix));
+    }
+
+    // (쓰기 잠금 필요)
+    private void put(RestaurantResponseDto restaurant) {
+        String name = HangulUtils.normalize(restaurant.getName());
+        names.put(restaurant.getId(), name);
+        for (String key : suffixKeys(name, true)) {
+            chosungKeys.computeIfAbsent(key, k -> new HashSet<>()).add(restaurant.getId());
+        }
+        for (String key : suffixKeys(name, false)) {
+            jamoKeys.computeIfAbsent(key, k -> new HashSet<>()).add(restaurant.getId());
+        }
+    }
+
+    // (쓰기 잠금 필요)
+    private void delete(Long id) {
+        String name = names.remove(id);
+        if (name == null) {
+            return;
+        }
+        removeKeys(chosungKeys, suffixKeys(name, true), id);
+        removeKeys(jamoKeys, suffixKeys(name, false), id);
+    }
+
+    private static void removeKeys(NavigableMap<String, Set<Long>> keys, Set<String> removed, Long id) {
+        for (String key : removed) {
+            Set<Long> ids = keys.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    keys.remove(key);
+                }
+            }
+        }
+    }
+
+    // 이름의 각 글자 위치에서 시작하는 초성/자모 문자열
+    private static Set<String> suffixKeys(String name, boolean chosung) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < name.length(); i++) {
+            keys.add(key(name.substring(i), chosung));
+        }
+        return keys;
+    }
+
+    private static String key(String text, boolean chosung) {
+        return chosung ? HangulUtils.toChosung(text) : HangulUtils.toJamo(text);
+    }
+}
@@ -0,0 +1,289 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.util.LocationUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 최근접 맛집(k-NN) 검색용 KD-트리
+ * 위도/경도를 단위 구 위의 3차원 좌표로 바꿔 저장하므로 유클리드(현) 거리의 순서가 대원 거리의 순서와 같다.
+ * 각 노드는 하위 트리의 경계 상자를 가지고 있어, 상자까지의 거리가 작은 노드부터 방문(best-first)하며
+ * k번째 후보보다 먼 상자는 열어보지 않는다.
+ * 삭제는 표시만 해 두고, 삭제/추가가 일정 비율을 넘으면 균형 트리로 다시 만든다.
+ */
+@Component
+@Slf4j
+public class KdTreeIndex implements RestaurantIndex {
+
+    private static final int DIMENSIONS = 3;
+
+    private Node root;
+
+    // 맛집 ID -> 살아있는 노드
+    private final Map<Long, Node> nodes = new HashMap<>();
+
+    // 마지막 재구성 이후 삭제 표시된 노드 수 / 추가된 노드 수
+    private int deletedCount;
+    private int insertedCount;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void rebuild(List<RestaurantResponseDto> restaurants) {
+        List<Node> built = new ArrayList<>(restaurants.size());
+        for (RestaurantResponseDto restaurant : restaurants) {
+            built.add(new Node(restaurant.getId(), restaurant.getLatitude(), restaurant.getLongitude()));
+        }
+
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            built.forEach(node -> nodes.put(node.id, node));
+            rebalance(new ArrayList<>(nodes.values()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("KD-트리 구성 완료 - 맛집 {}개", built.size());
+    }
+
+    @Override
+    public void add(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(restaurant.getId());
+            Node node = new Node(restaurant.getId(), restaurant.getLatitude(), restaurant.getLongitude());
+            nodes.put(node.id, node);
+            insert(node);
+            insertedCount++;
+            rebalanceIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(restaurant.getId());
+            rebalanceIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기준점에서 가까운 맛집 k개 조회
+     * @return 가까운 순으로 정렬된 최대 k개의 맛집
+     */
+    public List<Neighbor> findNearest(double latitude, double longitude, int k) {
+        double[] target = toCartesian(latitude, longitude);
+
+        // 지금까지 찾은 후보 중 가장 먼 것이 맨 위에 오는 최대 힙
+        PriorityQueue<Candidate> best = new PriorityQueue<>(
+                Comparator.comparingDouble((Candidate candidate) -> candidate.distance).reversed());
+        // 경계 상자까지의 거리가 가까운 노드부터 꺼내는 최소 힙
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(
+                Comparator.comparingDouble((Candidate candidate) -> candidate.distance));
+
+        lock.readLock().lock();
+        try {
+            if (root != null && k > 0) {
+                frontier.add(new Candidate(root, root.boxDistance(target)));
+            }
+            while (!frontier.isEmpty()) {
+                Candidate next = frontier.poll();
+                if (best.size() == k && next.distance >= best.peek().distance) {
+                    break;
+                }
+
+                Node node = next.node;
+                if (!node.deleted) {
+                    best.add(new Candidate(node, node.distance(target)));
+                    if (best.size() > k) {
+                        best.poll();
+                    }
+                }
+                if (node.left != null) {
+                    frontier.add(new Candidate(node.left, node.left.boxDistance(target)));
+                }
+                if (node.right != null) {
+                    frontier.add(new Candidate(node.right, node.right.boxDistance(target)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Neighbor> result = new ArrayList<>(best.size());
+        for (Candidate candidate : best) {
+            Node node = candidate.node;
+            result.add(new Neighbor(node.id,
+                    LocationUtils.calculateDistance(latitude, longitude, node.latitude, node.longitude)));
+        }
+        result.sort(Comparator.comparingDouble(Neighbor::getDistance));
+        return result;
+    }
+
+    // 삭제 표시 (쓰기 잠금 필요)
+    private void markDeleted(Long id) {
+        Node node = nodes.remove(id);
+        if (node != null) {
+            node.deleted = true;
+            deletedCount++;
+        }
+    }
+
+    // 삭제 표시나 불균형 삽입이 살아있는 노드 수의 절반을 넘으면 재구성 (쓰기 잠금 필요)
+    private void rebalanceIfNeeded() {
+        int threshold = Math.max(64, nodes.size() / 2);
+        if (deletedCount > threshold || insertedCount > threshold) {
+            rebalance(new ArrayList<>(nodes.values()));
+        }
+    }
+
+    private void rebalance(List<Node> live) {
+        live.forEach(Node::reset);
+        root = build(live, 0, live.size(), 0);
+        deletedCount = 0;
+        insertedCount = 0;
+    }
+
+    // 중앙값 분할로 균형 트리 구성
+    private Node build(List<Node> list, int from, int to, int depth) {
+        if (from >= to) {
+            return null;
+        }
+        int axis = depth % DIMENSIONS;
+        list.subList(from, to).sort(Comparator.comparingDouble(node -> node.point[axis]));
+        int middle = (from + to) >>> 1;
+
+        Node node = list.get(middle);
+        node.axis = axis;
+        node.left = build(list, from, middle, depth + 1);
+        node.right = build(list, middle + 1, to, depth + 1);
+        if (node.left != null) {
+            node.expand(node.left);
+        }
+        if (node.right != null) {
+            node.expand(node.right);
+        }
+        return node;
+    }
+
+    private void insert(Node node) {
+        if (root == null) {
+            node.axis = 0;
+            root = node;
+            return;
+        }
+        Node current = root;
+        while (true) {
+            current.expand(node);
+            boolean goLeft = node.point[current.axis] < current.point[current.axis];
+            Node child = goLeft ? current.left : current.right;
+            if (child == null) {
+                node.axis = (current.axis + 1) % DIMENSIONS;
+                if (goLeft) {
+                    current.left = node;
+                } else {
+                    current.right = node;
+                }
+                return;
+            }
+            current = child;
+        }
+    }
+
+    private static double[] toCartesian(double latitude, double longitude) {
+        double lat = Math.toRadians(latitude);
+        double lng = Math.toRadians(longitude);
+        return new double[]{
+                Math.cos(lat) * Math.cos(lng),
+                Math.cos(lat) * Math.sin(lng),
+                Math.sin(lat)
+        };
+    }
+
+    private static class Node {
+        private final Long id;
+        private final double latitude;
+        private final double longitude;
+        private final double[] point;
+
+        // 하위 트리 전체를 감싸는 경계 상자
+        private final double[] min = new double[DIMENSIONS];
+        private final double[] max = new double[DIMENSIONS];
+
+        private int axis;
+        private Node left;
+        private Node right;
+        private boolean deleted;
+
+        private Node(Long id, double latitude, double longitude) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.point = toCartesian(latitude, longitude);
+            reset();
+        }
+
+        private void reset() {
+            left = null;
+            right = null;
+            System.arraycopy(point, 0, min, 0, DIMENSIONS);
+            System.arraycopy(point, 0, max, 0, DIMENSIONS);
+        }
+
+        private void expand(Node other) {
+            for (int i = 0; i < DIMENSIONS; i++) {
+                min[i] = Math.min(min[i], other.min[i]);
+                max[i] = Math.max(max[i], other.max[i]);
+            }
+        }
+
+        private double distance(double[] target) {
+            double sum = 0;
+            for (int i = 0; i < DIMENSIONS; i++) {
+                double diff = point[i] - target[i];
+                sum += diff * diff;
+            }
+            return sum;
+        }
+
+        // 경계 상자까지의 (제곱) 거리, 상자 안이면 0
+        private double boxDistance(double[] target) {
+            double sum = 0;
+            for (int i = 0; i < DIMENSIONS; i++) {
+                double diff = 0;
+                if (target[i] < min[i]) {
+                    diff = min[i] - target[i];
+                } else if (target[i] > max[i]) {
+                    diff = target[i] - max[i];
+                }
+                sum += diff * diff;
+            }
+            return sum;
+        }
+    }
+
+    private static class Candidate {
+        private final Node node;
+        private final double distance;
+
+        private Candidate(Node node, double distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.motmap.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위치 인덱스 검색 결과 (맛집 ID와 기준점으로부터의 거리)
+ */
+@Getter
+@AllArgsConstructor
+public class Neighbor {
+
+    private final Long id;
+
+    // 기준점으로부터의 거리 (km)
+    private final double distance;
+}
@@ -0,0 +1,347 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 키워드 검색용 n-gram 역색인 (이름, 주소, 리뷰)
+ * 한글은 음절 하나가 문자 하나이므로 두 글자(bigram) 단위로 색인하고, 한 글자 검색을 위해 단일 문자도 색인한다.
+ * 검색어의 모든 bigram이 들어 있는 맛집을 게시 목록 교집합으로 좁힌 뒤,
+ * 실제 필드에 검색어가 포함되는지 다시 확인해 LIKE '%검색어%'와 같은 결과를 돌려준다.
+ * 최종 판정은 포함 여부 확인이 하므로 gram은 후보를 좁히는 역할만 하며, trigram을 더해도 결과는 같고 게시 목록만 늘어난다.
+ * 검색어의 %와 _는 와일드카드가 아닌 글자 그대로 비교한다 (인덱스 구성 전 DB 검색도 이스케이프해 같게 맞춤).
+ * 게시 목록에는 필드별 출현 횟수를 함께 저장해 BM25F 순위 검색에도 사용한다.
+ */
+@Component
+@Slf4j
+public class NgramSearchIndex implements RestaurantIndex {
+
+    private static final int FIELD_COUNT = 3;
+
+    // 게시 목록 값에 필드별 출현 횟수를 10비트씩 묶어 저장 (이름 | 주소 << 10 | 리뷰 << 20)
+    private static final int TF_BITS = 10;
+    private static final int TF_MAX = (1 << TF_BITS) - 1;
+
+    private final double k1;
+    private final double b;
+    private final double[] boosts;
+
+    // gram 키 -> (맛집 ID -> 필드별 출현 횟수), 단일 문자는 상위 16비트가 0
+    private final Map<Integer, Map<Long, Integer>> postings = new HashMap<>();
+
+    // 맛집 ID -> 정규화된 검색 대상 필드
+    private final Map<Long, String[]> documents = new HashMap<>();
+
+    // 필드별 전체 길이 합 (평균 길이 계산용)
+    private final long[] totalFieldLengths = new long[FIELD_COUNT];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public NgramSearchIndex(@Value("${motmap.search.bm25.k1:1.2}") double k1,
+                            @Value("${motmap.search.bm25.b:0.75}") double b,
+                            @Value("${motmap.search.boost.name:3.0}") double nameBoost,
+                            @Value("${motmap.search.boost.address:1.5}") double addressBoost,
+                            @Value("${motmap.search.boost.review:1.0}") double reviewBoost) {
+        this.k1 = k1;
+        this.b = b;
+        this.boosts = new double[]{nameBoost, addressBoost, reviewBoost};
+    }
+
+    @Override
+    public void rebuild(List<RestaurantResponseDto> restaurants) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            Arrays.fill(totalFieldLengths, 0);
+            restaurants.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("검색 인덱스 구성 완료 - 맛집 {}개, gram {}개", restaurants.size(), postings.size());
+    }
+
+    @Override
+    public void add(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+            put(restaurant);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이름, 주소, 리뷰 중 하나라도 키워드를 포함하는 맛집 ID 조회
+     * @return ID 오름차순
+     */
+    public List<Long> search(String keyword) {
+        String query = normalize(keyword);
+        List<Long> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            if (query.isEmpty()) {
+                result.addAll(documents.keySet());
+            } else {
+                for (Long id : candidates(query)) {
+                    if (matches(documents.get(id), query)) {
+                        result.add(id);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        result.sort(null);
+        return result;
+    }
+
+    /**
+     * BM25F 점수 순위 검색
+     * 검색어를 공백으로 나눈 단어의 bigram(한 글자 단어는 단일 문자) 중 하나라도 가진 맛집을 점수순으로 고른다.
+     * 맛집마다 점수를 한 번에 계산해 크기 limit의 힙에만 남기므로, 일치 건수와 무관하게 limit만큼의 메모리만 쓴다.
+     * @param limit 상위 몇 개까지 반환할지
+     * @return 점수 내림차순(같으면 ID 오름차순) 상위 limit개와 전체 일치 건수
+     */
+    public RankedHits searchRanked(String keyword, int limit) {
+        List<Integer> terms = new ArrayList<>(rankingGrams(normalize(keyword)));
+        Comparator<SearchHit> ranking = Comparator.comparingDouble(SearchHit::getScore).reversed()
+                .thenComparing(SearchHit::getId);
+        // 가장 낮은 순위가 맨 위에 오는 힙
+        PriorityQueue<SearchHit> heap = new PriorityQueue<>(limit + 1, ranking.reversed());
+        long totalHits = 0;
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0 || terms.isEmpty()) {
+                return new RankedHits(List.of(), 0);
+            }
+
+            List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+            double[] idf = new double[terms.size()];
+            for (int i = 0; i < terms.size(); i++) {
+                Map<Long, Integer> list = postings.getOrDefault(terms.get(i), Map.of());
+                lists.add(list);
+                int df = list.size();
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+            double[] averageLengths = new double[FIELD_COUNT];
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                averageLengths[f] = Math.max(1.0, (double) totalFieldLengths[f] / documentCount);
+            }
+
+            for (int i = 0; i < lists.size(); i++) {
+                next:
+                for (Long id : lists.get(i).keySet()) {
+                    // 앞선 게시 목록에서 이미 점수를 매긴 맛집은 건너뜀
+                    for (int j = 0; j < i; j++) {
+                        if (lists.get(j).containsKey(id)) {
+                            continue next;
+                        }
+                    }
+                    totalHits++;
+                    SearchHit hit = new SearchHit(id, score(id, lists, idf, averageLengths));
+                    if (heap.size() < limit) {
+                        heap.add(hit);
+                    } else if (limit > 0 && ranking.compare(hit, heap.peek()) < 0) {
+                        heap.poll();
+                        heap.add(hit);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SearchHit> hits = new ArrayList<>(heap);
+        hits.sort(ranking);
+        return new RankedHits(hits, totalHits);
+    }
+
+    // BM25F: 필드별 길이 정규화와 가중치를 적용한 출현 횟수를 합친 뒤 포화 함수 적용 (읽기 잠금 필요)
+    private double score(Long id, List<Map<Long, Integer>> lists, double[] idf, double[] averageLengths) {
+        String[] fields = documents.get(id);
+        double score = 0;
+        for (int i = 0; i < lists.size(); i++) {
+            Integer packed = lists.get(i).get(id);
+            if (packed == null) {
+                continue;
+            }
+            double tf = 0;
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                int count = (packed >>> (f * TF_BITS)) & TF_MAX;
+                if (count > 0) {
+                    tf += boosts[f] * count / (1 - b + b * fields[f].length() / averageLengths[f]);
+                }
+            }
+            score += idf[i] * tf * (k1 + 1) / (tf + k1);
+        }
+        return score;
+    }
+
+    // 검색어의 gram을 모두 가진 맛집 (게시 목록이 작은 것부터 교집합, 읽기 잠금 필요)
+    private Set<Long> candidates(String query) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (Integer gram : grams(query)) {
+            Map<Long, Integer> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids.keySet());
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> smallest = lists.get(0);
+        if (lists.size() == 1) {
+            return smallest;
+        }
+        Set<Long> result = new HashSet<>();
+        outer:
+        for (Long id : smallest) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) {
+                    continue outer;
+                }
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    private static boolean matches(String[] fields, String query) {
+        for (String field : fields) {
+            if (field.contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // (쓰기 잠금 필요)
+    private void put(RestaurantResponseDto restaurant) {
+        String[] fields = {
+                normalize(restaurant.getName()),
+                normalize(restaurant.getAddress()),
+                normalize(restaurant.getReview())
+        };
+        documents.put(restaurant.getId(), fields);
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            totalFieldLengths[f] += fields[f].length();
+        }
+        indexGrams(fields).forEach((gram, packed) ->
+                postings.computeIfAbsent(gram, key -> new HashMap<>()).put(restaurant.getId(), packed));
+    }
+
+    // (쓰기 잠금 필요)
+    private void delete(Long id) {
+        String[] fields = documents.remove(id);
+        if (fields == null) {
+            return;
+        }
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            totalFieldLengths[f] -= fields[f].length();
+        }
+        for (Integer gram : indexGrams(fields).keySet()) {
+            Map<Long, Integer> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    // 필드별 단일 문자와 bigram의 필드별 출현 횟수 (필드 경계를 넘는 gram은 만들지 않음)
+    private static Map<Integer, Integer> indexGrams(String[] fields) {
+        Map<Integer, Integer> grams = new HashMap<>();
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            String field = fields[f];
+            int shift = f * TF_BITS;
+            for (int i = 0; i < field.length(); i++) {
+                count(grams, unigram(field.charAt(i)), shift);
+                if (i + 1 < field.length()) {
+                    count(grams, bigram(field.charAt(i), field.charAt(i + 1)), shift);
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static void count(Map<Integer, Integer> grams, int gram, int shift) {
+        int packed = grams.getOrDefault(gram, 0);
+        if (((packed >>> shift) & TF_MAX) < TF_MAX) {
+            grams.put(gram, packed + (1 << shift));
+        }
+    }
+
+    // 검색어 gram (두 글자 이상이면 bigram, 한 글자면 단일 문자)
+    private static Set<Integer> grams(String query) {
+        Set<Integer> grams = new LinkedHashSet<>();
+        if (query.length() == 1) {
+            grams.add(unigram(query.charAt(0)));
+            return grams;
+        }
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(bigram(query.charAt(i), query.charAt(i + 1)));
+        }
+        return grams;
+    }
+
+    // 순위 검색용 gram (공백으로 나눈 단어별, 단어 경계를 넘는 gram은 제외)
+    private static Set<Integer> rankingGrams(String query) {
+        Set<Integer> grams = new LinkedHashSet<>();
+        for (String word : query.trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                grams.addAll(grams(word));
+            }
+        }
+        return grams;
+    }
+
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    // 자모가 분리된 입력도 같은 음절로 맞추고 대소문자 구분 제거
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
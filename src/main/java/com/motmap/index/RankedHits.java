@@ -0,0 +1,19 @@
+package com.motmap.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 순위 검색의 상위 결과와 전체 일치 건수
+ */
+@Getter
+@AllArgsConstructor
+public class RankedHits {
+
+    // 점수 내림차순 상위 결과
+    private final List<SearchHit> hits;
+
+    private final long totalHits;
+}
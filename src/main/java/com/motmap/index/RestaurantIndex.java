@@ -0,0 +1,40 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.service.RestaurantChangedEvent;
+
+import java.util.List;
+
+/**
+ * 맛집 데이터를 기반으로 메모리에 유지되는 인덱스
+ * RestaurantIndexManager가 기동 시 전체 재구성과 커밋 이후 증분 갱신을 담당한다.
+ */
+public interface RestaurantIndex {
+
+    /**
+     * 전체 맛집 목록으로 인덱스를 다시 구성
+     */
+    void rebuild(List<RestaurantResponseDto> restaurants);
+
+    /**
+     * 맛집 한 건 추가
+     */
+    void add(RestaurantResponseDto restaurant);
+
+    /**
+     * 맛집 한 건 제거
+     */
+    void remove(RestaurantResponseDto restaurant);
+
+    /**
+     * 변경 이벤트 반영 (기본: 변경 전 상태 제거 후 변경 후 상태 추가)
+     */
+    default void apply(RestaurantChangedEvent event) {
+        if (event.getBefore() != null) {
+            remove(event.getBefore());
+        }
+        if (event.getAfter() != null) {
+            add(event.getAfter());
+        }
+    }
+}
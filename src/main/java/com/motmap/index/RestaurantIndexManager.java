@@ -0,0 +1,210 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.repository.RestaurantRepository;
+import com.motmap.service.CatalogReloadedEvent;
+import com.motmap.service.ChangeListenerOrder;
+import com.motmap.service.RestaurantChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인메모리 맛집 인덱스 관리자
+ * 기동 후 워밍업 단계에서 DB로 전체 인덱스를 구성하고, 이후에는 커밋된 변경만 증분 반영한다.
+ *
+ * 재구성 중에 커밋된 변경은 재구성 중인 인덱스에 바로 반영하지 않고 맛집 ID만 모아 두었다가,
+ * 재구성이 끝나면 그 ID들을 DB에서 다시 읽어 스냅샷 값과의 차이만 반영한다
+ * (스냅샷을 읽은 뒤 재구성이 끝나기 전에 커밋된 변경도 잃지 않음).
+ * 재구성하지 않는 인덱스에는 그동안에도 변경을 바로 반영한다.
+ */
+@Component
+@Slf4j
+public class RestaurantIndexManager {
+
+    private final List<RestaurantIndex> indexes;
+    private final RestaurantRepository restaurantRepository;
+
+    // 커밋 후 리스너에서도 호출되므로 항상 새 읽기 전용 트랜잭션으로 읽음
+    private final TransactionTemplate readTransaction;
+
+    // 증분 반영은 읽기 잠금, 재구성 시작/종료 전환은 쓰기 잠금
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    // 재구성 중에 커밋된 변경의 맛집 ID
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+
+    // 재구성 중인 인덱스 (비어 있으면 모든 인덱스에 증분 반영)
+    private volatile List<RestaurantIndex> rebuilding = List.of();
+
+    private volatile boolean ready = false;
+
+    public RestaurantIndexManager(List<RestaurantIndex> indexes,
+                                  RestaurantRepository restaurantRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.indexes = indexes;
+        this.restaurantRepository = restaurantRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 전체 인덱스 구성 (초기 데이터 적재 이후 워밍업 단계, 대량 변경 커밋 후에 호출)
+     */
+    public synchronized void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        int[] counts = rebuild(indexes, restaurantRepository::findAllDtos);
+        ready = true;
+        log.info("맛집 인덱스 {}개 구성 완료 - 맛집 {}개, 재구성 중 변경 {}개 반영, {}ms",
+                indexes.size(), counts[0], counts[1], System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 인덱스 하나만 다시 구성 (전체 재구성과 같이 재구성 중 변경을 모아 두었다가 반영)
+     * @param snapshot 새 읽기 전용 트랜잭션 안에서 실행할 스냅샷 조회 (인덱스가 쓰는 필드만 채운 DTO여도 됨)
+     */
+    public synchronized void rebuildIndex(RestaurantIndex index, Supplier<List<RestaurantResponseDto>> snapshot) {
+        long startedAt = System.currentTimeMillis();
+        int[] counts = rebuild(List.of(index), snapshot);
+        log.info("{} 재구성 완료 - 맛집 {}개, 재구성 중 변경 {}개 반영, {}ms", index.getClass().getSimpleName(),
+                counts[0], counts[1], System.currentTimeMillis() - startedAt);
+    }
+
+    // @return {스냅샷 맛집 수, 재구성 중 변경 반영 수}
+    private int[] rebuild(List<RestaurantIndex> targets, Supplier<List<RestaurantResponseDto>> snapshot) {
+        setRebuilding(targets);
+        try {
+            List<RestaurantResponseDto> restaurants = readTransaction.execute(status -> snapshot.get());
+            for (RestaurantIndex index : targets) {
+                index.rebuild(restaurants);
+            }
+            return new int[]{restaurants.size(), replayPending(targets, restaurants)};
+        } finally {
+            // 재구성이 실패했으면 모아 둔 변경은 버림 (다음 재구성이 DB 전체를 다시 읽음)
+            if (!rebuilding.isEmpty()) {
+                pendingIds.clear();
+                setRebuilding(List.of());
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 변경 내용을 모든 인덱스에 반영
+     */
+    @Order(ChangeListenerOrder.INDEX)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        rebuildLock.readLock().lock();
+        try {
+            List<RestaurantIndex> skipped = rebuilding;
+            if (!skipped.isEmpty()) {
+                pendingIds.add(event.getRestaurantId());
+            }
+            for (RestaurantIndex index : indexes) {
+                if (!skipped.contains(index)) {
+                    apply(index, event);
+                }
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 대량 변경이 커밋되면 건별 반영 대신 DB에서 전체 인덱스를 다시 구성
+     */
+    @Order(ChangeListenerOrder.INDEX)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        rebuildAll();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 재구성 중에 모인 ID를 DB에서 다시 읽어 스냅샷 값과의 차이를 반영 (더 모이지 않을 때까지 반복)
+    private int replayPending(List<RestaurantIndex> targets, List<RestaurantResponseDto> snapshot) {
+        Map<Long, RestaurantResponseDto> indexed = null;
+        int replayed = 0;
+        while (true) {
+            List<Long> ids = new ArrayList<>(pendingIds);
+            if (ids.isEmpty()) {
+                // 마지막으로 확인하는 사이에 들어온 변경이 없을 때만 증분 반영으로 돌아감
+                rebuildLock.writeLock().lock();
+                try {
+                    if (pendingIds.isEmpty()) {
+                        rebuilding = List.of();
+                        return replayed;
+                    }
+                } finally {
+                    rebuildLock.writeLock().unlock();
+                }
+                continue;
+            }
+            pendingIds.removeAll(ids);
+
+            if (indexed == null) {
+                indexed = new HashMap<>();
+                for (RestaurantResponseDto restaurant : snapshot) {
+                    indexed.put(restaurant.getId(), restaurant);
+                }
+            }
+            Map<Long, RestaurantResponseDto> current = new HashMap<>();
+            readTransaction.execute(status -> restaurantRepository.findDtosByIdIn(ids))
+                    .forEach(restaurant -> current.put(restaurant.getId(), restaurant));
+
+            for (Long id : ids) {
+                RestaurantResponseDto before = indexed.get(id);
+                RestaurantResponseDto after = current.get(id);
+                if (before == null && after == null) {
+                    continue;
+                }
+                RestaurantChangedEvent event = before == null ? RestaurantChangedEvent.created(after)
+                        : after == null ? RestaurantChangedEvent.deleted(before)
+                        : RestaurantChangedEvent.updated(before, after);
+                targets.forEach(index -> apply(index, event));
+                if (after == null) {
+                    indexed.remove(id);
+                } else {
+                    indexed.put(id, after);
+                }
+                replayed++;
+            }
+        }
+    }
+
+    private void apply(RestaurantIndex index, RestaurantChangedEvent event) {
+        try {
+            index.apply(event);
+        } catch (Exception e) {
+            log.error("인덱스 갱신 실패 - 인덱스: {}, 맛집 ID: {}",
+                    index.getClass().getSimpleName(), event.getRestaurantId(), e);
+        }
+    }
+
+    private void setRebuilding(List<RestaurantIndex> value) {
+        rebuildLock.writeLock().lock();
+        try {
+            rebuilding = value;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.dto.RestaurantStatsDto;
+import com.motmap.entity.Category;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 맛집 통계 집계 (전체 수, 평점 합계, 평점별/카테고리별 수, 최근 30일 등록 수)
+ * 커밋된 변경마다 카운터만 더하고 빼므로 통계 조회에 DB 접근이 없다.
+ * 카운터는 LongAdder(스레드별로 나뉜 셀에 더하고 읽을 때 합산)라 동시 변경이 몰려도 경합이 적다.
+ * 최근 등록 수는 날짜별 버킷 30개를 돌려 쓰는 링으로 세고, 조회 시 창(오늘 포함 30일) 안의 버킷만 합산한다.
+ * 계산한 통계는 변경이 없고 날짜가 같으면 같은 객체를 그대로 돌려준다.
+ */
+@Component
+@Slf4j
+public class RestaurantStatsAggregate implements RestaurantIndex {
+
+    public static final int RECENT_DAYS = 30;
+
+    // 고평점 기준 (4점 이상)
+    private static final int HIGH_RATING = 4;
+    private static final int MAX_RATING = 5;
+
+    private volatile Counters counters = new Counters();
+
+    // 변경 횟수 (카운터를 바꾼 뒤 증가시켜, 계산 도중 바뀐 통계를 재사용하지 않게 함)
+    private final AtomicLong modifications = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    @Override
+    public void rebuild(List<RestaurantResponseDto> restaurants) {
+        Counters rebuilt = new Counters();
+        long today = LocalDate.now().toEpochDay();
+        for (RestaurantResponseDto restaurant : restaurants) {
+            rebuilt.add(restaurant, 1, today);
+        }
+        counters = rebuilt;
+        modifications.incrementAndGet();
+        log.debug("맛집 통계 집계 구성 완료 - 맛집 {}개", restaurants.size());
+    }
+
+    @Override
+    public void add(RestaurantResponseDto restaurant) {
+        counters.add(restaurant, 1, LocalDate.now().toEpochDay());
+        modifications.incrementAndGet();
+    }
+
+    @Override
+    public void remove(RestaurantResponseDto restaurant) {
+        counters.add(restaurant, -1, LocalDate.now().toEpochDay());
+        modifications.incrementAndGet();
+    }
+
+    /**
+     * 현재 통계 (카테고리/평점 수만큼의 합산만 하며, 변경이 없으면 이전 결과를 그대로 반환)
+     */
+    public RestaurantStatsDto getStatistics() {
+        long today = LocalDate.now().toEpochDay();
+        Snapshot current = snapshot;
+        long modification = modifications.get();
+        if (current != null && current.modification == modification && current.day == today) {
+            return current.stats;
+        }
+        RestaurantStatsDto stats = counters.toStats(today);
+        snapshot = new Snapshot(modification, today, stats);
+        return stats;
+    }
+
+    /**
+     * 현재 맛집 수 (통계를 계산하지 않고 합계만 읽음)
+     */
+    public long count() {
+        return counters.total.sum();
+    }
+
+    /**
+     * 최근 등록 수 집계 창의 시작 시각 (오늘 포함 30일 전 자정)
+     */
+    public static LocalDateTime recentWindowStart(LocalDate today) {
+        return today.minusDays(RECENT_DAYS - 1).atStartOfDay();
+    }
+
+    private static final class Counters {
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder ratingSum = new LongAdder();
+        private final LongAdder[] ratings = new LongAdder[MAX_RATING + 1];
+        private final Map<Category, LongAdder> categories = new EnumMap<>(Category.class);
+
+        // 날짜 버킷 링 (epochDay % 30 자리에 그날의 버킷)
+        private final AtomicReferenceArray<DayBucket> recent = new AtomicReferenceArray<>(RECENT_DAYS);
+
+        private Counters() {
+            for (int i = 0; i < ratings.length; i++) {
+                ratings[i] = new LongAdder();
+            }
+            for (Category category : Category.values()) {
+                categories.put(category, new LongAdder());
+            }
+        }
+
+        private void add(RestaurantResponseDto restaurant, int delta, long today) {
+            total.add(delta);
+            int rating = restaurant.getRating();
+            ratingSum.add((long) rating * delta);
+            if (rating >= 0 && rating <= MAX_RATING) {
+                ratings[rating].add(delta);
+            }
+            categories.get(restaurant.getCategory()).add(delta);
+
+            if (restaurant.getCreatedAt() != null) {
+                long day = restaurant.getCreatedAt().toLocalDate().toEpochDay();
+                DayBucket bucket = delta > 0 ? bucketFor(day, today) : existingBucket(day);
+                if (bucket != null) {
+                    bucket.count.add(delta);
+                }
+            }
+        }
+
+        // 그날의 버킷 (자리에 더 오래된 날이 있으면 새 버킷으로 교체, 창보다 오래된 날이면 null)
+        private DayBucket bucketFor(long day, long today) {
+            if (day <= today - RECENT_DAYS) {
+                return null;
+            }
+            int slot = Math.floorMod(day, RECENT_DAYS);
+            while (true) {
+                DayBucket bucket = recent.get(slot);
+                if (bucket != null && bucket.day >= day) {
+                    return bucket.day == day ? bucket : null;
+                }
+                DayBucket fresh = new DayBucket(day);
+                if (recent.compareAndSet(slot, bucket, fresh)) {
+                    return fresh;
+                }
+            }
+        }
+
+        private DayBucket existingBucket(long day) {
+            DayBucket bucket = recent.get(Math.floorMod(day, RECENT_DAYS));
+            return bucket != null && bucket.day == day ? bucket : null;
+        }
+
+        private RestaurantStatsDto toStats(long today) {
+            long count = total.sum();
+
+            Map<String, Long> categoryStats = new LinkedHashMap<>();
+            categories.forEach((category, adder) -> {
+                long value = adder.sum();
+                if (value > 0) {
+                    categoryStats.put(category.getDisplayName(), value);
+                }
+            });
+
+            Map<Integer, Long> ratingStats = new LinkedHashMap<>();
+            long highRated = 0;
+            for (int rating = 0; rating <= MAX_RATING; rating++) {
+                long value = ratings[rating].sum();
+                if (value > 0) {
+                    ratingStats.put(rating, value);
+                }
+                if (rating >= HIGH_RATING) {
+                    highRated += value;
+                }
+            }
+
+            long recentCount = 0;
+            for (int slot = 0; slot < RECENT_DAYS; slot++) {
+                DayBucket bucket = recent.get(slot);
+                if (bucket != null && bucket.day > today - RECENT_DAYS && bucket.day <= today) {
+                    recentCount += bucket.count.sum();
+                }
+            }
+
+            double average = count > 0 ? (double) ratingSum.sum() / count : 0.0;
+            return RestaurantStatsDto.builder()
+                    .totalRestaurants(count)
+                    .categoryStats(categoryStats)
+                    .ratingStats(ratingStats)
+                    .averageRating(Math.round(average * 100.0) / 100.0)
+                    .highRatedCount(highRated)
+                    .recentRestaurantsCount(recentCount)
+                    .build();
+        }
+    }
+
+    private static final class DayBucket {
+
+        private final long day;
+        private final LongAdder count = new LongAdder();
+
+        private DayBucket(long day) {
+            this.day = day;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final long modification;
+        private final long day;
+        private final RestaurantStatsDto stats;
+
+        private Snapshot(long modification, long day, RestaurantStatsDto stats) {
+            this.modification = modification;
+            this.day = day;
+            this.stats = stats;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.motmap.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 순위 검색 결과 (맛집 ID와 관련도 점수)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+
+    private final Long id;
+
+    // BM25F 점수 (클수록 관련도가 높음)
+    private final double score;
+}
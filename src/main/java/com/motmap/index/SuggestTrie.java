@@ -0,0 +1,384 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.dto.SuggestIndexMetricsDto;
+import com.motmap.dto.SuggestionDto;
+import com.motmap.entity.Category;
+import com.motmap.util.HangulUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 자동완성용 트라이 (맛집 이름, 이름의 각 단어, 주소의 각 단어)
+ * 자식은 정렬된 문자 배열과 노드 배열로 저장해 이진 탐색하고,
+ * 각 노드는 하위 트리에서 평점이 높은 맛집 k개를 미리 들고 있어 조회는 접두어 길이만큼만 내려간다.
+ * 변경 시에는 바뀐 단어의 경로에 있는 노드만 아래에서 위로 상위 목록을 다시 계산한다.
+ */
+@Component
+@Slf4j
+public class SuggestTrie implements RestaurantIndex {
+
+    private static final char[] EMPTY_KEYS = new char[0];
+    private static final Node[] EMPTY_NODES = new Node[0];
+    private static final Entry[] EMPTY_ENTRIES = new Entry[0];
+
+    private static final String NAME = "NAME";
+    private static final String ADDRESS = "ADDRESS";
+
+    // 평점 높은 순, 이름 일치 우선, ID 순
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingInt((Entry entry) -> -entry.rating)
+            .thenComparing(entry -> !NAME.equals(entry.field))
+            .thenComparingLong(entry -> entry.restaurantId);
+
+    private final int topK;
+
+    private Node root = new Node();
+
+    // 맛집 ID -> 색인된 단어와 항목
+    private final Map<Long, List<Term>> terms = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SuggestTrie(@Value("${motmap.index.suggest.top-k:10}") int topK) {
+        this.topK = topK;
+    }
+
+    @Override
+    public void rebuild(List<RestaurantResponseDto> restaurants) {
+        lock.writeLock().lock();
+        try {
+            root = new Node();
+            terms.clear();
+            for (RestaurantResponseDto restaurant : restaurants) {
+                List<Term> indexed = termsOf(restaurant);
+                terms.put(restaurant.getId(), indexed);
+                indexed.forEach(term -> insert(term, false));
+            }
+            recomputeAll(root);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("자동완성 트라이 구성 완료 - 맛집 {}개", restaurants.size());
+    }
+
+    @Override
+    public void add(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+            List<Term> indexed = termsOf(restaurant);
+            terms.put(restaurant.getId(), indexed);
+            indexed.forEach(term -> insert(term, true));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 이름/주소 단어를 가진 맛집 (평점 높은 순, 최대 k개)
+     */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        String key = HangulUtils.normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Entry[] top;
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            top = node == null ? EMPTY_ENTRIES : node.top;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 상위 목록 배열은 갱신 시 통째로 교체되므로 잠금 밖에서 읽어도 된다
+        List<SuggestionDto> result = new ArrayList<>(Math.min(limit, top.length));
+        for (int i = 0; i < top.length && i < limit; i++) {
+            result.add(top[i].toDto());
+        }
+        return result;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 트라이 크기와 추정 메모리 사용량
+     */
+    public SuggestIndexMetricsDto metrics() {
+        lock.readLock().lock();
+        try {
+            long nodes = 0;
+            long topEntries = 0;
+            long bytes = 0;
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                nodes++;
+                topEntries += node.top.length;
+                bytes += node.estimatedBytes();
+                for (Node child : node.children) {
+                    stack.push(child);
+                }
+            }
+
+            Set<Entry> entries = new HashSet<>();
+            long termCount = 0;
+            for (List<Term> indexed : terms.values()) {
+                termCount += indexed.size();
+                indexed.forEach(term -> entries.add(term.entry));
+            }
+            for (Entry entry : entries) {
+                bytes += entry.estimatedBytes();
+            }
+
+            return SuggestIndexMetricsDto.builder()
+                    .restaurants(terms.size())
+                    .terms(termCount)
+                    .nodes(nodes)
+                    .topEntries(topEntries)
+                    .topK(topK)
+                    .estimatedBytes(bytes)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 이름 전체, 이름의 각 단어, 주소의 각 단어 (맛집 하나의 항목은 필드별로 공유)
+    private static List<Term> termsOf(RestaurantResponseDto restaurant) {
+        Entry nameEntry = new Entry(restaurant, NAME, restaurant.getName());
+        Set<String> nameKeys = new LinkedHashSet<>();
+        nameKeys.add(HangulUtils.normalize(restaurant.getName()));
+        for (String word : restaurant.getName().trim().split("\\s+")) {
+            nameKeys.add(HangulUtils.normalize(word));
+        }
+
+        List<Term> result = new ArrayList<>();
+        nameKeys.stream()
+                .filter(key -> !key.isEmpty())
+                .forEach(key -> result.add(new Term(key, nameEntry)));
+
+        Set<String> addressKeys = new HashSet<>();
+        if (restaurant.getAddress() != null) {
+            for (String word : restaurant.getAddress().trim().split("\\s+")) {
+                String key = HangulUtils.normalize(word);
+                if (!key.isEmpty() && addressKeys.add(key)) {
+                    result.add(new Term(key, new Entry(restaurant, ADDRESS, word)));
+                }
+            }
+        }
+        return result;
+    }
+
+    // 단어 삽입 (recompute가 true면 경로의 상위 목록을 바로 갱신, 쓰기 잠금 필요)
+    private void insert(Term term, boolean recompute) {
+        Node[] path = new Node[term.key.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < term.key.length(); i++) {
+            node = node.childOrCreate(term.key.charAt(i));
+            path[i + 1] = node;
+        }
+        node.terminals.add(term.entry);
+        if (recompute) {
+            for (int i = path.length - 1; i >= 0; i--) {
+                recompute(path[i]);
+            }
+        }
+    }
+
+    // 맛집의 모든 단어 제거 후 빈 노드 정리 (쓰기 잠금 필요)
+    private void delete(Long restaurantId) {
+        List<Term> indexed = terms.remove(restaurantId);
+        if (indexed == null) {
+            return;
+        }
+        for (Term term : indexed) {
+            Node[] path = new Node[term.key.length() + 1];
+            Node node = root;
+            path[0] = node;
+            for (int i = 0; i < term.key.length() && node != null; i++) {
+                node = node.child(term.key.charAt(i));
+                path[i + 1] = node;
+            }
+            if (node == null) {
+                continue;
+            }
+            node.terminals.remove(term.entry);
+            for (int i = path.length - 1; i > 0; i--) {
+                Node current = path[i];
+                if (current.terminals.isEmpty() && current.children.length == 0) {
+                    path[i - 1].removeChild(term.key.charAt(i - 1));
+                } else {
+                    recompute(current);
+                }
+            }
+            recompute(root);
+        }
+    }
+
+    // 하위 노드부터 전체 상위 목록 계산 (쓰기 잠금 필요)
+    private void recomputeAll(Node node) {
+        for (Node child : node.children) {
+            recomputeAll(child);
+        }
+        recompute(node);
+    }
+
+    // 자신의 항목과 자식들의 상위 목록을 합쳐 맛집 중복 없이 k개 선택 (쓰기 잠금 필요)
+    private void recompute(Node node) {
+        List<Entry> candidates = new ArrayList<>(node.terminals);
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(RANKING);
+
+        List<Entry> top = new ArrayList<>(Math.min(topK, candidates.size()));
+        Set<Long> seen = new HashSet<>();
+        for (Entry entry : candidates) {
+            if (top.size() == topK) {
+                break;
+            }
+            if (seen.add(entry.restaurantId)) {
+                top.add(entry);
+            }
+        }
+        node.top = top.toArray(EMPTY_ENTRIES);
+    }
+
+    private static class Node {
+        private char[] keys = EMPTY_KEYS;
+        private Node[] children = EMPTY_NODES;
+        private final List<Entry> terminals = new ArrayList<>(0);
+        private volatile Entry[] top = EMPTY_ENTRIES;
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        private void removeChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        // 객체 헤더 12 + 필드 4개, 배열 헤더 16 + 원소 (압축 OOP 기준)
+        private long estimatedBytes() {
+            return 32
+                    + 16 + 2L * keys.length
+                    + 16 + 4L * children.length
+                    + 24 + 16 + 4L * terminals.size()
+                    + 16 + 4L * top.length;
+        }
+    }
+
+    private static class Entry {
+        private final long restaurantId;
+        private final String name;
+        private final String field;
+        private final String matched;
+        private final Category category;
+        private final int rating;
+
+        private Entry(RestaurantResponseDto restaurant, String field, String matched) {
+            this.restaurantId = restaurant.getId();
+            this.name = restaurant.getName();
+            this.field = field;
+            this.matched = matched;
+            this.category = restaurant.getCategory();
+            this.rating = restaurant.getRating();
+        }
+
+        private SuggestionDto toDto() {
+            return SuggestionDto.builder()
+                    .restaurantId(restaurantId)
+                    .name(name)
+                    .matched(matched)
+                    .field(field)
+                    .category(category)
+                    .rating(rating)
+                    .build();
+        }
+
+        // 객체 + 문자열 두 개 (이름 문자열은 DTO와 공유될 수 있지만 보수적으로 포함)
+        private long estimatedBytes() {
+            return 40 + stringBytes(name) + stringBytes(matched);
+        }
+
+        private static long stringBytes(String value) {
+            return 24 + 16 + 2L * value.length();
+        }
+    }
+
+    private static class Term {
+        private final String key;
+        private final Entry entry;
+
+        private Term(String key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantClusterDto;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.util.BoundingBox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 줌 레벨별 계층형 클러스터 인덱스
+ * 줌 z의 셀 크기는 타일 한 장(360 / 2^z 도)을 CELLS_PER_TILE 등분한 크기이며,
+ * 상위 줌의 셀 4개가 하위 줌의 셀 1개로 정확히 합쳐진다.
+ * 맛집이 추가/삭제될 때마다 각 줌의 셀 하나씩만 갱신한다.
+ * 가장 깊은 줌의 셀은 맛집 좌표도 함께 가지고 있어, 영역 경계에 걸친 셀은 하위 셀로 내려가며 정확히 센다.
+ */
+@Component
+@Slf4j
+public class ViewportClusterIndex implements RestaurantIndex {
+
+    private static final int CELLS_PER_TILE = 4;
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final int maxZoom;
+
+    // 줌 레벨 -> (셀 키 -> 클러스터 셀)
+    private final List<Map<Long, ClusterCell>> levels;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ViewportClusterIndex(@Value("${motmap.index.cluster.max-zoom:18}") int maxZoom) {
+        this.maxZoom = maxZoom;
+        this.levels = new ArrayList<>(maxZoom + 1);
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            levels.add(new HashMap<>());
+        }
+    }
+
+    @Override
+    public void rebuild(List<RestaurantResponseDto> restaurants) {
+        lock.writeLock().lock();
+        try {
+            for (Map<Long, ClusterCell> level : levels) {
+                level.clear();
+            }
+            restaurants.forEach(restaurant -> update(restaurant, 1));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("클러스터 인덱스 구성 완료 - 맛집 {}개, 줌 0~{}", restaurants.size(), maxZoom);
+    }
+
+    @Override
+    public void add(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            update(restaurant, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(RestaurantResponseDto restaurant) {
+        lock.writeLock().lock();
+        try {
+            update(restaurant, -1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 영역 안의 맛집 수
+     * 영역 안에 완전히 들어온 셀은 셀의 수를 그대로 더하고, 경계에 걸친 셀은 하위 셀로 내려가 영역 밖의 맛집을 뺀다.
+     */
+    public long count(BoundingBox box, int zoom) {
+        long total = 0;
+        int clampedZoom = clampZoom(zoom);
+        lock.readLock().lock();
+        try {
+            for (long key : cellKeysWithin(box, clampedZoom)) {
+                total += countWithin(box, clampedZoom, key);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return total;
+    }
+
+    /**
+     * 영역과 겹치는 클러스터 목록 (경계에 걸친 셀은 셀 전체의 수와 중심으로 표시)
+     */
+    public List<RestaurantClusterDto> findClusters(BoundingBox box, int zoom) {
+        List<RestaurantClusterDto> clusters = new ArrayList<>();
+        int clampedZoom = clampZoom(zoom);
+        lock.readLock().lock();
+        try {
+            Map<Long, ClusterCell> level = levels.get(clampedZoom);
+            for (long key : cellKeysWithin(box, clampedZoom)) {
+                clusters.add(level.get(key).toDto());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return clusters;
+    }
+
+    public int clampZoom(int zoom) {
+        return Math.max(0, Math.min(zoom, maxZoom));
+    }
+
+    // 영역과 겹치는 셀 키 목록 (읽기 잠금 필요)
+    private List<Long> cellKeysWithin(BoundingBox box, int zoom) {
+        Map<Long, ClusterCell> level = levels.get(zoom);
+        double cellSize = cellSize(zoom);
+        long columns = columns(zoom);
+        long minRow = index(box.getMinLatitude() + 90.0, cellSize);
+        long maxRow = index(box.getMaxLatitude() + 90.0, cellSize);
+        long minCol = index(box.getMinLongitude() + 180.0, cellSize);
+        long maxCol = index(box.getMaxLongitude() + 180.0, cellSize);
+
+        List<Long> result = new ArrayList<>();
+
+        // 줌에 비해 영역이 너무 넓으면 셀 범위 대신 존재하는 셀만 확인
+        if ((maxRow - minRow + 1) * (maxCol - minCol + 1) > level.size()) {
+            for (long key : level.keySet()) {
+                long row = key / columns;
+                long col = key % columns;
+                if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                    result.add(key);
+                }
+            }
+            return result;
+        }
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                long key = row * columns + col;
+                if (level.containsKey(key)) {
+                    result.add(key);
+                }
+            }
+        }
+        return result;
+    }
+
+    // 셀 안에서 영역에 들어오는 맛집 수 (읽기 잠금 필요)
+    // 경계에 걸친 셀은 한 단계 아래의 셀 4개로 나눠 세고, 가장 깊은 줌에서는 좌표를 하나씩 확인
+    private long countWithin(BoundingBox box, int zoom, long key) {
+        ClusterCell cell = levels.get(zoom).get(key);
+        if (cell == null) {
+            return 0;
+        }
+        double cellSize = cellSize(zoom);
+        long columns = columns(zoom);
+        long row = key / columns;
+        long col = key % columns;
+        double minLatitude = row * cellSize - 90.0;
+        double minLongitude = col * cellSize - 180.0;
+        if (minLatitude >= box.getMinLatitude() && minLatitude + cellSize <= box.getMaxLatitude()
+                && minLongitude >= box.getMinLongitude() && minLongitude + cellSize <= box.getMaxLongitude()) {
+            return cell.count;
+        }
+
+        if (zoom == maxZoom) {
+            long inside = 0;
+            for (int i = 0; i < cell.pointCount; i++) {
+                if (box.contains(cell.points[2 * i], cell.points[2 * i + 1])) {
+                    inside++;
+                }
+            }
+            return inside;
+        }
+
+        long total = 0;
+        long childColumns = columns(zoom + 1);
+        for (long childRow = row * 2; childRow <= row * 2 + 1; childRow++) {
+            for (long childCol = col * 2; childCol <= col * 2 + 1; childCol++) {
+                total += countWithin(box, zoom + 1, childRow * childColumns + childCol);
+            }
+        }
+        return total;
+    }
+
+    // 모든 줌 레벨의 해당 셀에 delta(+1/-1)만큼 반영 (쓰기 잠금 필요)
+    private void update(RestaurantResponseDto restaurant, int delta) {
+        double latitude = restaurant.getLatitude();
+        double longitude = restaurant.getLongitude();
+        int category = restaurant.getCategory().ordinal();
+
+        for (int zoom = 0; zoom <= maxZoom; zoom++) {
+            double cellSize = cellSize(zoom);
+            long key = index(latitude + 90.0, cellSize) * columns(zoom) + index(longitude + 180.0, cellSize);
+            Map<Long, ClusterCell> level = levels.get(zoom);
+
+            ClusterCell cell = level.computeIfAbsent(key, k -> new ClusterCell());
+            cell.count += delta;
+            cell.latitudeSum += delta * latitude;
+            cell.longitudeSum += delta * longitude;
+            cell.categoryCounts[category] += delta;
+            if (zoom == maxZoom) {
+                if (delta > 0) {
+                    cell.addPoint(latitude, longitude);
+                } else {
+                    cell.removePoint(latitude, longitude);
+                }
+            }
+            if (cell.count <= 0) {
+                level.remove(key);
+            }
+        }
+    }
+
+    private static double cellSize(int zoom) {
+        return 360.0 / ((1L << zoom) * CELLS_PER_TILE);
+    }
+
+    private static long columns(int zoom) {
+        return (1L << zoom) * CELLS_PER_TILE + 1;
+    }
+
+    private static long index(double offset, double cellSize) {
+        return (long) Math.floor(offset / cellSize);
+    }
+
+    private static class ClusterCell {
+        private long count;
+        private double latitudeSum;
+        private double longitudeSum;
+        private final long[] categoryCounts = new long[CATEGORIES.length];
+
+        // 맛집 좌표 (가장 깊은 줌의 셀만, 위도/경도 순으로 이어 붙임)
+        private double[] points;
+        private int pointCount;
+
+        private void addPoint(double latitude, double longitude) {
+            if (points == null) {
+                points = new double[2];
+            } else if (pointCount * 2 == points.length) {
+                points = Arrays.copyOf(points, points.length * 2);
+            }
+            points[2 * pointCount] = latitude;
+            points[2 * pointCount + 1] = longitude;
+            pointCount++;
+        }
+
+        private void removePoint(double latitude, double longitude) {
+            for (int i = 0; i < pointCount; i++) {
+                if (points[2 * i] == latitude && points[2 * i + 1] == longitude) {
+                    pointCount--;
+                    points[2 * i] = points[2 * pointCount];
+                    points[2 * i + 1] = points[2 * pointCount + 1];
+                    return;
+                }
+            }
+        }
+
+        private RestaurantClusterDto toDto() {
+            Map<Category, Long> mix = new EnumMap<>(Category.class);
+            for (int i = 0; i < categoryCounts.length; i++) {
+                if (categoryCounts[i] > 0) {
+                    mix.put(CATEGORIES[i], categoryCounts[i]);
+                }
+            }
+            return RestaurantClusterDto.builder()
+                    .latitude(latitudeSum / count)
+                    .longitude(longitudeSum / count)
+                    .count(count)
+                    .categoryCounts(mix)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.motmap.repository;
+
+import com.motmap.entity.CacheEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CacheEventRepository extends JpaRepository<CacheEvent, Long> {
+
+    // 마지막으로 확인한 ID 이후 기록 (기본 키 범위 검색)
+    List<CacheEvent> findTop100ByIdGreaterThanOrderByIdAsc(Long id);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM CacheEvent e")
+    Long findMaxId();
+
+    // 보관 기간이 지난 기록 삭제
+    @Modifying
+    @Query("DELETE FROM CacheEvent e WHERE e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
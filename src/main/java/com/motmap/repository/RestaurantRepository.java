@@ -1,25 +1,101 @@
 package com.motmap.repository;
 
+import com.motmap.dto.RestaurantResponseDto;
 import com.motmap.entity.Restaurant;
 import com.motmap.entity.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
 
-    // 카테고리별 조회
-    List<Restaurant> findByCategory(Category category);
+    // 조회 API용 DTO 프로젝션 (작성자를 한 번의 조인으로 함께 읽고, 엔티티를 만들지 않음)
+    String DTO_SELECT = "SELECT new com.motmap.dto.RestaurantResponseDto(r.id, r.name, r.address, r.category, " +
+           "r.rating, r.review, r.imageUrl, r.latitude, r.longitude, r.createdAt, r.updatedAt, " +
+           "u.username, u.nickname) FROM Restaurant r LEFT JOIN r.user u ";
+
+    // 전체 조회 (ID 순)
+    @Query(DTO_SELECT + "ORDER BY r.id")
+    List<RestaurantResponseDto> findAllDtos();
+
+    // 전체 스트리밍 조회 (ID 순, 결과를 한 번에 올리지 않고 fetch size 단위로 읽음, 트랜잭션 안에서 닫아야 함)
+    // MySQL은 JDBC URL에 useCursorFetch=true가 있어야 fetch size 단위로 읽는다
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(DTO_SELECT + "ORDER BY r.id")
+    Stream<RestaurantResponseDto> streamAllDtos();
+
+    // 페이징 조회 (정렬은 Pageable 기준)
+    @Query(value = DTO_SELECT, countQuery = "SELECT COUNT(r) FROM Restaurant r")
+    Page<RestaurantResponseDto> findDtoPage(Pageable pageable);
+
+    // 커서 페이징 (정렬 키 + ID 순, 마지막 행 다음부터 인덱스를 타고 읽으므로 깊이와 무관하게 페이지 크기만큼만 읽음)
+    // 정렬 키의 범위 조건(<=, >=)을 앞에 두어 (정렬 키, id) 복합 인덱스를 마지막 행 위치부터 범위 검색하게 함
+    @Query(DTO_SELECT + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RestaurantResponseDto> findDtosByCreatedAtDesc(Pageable limit);
+
+    @Query(DTO_SELECT + "WHERE r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RestaurantResponseDto> findDtosByCreatedAtDescAfter(@Param("createdAt") java.time.LocalDateTime createdAt,
+                                                             @Param("id") Long id, Pageable limit);
+
+    @Query(DTO_SELECT + "ORDER BY r.createdAt ASC, r.id ASC")
+    List<RestaurantResponseDto> findDtosByCreatedAtAsc(Pageable limit);
+
+    @Query(DTO_SELECT + "WHERE r.createdAt >= :createdAt AND (r.createdAt > :createdAt OR r.id > :id) " +
+           "ORDER BY r.createdAt ASC, r.id ASC")
+    List<RestaurantResponseDto> findDtosByCreatedAtAscAfter(@Param("createdAt") java.time.LocalDateTime createdAt,
+                                                            @Param("id") Long id, Pageable limit);
+
+    @Query(DTO_SELECT + "ORDER BY r.rating DESC, r.id DESC")
+    List<RestaurantResponseDto> findDtosByRatingDesc(Pageable limit);
+
+    @Query(DTO_SELECT + "WHERE r.rating <= :rating AND (r.rating < :rating OR r.id < :id) " +
+           "ORDER BY r.rating DESC, r.id DESC")
+    List<RestaurantResponseDto> findDtosByRatingDescAfter(@Param("rating") Integer rating,
+                                                          @Param("id") Long id, Pageable limit);
+
+    @Query(DTO_SELECT + "ORDER BY r.rating ASC, r.id ASC")
+    List<RestaurantResponseDto> findDtosByRatingAsc(Pageable limit);
+
+    @Query(DTO_SELECT + "WHERE r.rating >= :rating AND (r.rating > :rating OR r.id > :id) " +
+           "ORDER BY r.rating ASC, r.id ASC")
+    List<RestaurantResponseDto> findDtosByRatingAscAfter(@Param("rating") Integer rating,
+                                                         @Param("id") Long id, Pageable limit);
+
+    // 상세 조회
+    @Query(DTO_SELECT + "WHERE r.id = :id")
+    Optional<RestaurantResponseDto> findDtoById(@Param("id") Long id);
+
+    // 여러 ID 일괄 조회 (IN 쿼리 한 번)
+    @Query(DTO_SELECT + "WHERE r.id IN :ids ORDER BY r.id")
+    List<RestaurantResponseDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 카테고리별 조회 (ID 순)
+    @Query(DTO_SELECT + "WHERE r.category = :category ORDER BY r.id")
+    List<RestaurantResponseDto> findDtosByCategory(@Param("category") Category category);
 
     // 평점별 조회
     List<Restaurant> findByRating(Integer rating);
 
-    // 평점 이상 조회
-    List<Restaurant> findByRatingGreaterThanEqual(Integer rating);
+    // 평점 이상 조회 (평점, ID 순)
+    @Query(DTO_SELECT + "WHERE r.rating >= :rating ORDER BY r.rating, r.id")
+    List<RestaurantResponseDto> findDtosByRatingAtLeast(@Param("rating") Integer rating);
 
     // 이름으로 검색 (대소문자 무시)
     List<Restaurant> findByNameContainingIgnoreCase(String name);
@@ -30,30 +106,54 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     // 리뷰로 검색 (대소문자 무시)
     List<Restaurant> findByReviewContainingIgnoreCase(String review);
 
-    // 통합 검색 (이름, 주소, 리뷰에서 검색)
-    @Query("SELECT r FROM Restaurant r WHERE " +
-           "LOWER(r.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.address) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.review) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<Restaurant> searchByKeyword(@Param("keyword") String keyword);
+    // 통합 검색 (이름, 주소, 리뷰에서 검색, ID 순)
+    // %와 _도 글자 그대로 비교해 n-gram 검색 인덱스와 같은 결과를 돌려줌
+    default List<RestaurantResponseDto> searchDtosByKeyword(String keyword) {
+        if (keyword == null) {
+            return List.of();
+        }
+        return searchDtosByEscapedKeyword(keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_"));
+    }
+
+    // 통합 검색 (keyword의 %, _, !는 '!'로 이스케이프된 상태여야 함)
+    @Query(DTO_SELECT + "WHERE " +
+           "LOWER(r.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!' OR " +
+           "LOWER(r.address) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!' OR " +
+           "LOWER(r.review) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!' " +
+           "ORDER BY r.id")
+    List<RestaurantResponseDto> searchDtosByEscapedKeyword(@Param("keyword") String keyword);
 
     // 평점순 정렬 (높은 순)
-    List<Restaurant> findAllByOrderByRatingDesc();
+    @Query(DTO_SELECT + "ORDER BY r.rating DESC")
+    List<RestaurantResponseDto> findAllDtosOrderByRatingDesc();
 
     // 최신순 정렬
-    List<Restaurant> findAllByOrderByCreatedAtDesc();
+    @Query(DTO_SELECT + "ORDER BY r.createdAt DESC")
+    List<RestaurantResponseDto> findAllDtosOrderByCreatedAtDesc();
 
     // 이름과 주소로 중복 검사
     boolean existsByNameAndAddress(String name, String address);
 
-    // 위치 기반 검색 (반경 내 검색)
-    @Query(value = "SELECT * FROM restaurants WHERE " +
-           "(6371 * acos(cos(radians(:lat)) * cos(radians(latitude)) * " +
-           "cos(radians(longitude) - radians(:lng)) + sin(radians(:lat)) * " +
-           "sin(radians(latitude)))) < :radius", nativeQuery = true)
-    List<Restaurant> findNearbyRestaurants(@Param("lat") Double latitude,
-                                         @Param("lng") Double longitude,
-                                         @Param("radius") Double radius);
+    // 대량 가져오기 중복 검사용 이름/주소 전체 (한 번만 읽어 메모리에서 비교)
+    @Query("SELECT r.name, r.address FROM Restaurant r")
+    List<Object[]> findAllNameAndAddress();
+
+    // 사각 영역 내 검색 (idx_restaurant_location 범위 검색, 반경 검색은 결과를 대원 거리로 한 번 더 거름)
+    @Query(DTO_SELECT + "WHERE r.latitude BETWEEN :minLat AND :maxLat " +
+           "AND r.longitude BETWEEN :minLng AND :maxLng ORDER BY r.id")
+    List<RestaurantResponseDto> findDtosInBox(@Param("minLat") Double minLatitude,
+                                              @Param("maxLat") Double maxLatitude,
+                                              @Param("minLng") Double minLongitude,
+                                              @Param("maxLng") Double maxLongitude);
+
+    // 지도 타일용 최소 컬럼 조회 (ID, 위도, 경도, 카테고리, 평점)
+    @Query("SELECT r.id, r.latitude, r.longitude, r.category, r.rating FROM Restaurant r " +
+           "WHERE r.latitude BETWEEN :minLat AND :maxLat AND r.longitude BETWEEN :minLng AND :maxLng " +
+           "ORDER BY r.id")
+    List<Object[]> findTilePoints(@Param("minLat") Double minLatitude,
+                                  @Param("maxLat") Double maxLatitude,
+                                  @Param("minLng") Double minLongitude,
+                                  @Param("maxLng") Double maxLongitude);
 
     // 통계 조회를 위한 쿼리들
     @Query("SELECT AVG(r.rating) FROM Restaurant r")
@@ -67,4 +167,14 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
 
     @Query("SELECT r.rating, COUNT(r) FROM Restaurant r GROUP BY r.rating ORDER BY r.rating")
     List<Object[]> findRatingStatistics();
+
+    // 통계 집계 재구성용 (ID, 카테고리, 평점, 등록 시각만 읽음)
+    @Query("SELECT r.id, r.category, r.rating, r.createdAt FROM Restaurant r")
+    List<Object[]> findStatsRows();
+
+    // 일별 통계 집계용 (등록 시각, 카테고리, 평점만 읽음)
+    @Query("SELECT r.createdAt, r.category, r.rating FROM Restaurant r " +
+           "WHERE r.createdAt >= :from AND r.createdAt < :to")
+    List<Object[]> findStatsRowsCreatedBetween(@Param("from") java.time.LocalDateTime from,
+                                               @Param("to") java.time.LocalDateTime to);
 }
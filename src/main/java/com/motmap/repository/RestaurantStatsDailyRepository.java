@@ -0,0 +1,26 @@
+package com.motmap.repository;
+
+import com.motmap.entity.RestaurantStatsDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RestaurantStatsDailyRepository extends JpaRepository<RestaurantStatsDaily, Long> {
+
+    // 마지막으로 집계한 날짜 (집계 작업의 기준점)
+    @Query("SELECT MAX(s.statDate) FROM RestaurantStatsDaily s")
+    LocalDate findMaxStatDate();
+
+    List<RestaurantStatsDaily> findByStatDateBetweenOrderByStatDateAsc(LocalDate from, LocalDate to);
+
+    // 다시 집계할 날짜 이후의 행 삭제
+    @Modifying
+    @Query("DELETE FROM RestaurantStatsDaily s WHERE s.statDate >= :from")
+    int deleteFrom(@Param("from") LocalDate from);
+}
@@ -0,0 +1,36 @@
+package com.motmap.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 맛집 여러 건이 한꺼번에 바뀌었음을 알리는 이벤트 (대량 가져오기 등)
+ * 건별 RestaurantChangedEvent 대신 한 번만 발행해, 인덱스는 DB에서 다시 구성하고 캐시는 통째로 비운다.
+ * 리스너 실행 순서는 RestaurantChangedEvent와 같다(ChangeListenerOrder).
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CatalogReloadedEvent {
+
+    // 바뀐 맛집 수 (다른 노드에서 다시 발행한 이벤트는 0)
+    private final long changedCount;
+
+    // 다른 노드의 변경을 변경 기록에서 읽어 다시 발행한 이벤트인지 (다시 기록하지 않음)
+    private final boolean replayed;
+
+    // 변경 기록(cache_events) ID (기록하거나 기록에서 다시 발행할 때 CacheEventBus가 채움, 없으면 0)
+    private volatile long logId;
+
+    public static CatalogReloadedEvent imported(long changedCount) {
+        return new CatalogReloadedEvent(changedCount, false);
+    }
+
+    public static CatalogReloadedEvent replayed() {
+        return new CatalogReloadedEvent(0, true);
+    }
+
+    public void setLogId(long logId) {
+        this.logId = logId;
+    }
+}
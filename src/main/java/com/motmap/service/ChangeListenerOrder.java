@@ -0,0 +1,17 @@
+package com.motmap.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * RestaurantChangedEvent 커밋 후 리스너 실행 순서
+ * 인덱스를 먼저 갱신해야 캐시를 비운 직후 다시 채워지는 값이 최신 인덱스를 기준으로 만들어진다.
+ * 데이터 버전은 인덱스와 캐시가 모두 반영된 뒤 마지막에 올려, 새 ETag로 응답하는 내용이 항상 최신이 되게 한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ChangeListenerOrder {
+
+    public static final int INDEX = 0;
+    public static final int CACHE = 100;
+    public static final int VERSION = 200;
+}
@@ -0,0 +1,74 @@
+package com.motmap.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.motmap.cache.CacheEventBus;
+import com.motmap.config.CacheConfig;
+import com.motmap.dto.CacheEventMetricsDto;
+import com.motmap.dto.CacheMetricsDto;
+import com.motmap.dto.SuggestIndexMetricsDto;
+import com.motmap.index.SuggestTrie;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 운영 지표 조회 (인메모리 인덱스 크기, 캐시 통계 등)
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricsService {
+
+    private final SuggestTrie suggestTrie;
+    private final CacheManager cacheManager;
+    private final CacheEventBus cacheEventBus;
+
+    public SuggestIndexMetricsDto getSuggestIndexMetrics() {
+        return suggestTrie.metrics();
+    }
+
+    /**
+     * 캐시별 크기, 적중/미적중, 축출, 불러오기 시간 통계
+     */
+    public List<CacheMetricsDto> getCacheMetrics() {
+        List<CacheMetricsDto> metrics = new ArrayList<>();
+        for (String name : CacheConfig.CACHE_NAMES) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache caffeineCache) {
+                metrics.add(toMetrics(name, caffeineCache.getNativeCache()));
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * 노드 간 캐시 동기화 지연과 반영 속도
+     */
+    public CacheEventMetricsDto getCacheEventMetrics() {
+        return cacheEventBus.metrics();
+    }
+
+    private static CacheMetricsDto toMetrics(String name, Cache<Object, Object> cache) {
+        CacheStats stats = cache.stats();
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.policy().eviction();
+        return CacheMetricsDto.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .weightedSize(eviction.flatMap(policy -> policy.weightedSize().stream().boxed().findFirst()).orElse(null))
+                .maximumWeight(eviction.map(Policy.Eviction::getMaximum).orElse(null))
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .loadCount(stats.loadCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .build();
+    }
+}
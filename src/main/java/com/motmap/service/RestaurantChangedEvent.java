@@ -0,0 +1,57 @@
+package com.motmap.service;
+
+import com.motmap.dto.RestaurantResponseDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 맛집 등록/수정/삭제 이벤트
+ * 변경 전/후 스냅샷을 담아 인메모리 인덱스와 캐시가 필요한 부분만 갱신할 수 있게 한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RestaurantChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+
+    // 변경 전 상태 (등록 시 null)
+    private final RestaurantResponseDto before;
+
+    // 변경 후 상태 (삭제 시 null)
+    private final RestaurantResponseDto after;
+
+    // 다른 노드의 변경을 변경 기록에서 읽어 다시 발행한 이벤트인지 (다시 기록하지 않음)
+    private final boolean replayed;
+
+    // 변경 기록(cache_events) ID (기록하거나 기록에서 다시 발행할 때 CacheEventBus가 채움, 없으면 0)
+    private volatile long logId;
+
+    public static RestaurantChangedEvent created(RestaurantResponseDto after) {
+        return new RestaurantChangedEvent(Type.CREATED, null, after, false);
+    }
+
+    public static RestaurantChangedEvent updated(RestaurantResponseDto before, RestaurantResponseDto after) {
+        return new RestaurantChangedEvent(Type.UPDATED, before, after, false);
+    }
+
+    public static RestaurantChangedEvent deleted(RestaurantResponseDto before) {
+        return new RestaurantChangedEvent(Type.DELETED, before, null, false);
+    }
+
+    public static RestaurantChangedEvent replayed(Type type, RestaurantResponseDto before, RestaurantResponseDto after) {
+        return new RestaurantChangedEvent(type, before, after, true);
+    }
+
+    public void setLogId(long logId) {
+        this.logId = logId;
+    }
+
+    public Long getRestaurantId() {
+        return after != null ? after.getId() : before.getId();
+    }
+}
@@ -0,0 +1,70 @@
+package com.motmap.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.repository.RestaurantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 맛집 목록 내보내기 (NDJSON: 한 줄에 맛집 하나)
+ * DB 커서로 읽은 행을 바로 직렬화해 내보내므로 맛집 수와 관계없이 메모리 사용량이 일정하고,
+ * 마지막 행을 읽기 전에 첫 행부터 응답이 나간다.
+ * DTO 프로젝션으로 읽어 영속성 컨텍스트에 엔티티가 쌓이지 않으므로 중간에 비울 필요가 없다.
+ */
+@Service
+@Slf4j
+public class RestaurantExportService {
+
+    // 이만큼 쓸 때마다 응답으로 밀어냄
+    private static final int FLUSH_EVERY = 100;
+
+    private final RestaurantRepository restaurantRepository;
+    private final ObjectWriter writer;
+
+    public RestaurantExportService(RestaurantRepository restaurantRepository, ObjectMapper objectMapper) {
+        this.restaurantRepository = restaurantRepository;
+        // 행마다 flush하지 않고 FLUSH_EVERY 단위로 직접 flush
+        this.writer = objectMapper.writerFor(RestaurantResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 전체 맛집을 ID 순으로 NDJSON으로 기록
+     * 스트림은 트랜잭션이 열려 있는 동안에만 읽을 수 있으므로, 응답을 쓰는 스레드에서 이 메서드를 호출해야 한다.
+     * @return 기록한 맛집 수
+     */
+    @Transactional(readOnly = true)
+    public long exportAll(OutputStream out) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long count = 0;
+        try (Stream<RestaurantResponseDto> rows = restaurantRepository.streamAllDtos();
+             JsonGenerator generator = writer.getFactory().createGenerator(out)) {
+            // 응답 스트림은 컨테이너가 닫음, 값 사이 구분자는 기본 공백 대신 줄바꿈만 직접 기록
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<RestaurantResponseDto> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                count++;
+                // 첫 행은 바로 내보내고, 이후에는 FLUSH_EVERY 행마다
+                if (count == 1 || count % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        log.debug("맛집 목록 스트리밍 완료 - {}개, {}ms", count, System.currentTimeMillis() - startedAt);
+        return count;
+    }
+}
@@ -0,0 +1,505 @@
+package com.motmap.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.motmap.dto.ImportFormat;
+import com.motmap.dto.ImportReportDto;
+import com.motmap.dto.RestaurantRequestDto;
+import com.motmap.entity.Category;
+import com.motmap.entity.Restaurant;
+import com.motmap.entity.User;
+import com.motmap.exception.BusinessException;
+import com.motmap.exception.ErrorCode;
+import com.motmap.exception.UserNotFoundException;
+import com.motmap.repository.RestaurantRepository;
+import com.motmap.repository.UserRepository;
+import com.motmap.util.CsvReader;
+import com.motmap.util.LocationUtils;
+import com.motmap.util.ValidationUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.motmap.exception.ErrorCode.INVALID_REQUEST;
+
+/**
+ * 맛집 대량 가져오기 (CSV / NDJSON)
+ * 파일을 batch-size 행씩 끊어 단계별로 처리한다.
+ *   1. 읽기: 한 덩어리만큼만 읽어 메모리 사용량이 파일 크기와 무관하다.
+ *   2. 검증: 덩어리 안의 행을 병렬로 검증한다(맛집 등록과 같은 ValidationUtils/LocationUtils 기준).
+ *   3. 중복 제거: 시작할 때 한 번 읽어 둔 이름+주소 집합으로 비교하므로 행마다 DB를 조회하지 않는다. 파일 안의 반복도 걸러진다.
+ *   4. 저장: 덩어리 하나를 JDBC 배치 INSERT 한 번, 트랜잭션 한 번으로 저장한다.
+ *      ID는 엔티티 저장과 같은 Hibernate 풀링 시퀀스 생성기에서 받아, JPA로 저장하는 맛집과 겹치지 않는다.
+ *      (엔티티가 IDENTITY로 설정되어 INSERT 전에 ID를 받을 수 없으면 ID 열을 빼고 DB가 부여하게 한다.)
+ * 건별 변경 이벤트는 발행하지 않고, 끝난 뒤 CatalogReloadedEvent 한 번으로 인덱스를 다시 구성하고 캐시를 비운다.
+ * 저장 도중 실패해도 이미 커밋한 덩어리는 남으므로, 그때까지의 변경도 같은 방식으로 반영한다.
+ */
+@Service
+@Slf4j
+public class RestaurantImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO restaurants " +
+            "(id, name, address, category, rating, review, image_url, latitude, longitude, user_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // ID를 DB가 부여할 때 (IDENTITY)
+    private static final String INSERT_GENERATED_ID_SQL = "INSERT INTO restaurants " +
+            "(name, address, category, rating, review, image_url, latitude, longitude, user_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // CSV 열 이름 (대소문자와 밑줄은 무시하고 비교)
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "address", "category", "rating", "latitude", "longitude");
+    private static final List<String> OPTIONAL_COLUMNS = List.of("review", "imageurl");
+
+    private static final int MAX_IMAGE_URL_LENGTH = 1000;
+
+    private final RestaurantRepository restaurantRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    // INSERT 전에 ID를 할당하는 생성기 (IDENTITY면 null)
+    private final IdentifierGenerator idGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader requestReader;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    // 동시에 하나만 실행 (중복 검사 집합을 가져오기마다 따로 들고 있으므로)
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public RestaurantImportService(RestaurantRepository restaurantRepository,
+                                   UserRepository userRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   EntityManager entityManager,
+                                   EntityManagerFactory entityManagerFactory,
+                                   PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher eventPublisher,
+                                   ObjectMapper objectMapper,
+                                   @Value("${motmap.import.batch-size:1000}") int batchSize,
+                                   @Value("${motmap.import.max-reported-errors:100}") int maxReportedErrors) {
+        this.restaurantRepository = restaurantRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.idGenerator = restaurantIdGenerator(entityManagerFactory);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.requestReader = objectMapper.readerFor(RestaurantRequestDto.class);
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * 파일을 읽어 맛집을 등록 (등록자는 현재 로그인한 관리자)
+     * @param format 파일 형식 (없으면 Content-Type으로 판별)
+     */
+    public ImportReportDto importRestaurants(InputStream in, String contentType, ImportFormat format) throws IOException {
+        ImportFormat resolved = format != null ? format : ImportFormat.fromContentType(contentType)
+                .orElseThrow(() -> new BusinessException(INVALID_REQUEST,
+                        "지원하지 않는 파일 형식입니다. text/csv 또는 application/x-ndjson으로 보내거나 format을 지정하세요"));
+
+        if (!running.compareAndSet(false, true)) {
+            throw new BusinessException(INVALID_REQUEST, "이미 다른 맛집 가져오기가 진행 중입니다");
+        }
+        try {
+            Long ownerId = getCurrentUser().getId();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            RowSource source = resolved == ImportFormat.CSV ? new CsvRowSource(new CsvReader(reader)) : new NdjsonRowSource(reader);
+            return run(source, resolved, ownerId);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ImportReportDto run(RowSource source, ImportFormat format, Long ownerId) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        Progress progress = new Progress();
+        Set<String> seen = loadExistingKeys();
+        log.info("맛집 가져오기 시작 - 형식: {}, 등록된 맛집 {}개", format, seen.size());
+
+        try {
+            List<Row> chunk = new ArrayList<>(batchSize);
+            Row row;
+            while ((row = source.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == batchSize) {
+                    processChunk(chunk, seen, ownerId, progress);
+                    chunk.clear();
+                    logProgress(progress, startedAt);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, seen, ownerId, progress);
+            }
+        } catch (DataAccessException e) {
+            log.error("맛집 가져오기 저장 실패 - {}행까지 처리, {}건 저장됨", progress.total, progress.imported, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "맛집 저장 중 오류가 발생했습니다. " + progress.imported + "건까지 저장되었습니다");
+        } finally {
+            if (progress.imported > 0) {
+                // 건별 이벤트 대신 한 번만 알려 인덱스 재구성과 캐시 비우기도 한 번만 일어나게 함
+                transactionTemplate.executeWithoutResult(status ->
+                        eventPublisher.publishEvent(CatalogReloadedEvent.imported(progress.imported)));
+            }
+        }
+
+        long duration = System.currentTimeMillis() - startedAt;
+        ImportReportDto report = ImportReportDto.builder()
+                .format(format)
+                .totalRows(progress.total)
+                .imported(progress.imported)
+                .duplicates(progress.duplicates)
+                .invalid(progress.invalid)
+                .errors(progress.errors)
+                .durationMillis(duration)
+                .rowsPerSecond(rowsPerSecond(progress.total, duration))
+                .build();
+        log.info("맛집 가져오기 완료 - {}행 중 {}건 등록, 중복 {}행, 오류 {}행, {}ms ({}행/초)",
+                report.getTotalRows(), report.getImported(), report.getDuplicates(), report.getInvalid(),
+                duration, report.getRowsPerSecond());
+        return report;
+    }
+
+    // 검증(병렬) -> 중복 제거 -> 배치 저장
+    private void processChunk(List<Row> chunk, Set<String> seen, Long ownerId, Progress progress) {
+        List<String> errors = chunk.parallelStream()
+                .map(row -> row.error != null ? row.error : validate(row.request))
+                .toList();
+
+        List<RestaurantRequestDto> accepted = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Row row = chunk.get(i);
+            progress.total++;
+            if (errors.get(i) != null) {
+                progress.invalid++;
+                progress.addError(row.line, errors.get(i), maxReportedErrors);
+            } else if (!seen.add(key(row.request.getName(), row.request.getAddress()))) {
+                progress.duplicates++;
+            } else {
+                accepted.add(row.request);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            transactionTemplate.executeWithoutResult(status -> {
+                long[] ids = idGenerator != null ? allocateIds(accepted.size()) : null;
+                // 첫 번째 자리는 ID (DB가 부여하면 비우고 한 칸씩 당김)
+                int offset = ids != null ? 1 : 0;
+                jdbcTemplate.batchUpdate(ids != null ? INSERT_SQL : INSERT_GENERATED_ID_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        RestaurantRequestDto request = accepted.get(i);
+                        if (ids != null) {
+                            ps.setLong(1, ids[i]);
+                        }
+                        ps.setString(offset + 1, request.getName());
+                        ps.setString(offset + 2, request.getAddress());
+                        ps.setString(offset + 3, request.getCategory().name());
+                        ps.setInt(offset + 4, request.getRating());
+                        ps.setString(offset + 5, request.getReview());
+                        ps.setString(offset + 6, request.getImageUrl());
+                        ps.setDouble(offset + 7, request.getLatitude());
+                        ps.setDouble(offset + 8, request.getLongitude());
+                        ps.setLong(offset + 9, ownerId);
+                        ps.setTimestamp(offset + 10, now);
+                        ps.setTimestamp(offset + 11, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return accepted.size();
+                    }
+                });
+            });
+            progress.imported += accepted.size();
+        }
+    }
+
+    // 시퀀스는 할당 블록(50개)마다 한 번만 읽음
+    private long[] allocateIds(int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = ((Number) idGenerator.generate(session, null)).longValue();
+        }
+        return ids;
+    }
+
+    // 맛집 등록(RestaurantService)과 같은 기준으로 검증, 통과하면 null
+    private static String validate(RestaurantRequestDto request) {
+        if (!ValidationUtils.isValidRestaurantName(request.getName())) {
+            return "올바르지 않은 맛집 이름입니다";
+        }
+        if (!ValidationUtils.isValidAddress(request.getAddress())) {
+            return "올바르지 않은 주소입니다";
+        }
+        if (request.getCategory() == null) {
+            return "카테고리는 필수입니다";
+        }
+        if (!ValidationUtils.isValidRating(request.getRating())) {
+            return ErrorCode.INVALID_RATING.getMessage();
+        }
+        if (!ValidationUtils.isValidReview(request.getReview())) {
+            return "리뷰가 너무 깁니다";
+        }
+        if (request.getImageUrl() != null && request.getImageUrl().length() > MAX_IMAGE_URL_LENGTH) {
+            return "사진 URL이 너무 깁니다";
+        }
+        if (!LocationUtils.isValidLocation(request.getLatitude(), request.getLongitude())) {
+            return ErrorCode.INVALID_LOCATION.getMessage();
+        }
+        return null;
+    }
+
+    // Restaurant 엔티티에 설정된 ID 생성기 (IDENTITY처럼 INSERT 전에 ID를 할당하지 않으면 null)
+    private static IdentifierGenerator restaurantIdGenerator(EntityManagerFactory entityManagerFactory) {
+        Generator generator = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(Restaurant.class)
+                .getGenerator();
+        if (generator instanceof IdentifierGenerator identifierGenerator && !generator.generatedOnExecution()) {
+            return identifierGenerator;
+        }
+        log.warn("맛집 ID 생성기가 INSERT 전에 ID를 할당하지 않아 가져오기에서는 DB가 ID를 부여합니다: {}",
+                generator.getClass().getName());
+        return null;
+    }
+
+    private Set<String> loadExistingKeys() {
+        List<Object[]> rows = restaurantRepository.findAllNameAndAddress();
+        Set<String> keys = new HashSet<>(Math.max(16, rows.size() * 2));
+        for (Object[] row : rows) {
+            keys.add(key((String) row[0], (String) row[1]));
+        }
+        return keys;
+    }
+
+    // existsByNameAndAddress와 같이 이름과 주소가 정확히 같으면 중복
+    private static String key(String name, String address) {
+        return name + '\n' + address;
+    }
+
+    private void logProgress(Progress progress, long startedAt) {
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("맛집 가져오기 진행 - {}행 처리, {}건 등록, 중복 {}행, 오류 {}행 ({}행/초)",
+                progress.total, progress.imported, progress.duplicates, progress.invalid,
+                rowsPerSecond(progress.total, elapsed));
+    }
+
+    private static double rowsPerSecond(long rows, long millis) {
+        return Math.round(rows * 10_000.0 / Math.max(1, millis)) / 10.0;
+    }
+
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new BusinessException(ErrorCode.AUTHENTICATION_FAILED, "로그인이 필요합니다");
+        }
+        String username = authentication.getName();
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
+    }
+
+    /**
+     * 읽은 행 (형식 오류가 있으면 request 대신 error)
+     */
+    private static final class Row {
+
+        private final long line;
+        private final RestaurantRequestDto request;
+        private final String error;
+
+        private Row(long line, RestaurantRequestDto request, String error) {
+            this.line = line;
+            this.request = request;
+            this.error = error;
+        }
+    }
+
+    private interface RowSource {
+
+        // 다음 행 (파일 끝이면 null)
+        Row next() throws IOException;
+    }
+
+    private static final class Progress {
+
+        private long total;
+        private long imported;
+        private long duplicates;
+        private long invalid;
+        private final List<ImportReportDto.RowError> errors = new ArrayList<>();
+
+        private void addError(long line, String message, int limit) {
+            if (errors.size() < limit) {
+                errors.add(new ImportReportDto.RowError(line, message));
+            }
+        }
+    }
+
+    /**
+     * CSV: 첫 행은 헤더, 열 순서는 자유
+     */
+    private static final class CsvRowSource implements RowSource {
+
+        private final CsvReader reader;
+        private Map<String, Integer> columns;
+
+        private CsvRowSource(CsvReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (columns == null) {
+                readHeader();
+            }
+            List<String> fields = reader.next();
+            if (fields == null) {
+                return null;
+            }
+            long line = reader.getRecordLine();
+            if (fields.size() != columns.size()) {
+                return new Row(line, null, "열 개수가 헤더와 다릅니다 (" + fields.size() + "개, 헤더 " + columns.size() + "개)");
+            }
+
+            RestaurantRequestDto request = new RestaurantRequestDto();
+            request.setName(value(fields, "name"));
+            request.setAddress(value(fields, "address"));
+            request.setReview(value(fields, "review"));
+            request.setImageUrl(value(fields, "imageurl"));
+
+            String category = value(fields, "category");
+            request.setCategory(parseCategory(category));
+            if (category != null && request.getCategory() == null) {
+                return new Row(line, null, ErrorCode.INVALID_CATEGORY.getMessage() + ": " + category);
+            }
+            try {
+                String rating = value(fields, "rating");
+                request.setRating(rating != null ? Integer.valueOf(rating) : null);
+            } catch (NumberFormatException e) {
+                return new Row(line, null, "평점이 숫자가 아닙니다");
+            }
+            try {
+                String latitude = value(fields, "latitude");
+                String longitude = value(fields, "longitude");
+                request.setLatitude(latitude != null ? Double.valueOf(latitude) : null);
+                request.setLongitude(longitude != null ? Double.valueOf(longitude) : null);
+            } catch (NumberFormatException e) {
+                return new Row(line, null, "위도/경도가 숫자가 아닙니다");
+            }
+            return new Row(line, request, null);
+        }
+
+        private void readHeader() throws IOException {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new BusinessException(INVALID_REQUEST, "CSV 헤더가 없습니다");
+            }
+            columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(normalize(header.get(i)), i);
+            }
+            List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+            if (!missing.isEmpty()) {
+                throw new BusinessException(INVALID_REQUEST,
+                        "CSV 헤더에 필수 열이 없습니다: " + String.join(", ", missing)
+                                + " (선택: " + String.join(", ", OPTIONAL_COLUMNS) + ")");
+            }
+        }
+
+        // 빈 값은 null (앞뒤 공백 제거)
+        private String value(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static String normalize(String column) {
+            return column.trim().replace("_", "").toLowerCase(Locale.ROOT);
+        }
+
+        // 영문 이름(KOREAN) 또는 표시 이름(한식)
+        private static Category parseCategory(String value) {
+            if (value == null) {
+                return null;
+            }
+            for (Category category : Category.values()) {
+                if (category.name().equalsIgnoreCase(value) || category.getDisplayName().equals(value)) {
+                    return category;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * NDJSON: 한 줄에 맛집 등록 요청(JSON 객체) 하나, 빈 줄은 건너뜀
+     */
+    private final class NdjsonRowSource implements RowSource {
+
+        private final BufferedReader reader;
+        private long line = 0;
+
+        private NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            try {
+                RestaurantRequestDto request = requestReader.readValue(text);
+                return request != null ? new Row(line, request, null) : new Row(line, null, "맛집 정보가 비어 있습니다");
+            } catch (JsonProcessingException e) {
+                return new Row(line, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
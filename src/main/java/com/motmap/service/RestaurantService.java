@@ -1,9 +1,15 @@
 package com.motmap.service;
 
+import com.motmap.cache.CacheRefreshLoaders;
+import com.motmap.cache.NearbyQueryCache;
+import com.motmap.cache.RestaurantDetailCache;
 import com.motmap.dto.RestaurantRequestDto;
 import com.motmap.dto.RestaurantResponseDto;
 import com.motmap.dto.RestaurantPageResponseDto;
+import com.motmap.dto.RestaurantCursorPageDto;
 import com.motmap.dto.RestaurantStatsDto;
+import com.motmap.dto.SuggestionDto;
+import com.motmap.dto.ViewportResponseDto;
 import com.motmap.entity.Category;
 import com.motmap.entity.Restaurant;
 import com.motmap.entity.User;
@@ -13,27 +19,52 @@ import com.motmap.exception.InvalidLocationException;
 import com.motmap.exception.BusinessException;
 import com.motmap.exception.ErrorCode;
 import com.motmap.exception.UserNotFoundException;
+import com.motmap.index.GridSpatialIndex;
+import com.motmap.index.HangulSearchIndex;
+import com.motmap.index.KdTreeIndex;
+import com.motmap.index.Neighbor;
+import com.motmap.index.RankedHits;
+import com.motmap.index.SearchHit;
+import com.motmap.index.NgramSearchIndex;
+import com.motmap.index.RestaurantIndexManager;
+import com.motmap.index.RestaurantStatsAggregate;
+import com.motmap.index.SuggestTrie;
+import com.motmap.index.ViewportClusterIndex;
+import com.motmap.util.BoundingBox;
 import com.motmap.repository.RestaurantRepository;
 import com.motmap.repository.UserRepository;
 import com.motmap.util.LocationUtils;
+import com.motmap.util.PageCursor;
 import com.motmap.util.ValidationUtils;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static com.motmap.exception.ErrorCode.INVALID_REQUEST;
 import static com.motmap.exception.ErrorCode.INVALID_RATING;
@@ -45,33 +76,99 @@ import static com.motmap.exception.ErrorCode.UNAUTHORIZED;
 @Slf4j
 public class RestaurantService {
 
+    private static final int MAX_NEAREST_COUNT = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+
+    // 커서 페이징 정렬 기준 (인덱스가 있는 컬럼만)
+    private static final List<String> CURSOR_SORT_KEYS = List.of("createdAt", "rating");
+
+    // 순위 검색에서 힙에 유지할 수 있는 최대 결과 수 ((page + 1) * size)
+    private static final int MAX_RANKED_WINDOW = 1000;
+
     private final RestaurantRepository restaurantRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RestaurantIndexManager indexManager;
+    private final GridSpatialIndex gridSpatialIndex;
+    private final ViewportClusterIndex viewportClusterIndex;
+    private final KdTreeIndex kdTreeIndex;
+    private final NgramSearchIndex ngramSearchIndex;
+    private final HangulSearchIndex hangulSearchIndex;
+    private final SuggestTrie suggestTrie;
+    private final RestaurantStatsAggregate statsAggregate;
+    private final RestaurantStatsReconciler statsReconciler;
+    private final NearbyQueryCache nearbyQueryCache;
+    private final RestaurantDetailCache restaurantDetailCache;
+    private final CacheRefreshLoaders cacheRefreshLoaders;
+    private final PlatformTransactionManager transactionManager;
+
+    // 캐시 미스 때만 DB를 읽는 조회용 (캐시 적중은 커넥션을 잡지 않고 트랜잭션도 열지 않음)
+    private TransactionTemplate readOnlyTransaction;
+
+    @Value("${motmap.index.cluster.density-threshold:200}")
+    private int clusterDensityThreshold;
+
+    /**
+     * 목록 캐시의 백그라운드 갱신용 로더 등록
+     * 자기 호출이라 캐시 프록시를 거치지 않고 DB에서 바로 읽는다.
+     */
+    @PostConstruct
+    void registerCacheLoaders() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        cacheRefreshLoaders.register("restaurants", key -> getAllRestaurants());
+        cacheRefreshLoaders.register("categoryRestaurants", key -> getRestaurantsByCategory((Category) key));
+        cacheRefreshLoaders.register("highRatedRestaurants", key -> getHighRatedRestaurants());
+    }
 
-    // 모든 맛집 조회 (캐싱 적용)
-    @Cacheable(value = "restaurants", key = "'all'")
+    // 모든 맛집 조회 (캐싱 적용, 동시 미스는 한 번만 조회)
+    @Cacheable(value = "restaurants", key = "'all'", sync = true)
     @Transactional(readOnly = true)
     public List<RestaurantResponseDto> getAllRestaurants() {
         log.debug("전체 맛집 목록 조회 시작");
-        List<RestaurantResponseDto> restaurants = restaurantRepository.findAll().stream()
-                .map(RestaurantResponseDto::from)
-                .toList();
+        List<RestaurantResponseDto> restaurants = restaurantRepository.findAllDtos();
         log.debug("전체 맛집 {}개 조회 완료", restaurants.size());
         return restaurants;
     }
 
-    // ID로 맛집 조회
-    @Transactional(readOnly = true)
+    // ID로 맛집 조회 (ID 단위 캐시, 없는 ID도 잠시 기억, 캐시 미스일 때만 트랜잭션을 열어 DB 조회)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RestaurantResponseDto getRestaurantById(Long id) {
         log.debug("맛집 조회 시작 - ID: {}", id);
-        Restaurant restaurant = restaurantRepository.findById(id)
+        RestaurantResponseDto restaurant = restaurantDetailCache.find(id, key ->
+                        readOnly(() -> restaurantRepository.findDtoById(key)))
                 .orElseThrow(() -> new RestaurantNotFoundException(id));
         log.debug("맛집 조회 완료 - 이름: {}", restaurant.getName());
-        return RestaurantResponseDto.from(restaurant);
+        return restaurant;
     }
 
-    // 맛집 추가 (캐시 무효화)
-    @CacheEvict(value = {"restaurants", "categoryRestaurants", "highRatedRestaurants", "restaurantStats"}, allEntries = true)
+    /**
+     * 여러 맛집 일괄 조회
+     * 캐시에 없는 ID만 IN 쿼리 한 번으로 읽는다(모두 캐시에 있으면 트랜잭션을 열지 않음).
+     * @param ids 맛집 ID (중복은 한 번만 조회)
+     * @return 요청한 ID 순서, 없는 ID는 제외
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<RestaurantResponseDto> getRestaurantsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BusinessException(INVALID_REQUEST, "조회할 맛집 ID를 입력해주세요");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.contains(null)) {
+            throw new BusinessException(INVALID_REQUEST, "올바르지 않은 맛집 ID입니다");
+        }
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(INVALID_REQUEST, "한 번에 최대 " + MAX_BATCH_SIZE + "개까지 조회할 수 있습니다");
+        }
+
+        Map<Long, RestaurantResponseDto> restaurants =
+                restaurantDetailCache.findAll(distinctIds, missing -> readOnly(() -> restaurantRepository.findDtosByIdIn(missing)));
+        log.debug("맛집 일괄 조회 완료 - 요청 {}개, 결과 {}개", distinctIds.size(), restaurants.size());
+        return new ArrayList<>(restaurants.values());
+    }
+
+    // 맛집 추가 (커밋 후 목록 캐시에 반영)
     public RestaurantResponseDto addRestaurant(RestaurantRequestDto requestDto) {
         log.debug("맛집 추가 시작 - 이름: {}, 주소: {}", requestDto.getName(), requestDto.getAddress());
 
@@ -92,7 +189,10 @@ public class RestaurantService {
         Restaurant restaurant = createRestaurantEntity(requestDto);
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
         log.info("맛집 추가 완료 - ID: {}, 이름: {}", savedRestaurant.getId(), savedRestaurant.getName());
-        return RestaurantResponseDto.from(savedRestaurant);
+
+        RestaurantResponseDto response = RestaurantResponseDto.from(savedRestaurant);
+        eventPublisher.publishEvent(RestaurantChangedEvent.created(response));
+        return response;
     }
 
     // 입력값 검증 헬퍼 메소드
@@ -147,8 +247,7 @@ public class RestaurantService {
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + username));
     }
 
-    // 맛집 수정 (캐시 무효화) - 본인 것만 수정 가능
-    @CacheEvict(value = {"restaurants", "categoryRestaurants", "highRatedRestaurants", "restaurantStats"}, allEntries = true)
+    // 맛집 수정 (커밋 후 목록 캐시에 반영) - 본인 것만 수정 가능
     public RestaurantResponseDto updateRestaurant(Long id, RestaurantRequestDto requestDto) {
         log.debug("맛집 수정 시작 - ID: {}, 이름: {}", id, requestDto.getName());
 
@@ -164,6 +263,9 @@ public class RestaurantService {
             throw new BusinessException(UNAUTHORIZED, "본인이 등록한 맛집만 수정할 수 있습니다");
         }
 
+        // 인덱스 갱신용 변경 전 스냅샷
+        RestaurantResponseDto before = RestaurantResponseDto.from(restaurant);
+
         // 엔티티의 비즈니스 메소드 활용
         restaurant.updateRestaurantInfo(
                 requestDto.getName(),
@@ -176,13 +278,16 @@ public class RestaurantService {
                 requestDto.getImageUrl()
         );
 
-        Restaurant updatedRestaurant = restaurantRepository.save(restaurant);
+        // 바로 flush해 @PreUpdate가 채운 수정 시각까지 스냅샷에 담음 (캐시, 목록, cache_events가 DB와 같은 값을 갖도록)
+        Restaurant updatedRestaurant = restaurantRepository.saveAndFlush(restaurant);
         log.info("맛집 수정 완료 - ID: {}, 이름: {}", updatedRestaurant.getId(), updatedRestaurant.getName());
-        return RestaurantResponseDto.from(updatedRestaurant);
+
+        RestaurantResponseDto response = RestaurantResponseDto.from(updatedRestaurant);
+        eventPublisher.publishEvent(RestaurantChangedEvent.updated(before, response));
+        return response;
     }
 
-    // 맛집 삭제 (캐시 무효화) - 본인 것만 삭제 가능
-    @CacheEvict(value = {"restaurants", "categoryRestaurants", "highRatedRestaurants", "restaurantStats"}, allEntries = true)
+    // 맛집 삭제 (커밋 후 목록 캐시에 반영) - 본인 것만 삭제 가능
     public void deleteRestaurant(Long id) {
         log.debug("맛집 삭제 시작 - ID: {}", id);
 
@@ -203,77 +308,311 @@ public class RestaurantService {
             throw new RestaurantNotFoundException(id);
         }
 
+        RestaurantResponseDto before = RestaurantResponseDto.from(restaurant);
         restaurantRepository.deleteById(id);
+        eventPublisher.publishEvent(RestaurantChangedEvent.deleted(before));
         log.info("맛집 삭제 완료 - ID: {}", id);
     }
 
-    // 카테고리별 조회 (캐싱 적용)
-    @Cacheable(value = "categoryRestaurants", key = "#category")
+    // 카테고리별 조회 (캐싱 적용, 동시 미스는 한 번만 조회)
+    @Cacheable(value = "categoryRestaurants", key = "#category", sync = true)
     @Transactional(readOnly = true)
     public List<RestaurantResponseDto> getRestaurantsByCategory(Category category) {
         log.debug("카테고리별 맛집 조회 - 카테고리: {}", category);
-        return restaurantRepository.findByCategory(category).stream()
-                .map(RestaurantResponseDto::from)
-                .toList();
+        return restaurantRepository.findDtosByCategory(category);
     }
 
     // 평점별 조회
     @Transactional(readOnly = true)
     public List<RestaurantResponseDto> getRestaurantsByRating(Integer rating) {
         log.debug("평점 {}점 이상 맛집 조회", rating);
-        return restaurantRepository.findByRatingGreaterThanEqual(rating).stream()
-                .map(RestaurantResponseDto::from)
-                .toList();
+        return restaurantRepository.findDtosByRatingAtLeast(rating);
+    }
+
+    // 검색 방식별 검색 (keyword: 포함 검색, hangul: 초성/자모 검색)
+    @Transactional(readOnly = true)
+    public List<RestaurantResponseDto> searchRestaurants(String keyword, String mode) {
+        return switch (mode.toLowerCase()) {
+            case "keyword" -> searchRestaurants(keyword);
+            case "hangul" -> searchRestaurantsByHangul(keyword);
+            default -> throw new BusinessException(INVALID_REQUEST, "지원하지 않는 검색 방식입니다: " + mode);
+        };
     }
 
     // 키워드 검색
     @Transactional(readOnly = true)
     public List<RestaurantResponseDto> searchRestaurants(String keyword) {
         log.debug("키워드 검색 - 키워드: {}", keyword);
-        return restaurantRepository.searchByKeyword(keyword).stream()
-                .map(RestaurantResponseDto::from)
+
+        // 인덱스 구성 전에는 DB 쿼리로 대체
+        if (!indexManager.isReady()) {
+            return restaurantRepository.searchDtosByKeyword(keyword);
+        }
+        return findRestaurantsByIds(ngramSearchIndex.search(keyword));
+    }
+
+    // 초성/입력 중인 음절로 이름 검색 (예: "ㅁㄷㄱㅈ", "명ㄷ")
+    @Transactional(readOnly = true)
+    public List<RestaurantResponseDto> searchRestaurantsByHangul(String query) {
+        log.debug("초성/자모 검색 - 검색어: {}", query);
+
+        // 인덱스 구성 전에는 전체 목록에서 직접 비교
+        if (!indexManager.isReady()) {
+            return restaurantRepository.findAllDtos().stream()
+                    .filter(restaurant -> HangulSearchIndex.matches(restaurant.getName(), query))
+                    .toList();
+        }
+
+        List<Long> ids = hangulSearchIndex.search(query);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // 검색 순위(이름이 검색어로 시작하는 맛집 우선) 유지
+        Map<Long, RestaurantResponseDto> restaurants = findRestaurantMap(ids);
+        return ids.stream()
+                .map(restaurants::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
+    // 관련도 순위 검색 (BM25F, 이름/주소/리뷰 가중치 적용)
+    @Transactional(readOnly = true)
+    public RestaurantPageResponseDto searchRestaurantsRanked(String keyword, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(INVALID_REQUEST, "페이지는 0 이상, 크기는 1-" + MAX_PAGE_SIZE + " 사이여야 합니다");
+        }
+        if ((long) (page + 1) * size > MAX_RANKED_WINDOW) {
+            throw new BusinessException(INVALID_REQUEST, "순위 검색은 상위 " + MAX_RANKED_WINDOW + "건까지만 조회할 수 있습니다");
+        }
+        log.debug("순위 검색 - 키워드: {}, 페이지: {}, 크기: {}", keyword, page, size);
+
+        // 인덱스 구성 전에는 포함 검색 결과를 ID 순으로 페이징
+        if (!indexManager.isReady()) {
+            List<RestaurantResponseDto> matches = restaurantRepository.searchDtosByKeyword(keyword);
+            int from = Math.min(page * size, matches.size());
+            return toPage(matches.subList(from, Math.min(from + size, matches.size())), page, size, matches.size());
+        }
+
+        RankedHits ranked = ngramSearchIndex.searchRanked(keyword, (page + 1) * size);
+        List<SearchHit> hits = ranked.getHits();
+        List<SearchHit> pageHits = hits.subList(Math.min(page * size, hits.size()), hits.size());
+
+        Map<Long, RestaurantResponseDto> restaurants =
+                findRestaurantMap(pageHits.stream().map(SearchHit::getId).toList());
+        List<RestaurantResponseDto> content = new ArrayList<>(pageHits.size());
+        for (SearchHit hit : pageHits) {
+            RestaurantResponseDto restaurant = restaurants.get(hit.getId());
+            if (restaurant != null) {
+                content.add(restaurant.withScore(hit.getScore()));
+            }
+        }
+        return toPage(content, page, size, ranked.getTotalHits());
+    }
+
+    private static RestaurantPageResponseDto toPage(List<RestaurantResponseDto> content, int page, int size,
+                                                    long totalElements) {
+        int totalPages = (int) ((totalElements + size - 1) / size);
+        return RestaurantPageResponseDto.builder()
+                .restaurants(content)
+                .pageNumber(page)
+                .pageSize(size)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .first(page == 0)
+                .last(page + 1 >= totalPages)
+                .build();
+    }
+
+    // 검색어 자동완성 (이름/주소 단어 접두어, 평점 높은 순)
+    @Transactional(readOnly = true)
+    public List<SuggestionDto> getSuggestions(String prefix, Integer limit) {
+        if (limit == null) {
+            limit = suggestTrie.getTopK();
+        }
+        if (limit < 1 || limit > suggestTrie.getTopK()) {
+            throw new BusinessException(INVALID_REQUEST, "자동완성 개수는 1-" + suggestTrie.getTopK() + " 사이여야 합니다");
+        }
+        // 인덱스 구성 전에는 제안하지 않음 (검색 버튼의 키워드 검색은 그대로 동작)
+        if (!indexManager.isReady()) {
+            return List.of();
+        }
+        return suggestTrie.suggest(prefix, limit);
+    }
+
     // 평점순 정렬
     @Transactional(readOnly = true)
     public List<RestaurantResponseDto> getRestaurantsByRatingOrder() {
         log.debug("평점순 맛집 정렬 조회");
-        return restaurantRepository.findAllByOrderByRatingDesc().stream()
-                .map(RestaurantResponseDto::from)
-                .toList();
+        return restaurantRepository.findAllDtosOrderByRatingDesc();
     }
 
     // 최신순 정렬
     @Transactional(readOnly = true)
     public List<RestaurantResponseDto> getRestaurantsByDateOrder() {
         log.debug("최신순 맛집 정렬 조회");
-        return restaurantRepository.findAllByOrderByCreatedAtDesc().stream()
-                .map(RestaurantResponseDto::from)
-                .toList();
+        return restaurantRepository.findAllDtosOrderByCreatedAtDesc();
     }
 
-    // 근처 맛집 검색 (반경 5km 기본)
-    @Transactional(readOnly = true)
+    // 근처 맛집 검색 (반경 5km 기본, 캐시 적중은 트랜잭션 없이 응답)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<RestaurantResponseDto> getNearbyRestaurants(Double latitude, Double longitude, Double radius) {
         if (radius == null) {
             radius = 5.0; // 기본 5km
         }
+        if (!LocationUtils.isValidLocation(latitude, longitude)) {
+            throw new InvalidLocationException(latitude, longitude);
+        }
+        // NaN이나 음수 반경은 빈 결과가 아니라 잘못된 요청으로 응답
+        if (!Double.isFinite(radius) || radius < 0) {
+            throw new BusinessException(INVALID_REQUEST, "반경은 0 이상의 숫자여야 합니다");
+        }
         log.debug("근처 맛집 검색 - 위도: {}, 경도: {}, 반경: {}km", latitude, longitude, radius);
-        return restaurantRepository.findNearbyRestaurants(latitude, longitude, radius).stream()
-                .map(RestaurantResponseDto::from)
-                .toList();
+        return nearbyQueryCache.find(latitude, longitude, radius,
+                (lat, lng, r) -> readOnly(() -> findNearbyRestaurants(lat, lng, r)));
+    }
+
+    // 반경 검색 (캐시 미스 시 읽기 전용 트랜잭션 안에서 실행)
+    private List<RestaurantResponseDto> findNearbyRestaurants(double latitude, double longitude, double radius) {
+        // 인덱스 구성 전에는 DB에서 사각 영역으로 후보를 읽어 반경 안만 가까운 순으로 정렬
+        if (!indexManager.isReady()) {
+            BoundingBox box = LocationUtils.boundingBox(latitude, longitude, radius);
+            return restaurantRepository.findDtosInBox(
+                            box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude())
+                    .stream()
+                    .map(restaurant -> restaurant.withDistance(LocationUtils.calculateDistance(
+                            latitude, longitude, restaurant.getLatitude(), restaurant.getLongitude())))
+                    .filter(restaurant -> restaurant.getDistance() < radius)
+                    .sorted(Comparator.comparingDouble(RestaurantResponseDto::getDistance))
+                    .toList();
+        }
+
+        return findRestaurantsByNeighbors(gridSpatialIndex.findWithinRadius(latitude, longitude, radius));
     }
 
-    // 고평점 맛집 조회 (캐싱 적용)
-    @Cacheable(value = "highRatedRestaurants", key = "'highRated'")
+    // 가까운 맛집 k개 조회 (거리순)
+    @Transactional(readOnly = true)
+    public List<RestaurantResponseDto> getNearestRestaurants(Double latitude, Double longitude, Integer k) {
+        if (!LocationUtils.isValidLocation(latitude, longitude)) {
+            throw new InvalidLocationException(latitude, longitude);
+        }
+        if (k == null) {
+            k = 10;
+        }
+        if (k < 1 || k > MAX_NEAREST_COUNT) {
+            throw new BusinessException(INVALID_REQUEST, "조회 개수는 1-" + MAX_NEAREST_COUNT + " 사이여야 합니다");
+        }
+        log.debug("가까운 맛집 검색 - 위도: {}, 경도: {}, 개수: {}", latitude, longitude, k);
+
+        // 인덱스 구성 전에는 전체 목록에서 거리순으로 선택
+        if (!indexManager.isReady()) {
+            return restaurantRepository.findAllDtos().stream()
+                    .map(restaurant -> restaurant.withDistance(LocationUtils.calculateDistance(
+                            latitude, longitude, restaurant.getLatitude(), restaurant.getLongitude())))
+                    .sorted(Comparator.comparingDouble(RestaurantResponseDto::getDistance))
+                    .limit(k)
+                    .toList();
+        }
+
+        return findRestaurantsByNeighbors(kdTreeIndex.findNearest(latitude, longitude, k));
+    }
+
+    // 위치 인덱스 검색 결과를 거리 정보가 포함된 DTO로 변환 (검색 결과 순서 유지)
+    private List<RestaurantResponseDto> findRestaurantsByNeighbors(List<Neighbor> neighbors) {
+        if (neighbors.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, RestaurantResponseDto> restaurants =
+                findRestaurantMap(neighbors.stream().map(Neighbor::getId).toList());
+
+        List<RestaurantResponseDto> result = new ArrayList<>(neighbors.size());
+        for (Neighbor neighbor : neighbors) {
+            RestaurantResponseDto restaurant = restaurants.get(neighbor.getId());
+            if (restaurant != null) {
+                result.add(restaurant.withDistance(neighbor.getDistance()));
+            }
+        }
+        return result;
+    }
+
+    // 지도 화면 영역 조회 (맛집이 많으면 줌 레벨별 클러스터로 응답)
+    @Transactional(readOnly = true)
+    public ViewportResponseDto getRestaurantsInViewport(Double swLatitude, Double swLongitude,
+                                                        Double neLatitude, Double neLongitude, int zoom) {
+        if (!LocationUtils.isValidLocation(swLatitude, swLongitude)) {
+            throw new InvalidLocationException(swLatitude, swLongitude);
+        }
+        if (!LocationUtils.isValidLocation(neLatitude, neLongitude)) {
+            throw new InvalidLocationException(neLatitude, neLongitude);
+        }
+        if (swLatitude > neLatitude || swLongitude > neLongitude) {
+            throw new BusinessException(INVALID_REQUEST, "남서쪽 좌표는 북동쪽 좌표보다 작아야 합니다");
+        }
+        log.debug("화면 영역 맛집 조회 - 남서: ({}, {}), 북동: ({}, {}), 줌: {}",
+                swLatitude, swLongitude, neLatitude, neLongitude, zoom);
+
+        BoundingBox box = new BoundingBox(swLatitude, neLatitude, swLongitude, neLongitude);
+        int clampedZoom = viewportClusterIndex.clampZoom(zoom);
+
+        // 인덱스 구성 전에는 개별 맛집으로 응답
+        if (!indexManager.isReady()) {
+            List<RestaurantResponseDto> restaurants =
+                    restaurantRepository.findDtosInBox(swLatitude, neLatitude, swLongitude, neLongitude);
+            return ViewportResponseDto.builder()
+                    .zoom(clampedZoom)
+                    .totalCount(restaurants.size())
+                    .clustered(false)
+                    .restaurants(restaurants)
+                    .clusters(List.of())
+                    .build();
+        }
+
+        long totalCount = viewportClusterIndex.count(box, clampedZoom);
+        if (totalCount > clusterDensityThreshold) {
+            return ViewportResponseDto.builder()
+                    .zoom(clampedZoom)
+                    .totalCount(totalCount)
+                    .clustered(true)
+                    .restaurants(List.of())
+                    .clusters(viewportClusterIndex.findClusters(box, clampedZoom))
+                    .build();
+        }
+
+        List<RestaurantResponseDto> restaurants = findRestaurantsByIds(gridSpatialIndex.findWithinBounds(box));
+        return ViewportResponseDto.builder()
+                .zoom(clampedZoom)
+                .totalCount(restaurants.size())
+                .clustered(false)
+                .restaurants(restaurants)
+                .clusters(List.of())
+                .build();
+    }
+
+    // 인덱스에서 찾은 ID 목록을 DTO로 변환
+    private List<RestaurantResponseDto> findRestaurantsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return restaurantRepository.findDtosByIdIn(ids);
+    }
+
+    // ID -> DTO (인덱스 순위대로 다시 정렬할 때 사용)
+    private <T> T readOnly(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    private Map<Long, RestaurantResponseDto> findRestaurantMap(List<Long> ids) {
+        Map<Long, RestaurantResponseDto> restaurants = new HashMap<>();
+        restaurantRepository.findDtosByIdIn(ids).forEach(restaurant -> restaurants.put(restaurant.getId(), restaurant));
+        return restaurants;
+    }
+
+    // 고평점 맛집 조회 (캐싱 적용, 동시 미스는 한 번만 조회)
+    @Cacheable(value = "highRatedRestaurants", key = "'highRated'", sync = true)
     @Transactional(readOnly = true)
     public List<RestaurantResponseDto> getHighRatedRestaurants() {
         log.debug("고평점 맛집 조회 시작 (4점 이상)");
 
-        List<RestaurantResponseDto> highRatedRestaurants = restaurantRepository.findByRatingGreaterThanEqual(4).stream()
-                .map(RestaurantResponseDto::from)
-                .toList();
+        List<RestaurantResponseDto> highRatedRestaurants = restaurantRepository.findDtosByRatingAtLeast(4);
 
         log.debug("고평점 맛집 {}개 조회 완료", highRatedRestaurants.size());
         return highRatedRestaurants;
@@ -290,15 +629,10 @@ public class RestaurantService {
 
         // 페이지 요청 생성
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Restaurant> restaurantPage = restaurantRepository.findAll(pageable);
-
-        // DTO 변환
-        List<RestaurantResponseDto> restaurantDtos = restaurantPage.getContent().stream()
-                .map(RestaurantResponseDto::from)
-                .toList();
+        Page<RestaurantResponseDto> restaurantPage = restaurantRepository.findDtoPage(pageable);
 
         RestaurantPageResponseDto response = RestaurantPageResponseDto.builder()
-                .restaurants(restaurantDtos)
+                .restaurants(restaurantPage.getContent())
                 .pageNumber(restaurantPage.getNumber())
                 .pageSize(restaurantPage.getSize())
                 .totalElements(restaurantPage.getTotalElements())
@@ -311,49 +645,86 @@ public class RestaurantService {
         return response;
     }
 
-    // 맛집 통계 조회 (캐싱 적용)
-    @Cacheable(value = "restaurantStats", key = "'stats'")
+    /**
+     * 커서 페이징 조회 (인덱스가 있는 등록일/평점 순만 지원, 전체 개수는 세지 않음)
+     * 마지막으로 받은 맛집의 (정렬 키, ID) 다음부터 읽으므로 몇 번째 페이지든 페이지 크기만큼만 읽는다.
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지, 정렬 기준/방향은 커서와 같아야 함)
+     */
     @Transactional(readOnly = true)
-    public RestaurantStatsDto getRestaurantStatistics() {
-        log.debug("맛집 통계 조회 시작");
-
-        // 기본 통계
-        long totalRestaurants = restaurantRepository.count();
-        Double averageRating = restaurantRepository.findAverageRating();
-        long highRatedCount = restaurantRepository.findByRatingGreaterThanEqual(4).size();
-
-        // 최근 30일 등록 맛집 수
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        Long recentCount = restaurantRepository.countRestaurantsCreatedAfter(thirtyDaysAgo);
-
-        // 카테고리별 통계
-        Map<String, Long> categoryStats = new HashMap<>();
-        List<Object[]> categoryData = restaurantRepository.findCategoryStatistics();
-        for (Object[] row : categoryData) {
-            Category category = (Category) row[0];
-            Long count = (Long) row[1];
-            categoryStats.put(category.getDisplayName(), count);
-        }
-
-        // 평점별 통계
-        Map<Integer, Long> ratingStats = new HashMap<>();
-        List<Object[]> ratingData = restaurantRepository.findRatingStatistics();
-        for (Object[] row : ratingData) {
-            Integer rating = (Integer) row[0];
-            Long count = (Long) row[1];
-            ratingStats.put(rating, count);
-        }
-
-        RestaurantStatsDto stats = RestaurantStatsDto.builder()
-                .totalRestaurants(totalRestaurants)
-                .categoryStats(categoryStats)
-                .ratingStats(ratingStats)
-                .averageRating(averageRating != null ? Math.round(averageRating * 100.0) / 100.0 : 0.0)
-                .highRatedCount(highRatedCount)
-                .recentRestaurantsCount(recentCount != null ? recentCount : 0L)
+    public RestaurantCursorPageDto getRestaurantsWithCursor(String cursor, int size, String sortBy, String sortDir) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(INVALID_REQUEST, "페이지 크기는 1-" + MAX_PAGE_SIZE + " 사이여야 합니다");
+        }
+        if (!CURSOR_SORT_KEYS.contains(sortBy)) {
+            throw new BusinessException(INVALID_REQUEST, "커서 페이징은 " + CURSOR_SORT_KEYS + " 순으로만 정렬할 수 있습니다");
+        }
+        if (!sortDir.equalsIgnoreCase("asc") && !sortDir.equalsIgnoreCase("desc")) {
+            throw new BusinessException(INVALID_REQUEST, "정렬 방향은 asc 또는 desc여야 합니다");
+        }
+        boolean descending = sortDir.equalsIgnoreCase("desc");
+
+        PageCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = PageCursor.decode(cursor)
+                    .filter(decoded -> decoded.getSortBy().equals(sortBy) && decoded.isDescending() == descending)
+                    .orElseThrow(() -> new BusinessException(INVALID_REQUEST, "올바르지 않거나 정렬 조건이 다른 커서입니다"));
+        }
+        log.debug("커서 페이징 조회 - 정렬: {} {}, 크기: {}, 커서: {}", sortBy, sortDir, size, after);
+
+        // 한 건 더 읽어 다음 페이지가 있는지 확인
+        List<RestaurantResponseDto> rows = findCursorPage(sortBy, descending, after, PageRequest.ofSize(size + 1));
+        boolean hasNext = rows.size() > size;
+        List<RestaurantResponseDto> restaurants = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            RestaurantResponseDto last = restaurants.get(restaurants.size() - 1);
+            String sortKey = sortBy.equals("rating") ? last.getRating().toString() : last.getCreatedAt().toString();
+            nextCursor = new PageCursor(sortBy, descending, sortKey, last.getId()).encode();
+        }
+
+        return RestaurantCursorPageDto.builder()
+                .restaurants(List.copyOf(restaurants))
+                .pageSize(size)
+                .sortBy(sortBy)
+                .sortDir(descending ? "desc" : "asc")
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
                 .build();
+    }
 
-        log.debug("맛집 통계 조회 완료 - 총 {}개 맛집, 평균 평점 {}", totalRestaurants, averageRating);
-        return stats;
+    // 정렬 기준/방향별 커서 쿼리 (커서가 없으면 처음부터)
+    private List<RestaurantResponseDto> findCursorPage(String sortBy, boolean descending, PageCursor after,
+                                                       Pageable limit) {
+        try {
+            if (sortBy.equals("rating")) {
+                if (after == null) {
+                    return descending ? restaurantRepository.findDtosByRatingDesc(limit)
+                            : restaurantRepository.findDtosByRatingAsc(limit);
+                }
+                Integer rating = Integer.valueOf(after.getSortKey());
+                return descending ? restaurantRepository.findDtosByRatingDescAfter(rating, after.getId(), limit)
+                        : restaurantRepository.findDtosByRatingAscAfter(rating, after.getId(), limit);
+            }
+            if (after == null) {
+                return descending ? restaurantRepository.findDtosByCreatedAtDesc(limit)
+                        : restaurantRepository.findDtosByCreatedAtAsc(limit);
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(after.getSortKey());
+            return descending ? restaurantRepository.findDtosByCreatedAtDescAfter(createdAt, after.getId(), limit)
+                    : restaurantRepository.findDtosByCreatedAtAscAfter(createdAt, after.getId(), limit);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new BusinessException(INVALID_REQUEST, "올바르지 않거나 정렬 조건이 다른 커서입니다");
+        }
+    }
+
+    // 맛집 통계 조회 (커밋마다 갱신되는 인메모리 집계라 DB 접근 없음, 클래스의 트랜잭션도 열지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RestaurantStatsDto getRestaurantStatistics() {
+        // 인덱스 구성 전에는 SQL 집계로 대체
+        if (!indexManager.isReady()) {
+            return statsReconciler.queryDatabase();
+        }
+        return statsAggregate.getStatistics();
     }
 }
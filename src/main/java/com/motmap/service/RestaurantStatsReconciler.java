@@ -0,0 +1,117 @@
+package com.motmap.service;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.dto.RestaurantStatsDto;
+import com.motmap.entity.Category;
+import com.motmap.index.RestaurantIndexManager;
+import com.motmap.index.RestaurantStatsAggregate;
+import com.motmap.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 맛집 통계 집계 점검
+ * 주기적으로 SQL 집계와 인메모리 통계를 비교하고, 두 번 연속 어긋나면(커밋 직후 반영 전의 일시적 차이가 아니면)
+ * 통계 집계를 DB에서 다시 구성한다. 재구성은 인덱스 관리자를 거쳐, 스냅샷을 읽는 동안 커밋된 변경도 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RestaurantStatsReconciler {
+
+    // 고평점 기준 (4점 이상)
+    private static final int HIGH_RATING = 4;
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantStatsAggregate statsAggregate;
+    private final RestaurantIndexManager indexManager;
+
+    // 직전 점검에서도 어긋났는지 (스케줄러 스레드에서만 변경)
+    private boolean mismatchedLastRun = false;
+
+    /**
+     * SQL 집계로 통계 계산 (평점별 수에서 전체 수, 평균, 고평점 수를 구하므로 엔티티를 읽지 않음)
+     */
+    public RestaurantStatsDto queryDatabase() {
+        Map<String, Long> categoryStats = new LinkedHashMap<>();
+        for (Object[] row : restaurantRepository.findCategoryStatistics()) {
+            categoryStats.put(((Category) row[0]).getDisplayName(), (Long) row[1]);
+        }
+
+        Map<Integer, Long> ratingStats = new LinkedHashMap<>();
+        long total = 0;
+        long ratingSum = 0;
+        long highRated = 0;
+        for (Object[] row : restaurantRepository.findRatingStatistics()) {
+            Integer rating = (Integer) row[0];
+            Long count = (Long) row[1];
+            ratingStats.put(rating, count);
+            total += count;
+            ratingSum += rating * count;
+            if (rating >= HIGH_RATING) {
+                highRated += count;
+            }
+        }
+
+        Long recentCount = restaurantRepository.countRestaurantsCreatedAfter(
+                RestaurantStatsAggregate.recentWindowStart(LocalDate.now()));
+
+        double average = total > 0 ? (double) ratingSum / total : 0.0;
+        return RestaurantStatsDto.builder()
+                .totalRestaurants(total)
+                .categoryStats(categoryStats)
+                .ratingStats(ratingStats)
+                .averageRating(Math.round(average * 100.0) / 100.0)
+                .highRatedCount(highRated)
+                .recentRestaurantsCount(recentCount != null ? recentCount : 0L)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${motmap.stats.reconcile-interval:300000}")
+    public void reconcile() {
+        if (!indexManager.isReady()) {
+            return;
+        }
+        RestaurantStatsDto expected = queryDatabase();
+        RestaurantStatsDto actual = statsAggregate.getStatistics();
+        if (expected.equals(actual)) {
+            mismatchedLastRun = false;
+            log.debug("맛집 통계 점검 완료 - 일치 (맛집 {}개)", actual.getTotalRestaurants());
+            return;
+        }
+
+        if (!mismatchedLastRun) {
+            mismatchedLastRun = true;
+            log.debug("맛집 통계 불일치 - 다음 점검에서 다시 확인합니다. DB: {}, 메모리: {}", expected, actual);
+            return;
+        }
+
+        log.warn("맛집 통계 불일치가 계속되어 다시 구성합니다 - DB: {}, 메모리: {}", expected, actual);
+        indexManager.rebuildIndex(statsAggregate, this::findStatsRows);
+        mismatchedLastRun = false;
+    }
+
+    // 통계에 필요한 필드만 채운 맛집 목록 (이름/주소/리뷰와 작성자 조인 없이 읽음)
+    private List<RestaurantResponseDto> findStatsRows() {
+        List<Object[]> rows = restaurantRepository.findStatsRows();
+        List<RestaurantResponseDto> restaurants = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            restaurants.add(RestaurantResponseDto.builder()
+                    .id((Long) row[0])
+                    .category((Category) row[1])
+                    .rating((Integer) row[2])
+                    .createdAt((LocalDateTime) row[3])
+                    .build());
+        }
+        return restaurants;
+    }
+}
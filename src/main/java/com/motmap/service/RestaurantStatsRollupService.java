@@ -0,0 +1,168 @@
+package com.motmap.service;
+
+import com.motmap.dto.StatsGranularity;
+import com.motmap.dto.StatsTimeseriesDto;
+import com.motmap.dto.StatsTimeseriesPointDto;
+import com.motmap.entity.Category;
+import com.motmap.entity.RestaurantStatsDaily;
+import com.motmap.exception.BusinessException;
+import com.motmap.repository.RestaurantRepository;
+import com.motmap.repository.RestaurantStatsDailyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.motmap.exception.ErrorCode.INVALID_REQUEST;
+
+/**
+ * 일별 맛집 통계 집계와 기간별 추이 조회
+ * 주기 작업이 마지막으로 집계한 날짜(기준점) 이후에 등록된 맛집만 읽어 restaurant_stats_daily에 날짜/카테고리별로 합산한다.
+ * 기준점 날짜는 집계 당시 일부만 등록되어 있었을 수 있으므로 그날부터 다시 집계해 덮어쓴다.
+ * 추이 조회는 일별 행만 읽어 주/월 단위로 메모리에서 다시 합산하므로 restaurants 테이블을 훑지 않는다.
+ */
+@Service
+@Slf4j
+public class RestaurantStatsRollupService {
+
+    // 한 번에 조회할 수 있는 최대 기간 (약 3년)
+    private static final long MAX_TIMESERIES_DAYS = 3 * 366;
+
+    private static final LocalDate FIRST_ROLLUP_DATE = LocalDate.of(1970, 1, 1);
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantStatsDailyRepository statsDailyRepository;
+    private final Duration settleDelay;
+
+    public RestaurantStatsRollupService(RestaurantRepository restaurantRepository,
+                                        RestaurantStatsDailyRepository statsDailyRepository,
+                                        @Value("${motmap.stats.rollup-settle-delay:1m}") Duration settleDelay) {
+        this.restaurantRepository = restaurantRepository;
+        this.statsDailyRepository = statsDailyRepository;
+        this.settleDelay = settleDelay;
+    }
+
+    /**
+     * 기준점 이후 등록분 집계
+     * 아직 커밋되지 않았을 수 있는 최근 등록분(settle-delay 이내)은 다음 집계로 미룬다.
+     */
+    @Scheduled(initialDelayString = "${motmap.stats.rollup-interval:60000}",
+               fixedDelayString = "${motmap.stats.rollup-interval:60000}")
+    @Transactional
+    public void rollup() {
+        LocalDate highWaterMark = statsDailyRepository.findMaxStatDate();
+        LocalDateTime from = (highWaterMark != null ? highWaterMark : FIRST_ROLLUP_DATE).atStartOfDay();
+        LocalDateTime to = LocalDateTime.now().minus(settleDelay);
+        if (!to.isAfter(from)) {
+            return;
+        }
+
+        // 날짜 -> 카테고리 -> {등록 수, 평점 합계}
+        Map<LocalDate, Map<Category, long[]>> days = new TreeMap<>();
+        List<Object[]> rows = restaurantRepository.findStatsRowsCreatedBetween(from, to);
+        for (Object[] row : rows) {
+            LocalDate day = ((LocalDateTime) row[0]).toLocalDate();
+            long[] sums = days.computeIfAbsent(day, d -> new EnumMap<>(Category.class))
+                    .computeIfAbsent((Category) row[1], c -> new long[2]);
+            sums[0]++;
+            sums[1] += (Integer) row[2];
+        }
+
+        statsDailyRepository.deleteFrom(from.toLocalDate());
+        List<RestaurantStatsDaily> dailyStats = new ArrayList<>();
+        days.forEach((day, categories) -> categories.forEach((category, sums) ->
+                dailyStats.add(RestaurantStatsDaily.builder()
+                        .statDate(day)
+                        .category(category)
+                        .restaurantsAdded(sums[0])
+                        .ratingSum(sums[1])
+                        .build())));
+        statsDailyRepository.saveAll(dailyStats);
+        log.debug("일별 맛집 통계 집계 - {} 이후 맛집 {}개, {}일", from.toLocalDate(), rows.size(), days.size());
+    }
+
+    /**
+     * 기간별 통계 추이
+     * @param from 시작일 (없으면 단위별 기본 기간: 일 30일, 주 12주, 월 12개월), 구간 시작일로 맞춤
+     * @param to 종료일 (없으면 오늘, 포함)
+     */
+    @Transactional(readOnly = true)
+    public StatsTimeseriesDto getTimeseries(LocalDate from, LocalDate to, StatsGranularity granularity) {
+        StatsGranularity unit = granularity != null ? granularity : StatsGranularity.DAY;
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = unit.periodStart(from != null ? from : defaultFrom(end, unit));
+
+        if (start.isAfter(end)) {
+            throw new BusinessException(INVALID_REQUEST, "시작일은 종료일보다 늦을 수 없습니다");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_TIMESERIES_DAYS) {
+            throw new BusinessException(INVALID_REQUEST, "한 번에 최대 " + MAX_TIMESERIES_DAYS + "일까지 조회할 수 있습니다");
+        }
+
+        // 빈 구간도 응답에 포함되도록 구간을 먼저 만들어 둠
+        Map<LocalDate, Map<Category, long[]>> periods = new LinkedHashMap<>();
+        for (LocalDate period = start; !period.isAfter(end); period = unit.next(period)) {
+            periods.put(period, new EnumMap<>(Category.class));
+        }
+        for (RestaurantStatsDaily daily : statsDailyRepository.findByStatDateBetweenOrderByStatDateAsc(start, end)) {
+            long[] sums = periods.get(unit.periodStart(daily.getStatDate()))
+                    .computeIfAbsent(daily.getCategory(), c -> new long[2]);
+            sums[0] += daily.getRestaurantsAdded();
+            sums[1] += daily.getRatingSum();
+        }
+
+        List<StatsTimeseriesPointDto> points = new ArrayList<>(periods.size());
+        periods.forEach((period, categories) -> points.add(toPoint(period, categories)));
+
+        return StatsTimeseriesDto.builder()
+                .granularity(unit)
+                .from(start)
+                .to(end)
+                .rolledUpTo(statsDailyRepository.findMaxStatDate())
+                .points(points)
+                .build();
+    }
+
+    private static LocalDate defaultFrom(LocalDate end, StatsGranularity unit) {
+        return switch (unit) {
+            case DAY -> end.minusDays(29);
+            case WEEK -> end.minusWeeks(11);
+            case MONTH -> end.minusMonths(11);
+        };
+    }
+
+    private static StatsTimeseriesPointDto toPoint(LocalDate period, Map<Category, long[]> categories) {
+        long added = 0;
+        long ratingSum = 0;
+        Map<String, StatsTimeseriesPointDto.CategoryTrend> trends = new LinkedHashMap<>();
+        for (Map.Entry<Category, long[]> entry : categories.entrySet()) {
+            long[] sums = entry.getValue();
+            added += sums[0];
+            ratingSum += sums[1];
+            trends.put(entry.getKey().getDisplayName(),
+                    new StatsTimeseriesPointDto.CategoryTrend(sums[0], average(sums[1], sums[0])));
+        }
+        return StatsTimeseriesPointDto.builder()
+                .periodStart(period)
+                .restaurantsAdded(added)
+                .averageRating(average(ratingSum, added))
+                .categories(trends)
+                .build();
+    }
+
+    private static double average(long sum, long count) {
+        return count > 0 ? Math.round((double) sum / count * 100.0) / 100.0 : 0.0;
+    }
+}
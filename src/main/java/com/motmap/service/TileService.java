@@ -0,0 +1,169 @@
+package com.motmap.service;
+
+import com.motmap.dto.EncodedTile;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.exception.BusinessException;
+import com.motmap.repository.RestaurantRepository;
+import com.motmap.util.BoundingBox;
+import com.motmap.util.TileUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Objects;
+
+import static com.motmap.exception.ErrorCode.INVALID_REQUEST;
+
+/**
+ * 지도 마커용 바이너리 타일 생성
+ *
+ * 타일 형식 (모든 정수는 빅엔디언, varint는 LEB128):
+ *   헤더  : 'M' 'T' | 버전(1바이트) | z(1바이트) | x(varint) | y(varint) | 맛집 수(varint)
+ *   맛집  : 이전 ID와의 차이(varint) | 타일 내 X(2바이트) | 타일 내 Y(2바이트) | 카테고리 순번(1바이트) | 평점(1바이트)
+ * 타일 내 좌표는 타일 한 변을 4096으로 나눈 정수이며, 맛집은 ID 오름차순이다.
+ */
+@Service
+@Slf4j
+public class TileService {
+
+    public static final String CACHE_NAME = "restaurantTiles";
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int EXTENT = 4096;
+
+    private final RestaurantRepository restaurantRepository;
+    private final Cache cache;
+    private final int minZoom;
+    private final int maxZoom;
+
+    public TileService(RestaurantRepository restaurantRepository,
+                       CacheManager cacheManager,
+                       @Value("${motmap.tiles.min-zoom:10}") int minZoom,
+                       @Value("${motmap.tiles.max-zoom:20}") int maxZoom) {
+        this.restaurantRepository = restaurantRepository;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+    }
+
+    /**
+     * 타일 조회 (처음 요청될 때 생성해 캐싱)
+     */
+    @Transactional(readOnly = true)
+    public EncodedTile getTile(int zoom, int x, int y) {
+        if (zoom < minZoom || zoom > maxZoom) {
+            throw new BusinessException(INVALID_REQUEST, "타일 줌 레벨은 " + minZoom + "-" + maxZoom + " 사이여야 합니다");
+        }
+        if (!TileUtils.isValidTile(zoom, x, y)) {
+            throw new BusinessException(INVALID_REQUEST, "올바르지 않은 타일 좌표입니다");
+        }
+
+        return cache.get(key(zoom, x, y), () -> encode(zoom, x, y));
+    }
+
+    /**
+     * 마커 표시에 영향을 주는 변경이면 변경 전/후 좌표의 타일만 무효화
+     */
+    @Order(ChangeListenerOrder.CACHE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        RestaurantResponseDto before = event.getBefore();
+        RestaurantResponseDto after = event.getAfter();
+        if (before != null && after != null && sameMarker(before, after)) {
+            return;
+        }
+        if (before != null) {
+            evictTilesCovering(before.getLatitude(), before.getLongitude());
+        }
+        if (after != null) {
+            evictTilesCovering(after.getLatitude(), after.getLongitude());
+        }
+    }
+
+    public void evictTilesCovering(double latitude, double longitude) {
+        for (int zoom = minZoom; zoom <= maxZoom; zoom++) {
+            cache.evict(key(zoom, TileUtils.tileX(longitude, zoom), TileUtils.tileY(latitude, zoom)));
+        }
+    }
+
+    private EncodedTile encode(int zoom, int x, int y) {
+        BoundingBox bounds = TileUtils.tileBounds(zoom, x, y);
+        List<Object[]> points = restaurantRepository.findTilePoints(
+                bounds.getMinLatitude(), bounds.getMaxLatitude(), bounds.getMinLongitude(), bounds.getMaxLongitude());
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        int count = 0;
+        long previousId = 0;
+        double scale = 1 << zoom;
+        for (Object[] row : points) {
+            long id = (Long) row[0];
+            double latitude = (Double) row[1];
+            double longitude = (Double) row[2];
+
+            // 경계선 위의 맛집은 한 타일에만 포함
+            if (TileUtils.tileX(longitude, zoom) != x || TileUtils.tileY(latitude, zoom) != y) {
+                continue;
+            }
+
+            writeVarint(body, id - previousId);
+            writeShort(body, quantize(TileUtils.worldX(longitude) * scale - x));
+            writeShort(body, quantize(TileUtils.worldY(latitude) * scale - y));
+            body.write(((Category) row[3]).ordinal());
+            body.write((Integer) row[4]);
+            previousId = id;
+            count++;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.size() + 16);
+        out.write('M');
+        out.write('T');
+        out.write(FORMAT_VERSION);
+        out.write(zoom);
+        writeVarint(out, x);
+        writeVarint(out, y);
+        writeVarint(out, count);
+        out.write(body.toByteArray(), 0, body.size());
+
+        byte[] data = out.toByteArray();
+        log.debug("타일 생성 - {}/{}/{}, 맛집 {}개, {}바이트", zoom, x, y, count, data.length);
+        return new EncodedTile(data, "\"" + DigestUtils.md5DigestAsHex(data) + "\"");
+    }
+
+    private static boolean sameMarker(RestaurantResponseDto before, RestaurantResponseDto after) {
+        return Objects.equals(before.getLatitude(), after.getLatitude())
+                && Objects.equals(before.getLongitude(), after.getLongitude())
+                && before.getCategory() == after.getCategory()
+                && Objects.equals(before.getRating(), after.getRating());
+    }
+
+    private static int quantize(double offset) {
+        return Math.max(0, Math.min(EXTENT - 1, (int) Math.floor(offset * EXTENT)));
+    }
+
+    private static void writeShort(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 8);
+        out.write(value & 0xFF);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static String key(int zoom, int x, int y) {
+        return zoom + "/" + x + "/" + y;
+    }
+}
@@ -0,0 +1,161 @@
+package com.motmap.service;
+
+import com.motmap.cache.JsonResponseCache;
+import com.motmap.config.CacheConfig;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.dto.WarmupStatusDto;
+import com.motmap.entity.Category;
+import com.motmap.index.RestaurantIndexManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 워밍업
+ * 초기 데이터 적재(CommandLineRunner)가 끝난 뒤 별도 스레드에서 인덱스를 구성하고, 주요 캐시를 채우고,
+ * 자주 쓰는 조회를 반복 실행해 JIT를 예열한다. 끝나거나 제한 시간이 지날 때까지 준비 상태 API는 503을 응답한다.
+ */
+@Service
+@Slf4j
+public class WarmupService {
+
+    private final RestaurantIndexManager indexManager;
+    private final RestaurantService restaurantService;
+    private final CacheManager cacheManager;
+    private final JsonResponseCache jsonResponseCache;
+    private final Duration timeout;
+    private final int jitIterations;
+    private final int detailLimit;
+
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile boolean completed = false;
+    private volatile long exercisedCalls;
+
+    public WarmupService(RestaurantIndexManager indexManager,
+                         RestaurantService restaurantService,
+                         CacheManager cacheManager,
+                         JsonResponseCache jsonResponseCache,
+                         @Value("${motmap.warmup.timeout:30s}") Duration timeout,
+                         @Value("${motmap.warmup.jit-iterations:200}") int jitIterations,
+                         @Value("${motmap.warmup.detail-limit:1000}") int detailLimit) {
+        this.indexManager = indexManager;
+        this.restaurantService = restaurantService;
+        this.cacheManager = cacheManager;
+        this.jsonResponseCache = jsonResponseCache;
+        this.timeout = timeout;
+        this.jitIterations = jitIterations;
+        this.detailLimit = detailLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        // 다시 시작하면 이전 결과를 지우고 끝날 때까지 다시 준비 전 상태로 응답
+        completed = false;
+        exercisedCalls = 0;
+        startedAt = System.currentTimeMillis();
+        Thread thread = new Thread(this::warmUp, "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 워밍업이 끝났거나 제한 시간이 지났으면 준비 완료
+     */
+    public boolean isReady() {
+        return completed || (startedAt > 0 && System.currentTimeMillis() - startedAt >= timeout.toMillis());
+    }
+
+    public WarmupStatusDto getStatus() {
+        Map<String, Long> cacheEntries = cacheEntries();
+        long elapsed = startedAt == 0 ? 0 : (completed ? finishedAt : System.currentTimeMillis()) - startedAt;
+        return WarmupStatusDto.builder()
+                .status(completed ? "READY" : isReady() ? "TIMED_OUT" : "WARMING_UP")
+                .ready(isReady())
+                .durationMillis(elapsed)
+                .entriesLoaded(cacheEntries.values().stream().mapToLong(Long::longValue).sum())
+                .cacheEntries(cacheEntries)
+                .exercisedCalls(exercisedCalls)
+                .build();
+    }
+
+    private void warmUp() {
+        try {
+            indexManager.rebuildAll();
+
+            // 초기 데이터는 변경 이벤트 없이 저장되므로, 적재 전에 채워졌을 수 있는 캐시를 비우고 다시 채움
+            for (String name : CacheConfig.CACHE_NAMES) {
+                Cache cache = cacheManager.getCache(name);
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+            jsonResponseCache.clear();
+            List<RestaurantResponseDto> restaurants = loadCaches();
+            exercise(restaurants);
+        } catch (Exception e) {
+            log.error("워밍업 실패 - 준비 완료로 처리합니다", e);
+        } finally {
+            finishedAt = System.currentTimeMillis();
+            completed = true;
+            WarmupStatusDto status = getStatus();
+            log.info("워밍업 완료 - {}ms, 캐시 항목 {}개 {}, 예열 호출 {}회",
+                    status.getDurationMillis(), status.getEntriesLoaded(), status.getCacheEntries(), exercisedCalls);
+        }
+    }
+
+    // 목록/통계/상세 캐시와 그 직렬화 결과를 채움
+    private List<RestaurantResponseDto> loadCaches() {
+        jsonResponseCache.get(JsonResponseCache.ALL_KEY, restaurantService::getAllRestaurants);
+        jsonResponseCache.get(JsonResponseCache.HIGH_RATED_KEY, restaurantService::getHighRatedRestaurants);
+        jsonResponseCache.get(JsonResponseCache.STATS_KEY, restaurantService::getRestaurantStatistics);
+        for (Category category : Category.values()) {
+            jsonResponseCache.get(JsonResponseCache.categoryKey(category),
+                    () -> restaurantService.getRestaurantsByCategory(category));
+        }
+
+        List<RestaurantResponseDto> restaurants = restaurantService.getAllRestaurants();
+
+        List<Long> ids = restaurants.stream().limit(detailLimit).map(RestaurantResponseDto::getId).toList();
+        for (int from = 0; from < ids.size(); from += 100) {
+            restaurantService.getRestaurantsByIds(ids.subList(from, Math.min(from + 100, ids.size())));
+        }
+        return restaurants;
+    }
+
+    // 인덱스를 쓰는 검색/근처/자동완성 조회를 반복 실행 (제한 시간 안에서만)
+    private void exercise(List<RestaurantResponseDto> restaurants) {
+        if (restaurants.isEmpty()) {
+            return;
+        }
+        long deadline = startedAt + timeout.toMillis();
+        for (int i = 0; i < jitIterations && System.currentTimeMillis() < deadline; i++) {
+            RestaurantResponseDto sample = restaurants.get(i % restaurants.size());
+            String name = sample.getName();
+            restaurantService.searchRestaurants(name.substring(0, Math.min(2, name.length())));
+            restaurantService.getSuggestions(name.substring(0, 1), null);
+            restaurantService.getNearbyRestaurants(sample.getLatitude(), sample.getLongitude(), 1.0);
+            exercisedCalls += 3;
+        }
+    }
+
+    private Map<String, Long> cacheEntries() {
+        Map<String, Long> entries = new LinkedHashMap<>();
+        for (String name : CacheConfig.CACHE_NAMES) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache caffeineCache) {
+                entries.put(name, caffeineCache.getNativeCache().estimatedSize());
+            }
+        }
+        return entries;
+    }
+}
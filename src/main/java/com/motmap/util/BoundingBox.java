@@ -0,0 +1,24 @@
+package com.motmap.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 위도/경도 사각 영역
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class BoundingBox {
+
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude &&
+               longitude >= minLongitude && longitude <= maxLongitude;
+    }
+}
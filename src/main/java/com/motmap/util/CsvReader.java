@@ -0,0 +1,127 @@
+package com.motmap.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최소한의 CSV 읽기 (RFC 4180)
+ * 쉼표로 구분하고, 큰따옴표로 감싼 값 안의 쉼표/줄바꿈과 두 번 쓴 큰따옴표("")를 처리한다.
+ * 줄바꿈은 LF와 CRLF를 모두 받으며, 파일 앞의 BOM과 빈 줄은 건너뛴다.
+ * 닫히지 않은 큰따옴표는 파일 끝까지를 값으로 읽는다(형식 오류는 값 검증 단계에서 걸러짐).
+ */
+public class CsvReader implements Closeable {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+
+    // 다음에 읽을 줄 번호 (1부터)
+    private long line = 1;
+
+    // 마지막으로 읽은 행이 시작된 줄 번호
+    private long recordLine;
+
+    // 되돌려 놓은 문자 (없으면 NONE)
+    private int pushback = NONE;
+
+    private boolean started = false;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 행의 값 목록 (파일 끝이면 null)
+     */
+    public List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean anyQuoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        fields.add(field.toString());
+                        break;
+                    }
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = following;
+                            continue;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                    anyQuoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int following = read();
+                        if (following != '\n') {
+                            pushback = following;
+                        }
+                    }
+                    if (c != -1) {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+
+            if (fields.size() == 1 && fields.get(0).isEmpty() && !anyQuoted) {
+                continue;
+            }
+            return fields;
+        }
+    }
+
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (pushback != NONE) {
+            int c = pushback;
+            pushback = NONE;
+            return c;
+        }
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+}
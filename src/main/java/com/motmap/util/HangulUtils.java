@@ -0,0 +1,155 @@
+package com.motmap.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 한글 음절 분해 (초성 추출, 자판 입력 단위의 자모 분해)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char CONSONANT_BEGIN = 'ㄱ';
+    private static final char CONSONANT_END = 'ㅎ';
+    private static final char VOWEL_END = 'ㅣ';
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char[] JUNGSUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ',
+            'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+
+    // 0번은 받침 없음
+    private static final char[] JONGSUNG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ',
+            'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 겹모음/겹받침 -> 자판에서 차례로 누르는 자모
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ"),
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    /**
+     * 완성형 한글 음절인지 확인
+     */
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 호환용 자음(ㄱ~ㅎ)인지 확인
+     */
+    public static boolean isConsonant(char c) {
+        return c >= CONSONANT_BEGIN && c <= CONSONANT_END;
+    }
+
+    /**
+     * 호환용 자모(ㄱ~ㅣ)인지 확인
+     */
+    public static boolean isJamo(char c) {
+        return c >= CONSONANT_BEGIN && c <= VOWEL_END;
+    }
+
+    /**
+     * 공백을 제외한 모든 글자가 자음인지 확인 (예: "ㅁㄷㄱㅈ")
+     */
+    public static boolean isChosungOnly(String text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (!isConsonant(c)) {
+                return false;
+            }
+            hasConsonant = true;
+        }
+        return hasConsonant;
+    }
+
+    /**
+     * 음절은 초성으로, 그 외 글자는 소문자로 바꾼 문자열 (예: "명동교자" -> "ㅁㄷㄱㅈ")
+     */
+    public static String toChosung(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                result.append(CHOSUNG[(c - SYLLABLE_BEGIN) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+            } else {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 자판 입력 순서대로 자모를 분해한 문자열 (예: "명동" -> "ㅁㅕㅇㄷㅗㅇ", "괜" -> "ㄱㅗㅐㄴ")
+     * 입력 중인 "명ㄷ", "명도"가 "명동"의 분해 결과의 접두어가 된다.
+     */
+    public static String toJamo(String text) {
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BEGIN;
+                result.append(CHOSUNG[offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+                appendJamo(result, JUNGSUNG[offset % (JUNGSUNG_COUNT * JONGSUNG_COUNT) / JONGSUNG_COUNT]);
+                char jongsung = JONGSUNG[offset % JONGSUNG_COUNT];
+                if (jongsung != 0) {
+                    appendJamo(result, jongsung);
+                }
+            } else if (isJamo(c)) {
+                appendJamo(result, c);
+            } else {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    private static void appendJamo(StringBuilder result, char jamo) {
+        String keys = COMPOUND_JAMO.get(jamo);
+        if (keys != null) {
+            result.append(keys);
+        } else {
+            result.append(jamo);
+        }
+    }
+
+    /**
+     * 검색용 정규화 (NFC 결합, 공백 제거, 소문자)
+     * 띄어쓰기와 무관하게 검색되고, 분리된 자모로 입력된 음절도 완성형으로 맞춘다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFC)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -29,6 +29,40 @@ public class LocationUtils {
         return EARTH_RADIUS_KM * c;
     }
 
+    /**
+     * 중심점에서 반경을 모두 포함하는 위도/경도 사각 영역을 계산합니다
+     * 경도 폭은 구면에서 정확한 값인 asin(sin(r/R) / cos(위도))를 사용합니다 (r/(R·cos(위도)) 근사는 반경이 크거나 위도가 높으면 폭이 모자람)
+     * 반경 원이 극점을 포함하거나 경도 180도를 넘는 경우에는 경도 전체 범위를 사용합니다
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @return 반경 원을 포함하는 사각 영역
+     */
+    public static BoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+        // 반경이 지구 둘레의 절반 이상이면 지구 전체
+        double angular = Math.min(radiusKm / EARTH_RADIUS_KM, Math.PI);
+        double latDelta = Math.toDegrees(angular);
+        double minLat = latitude - latDelta;
+        double maxLat = latitude + latDelta;
+
+        if (minLat <= -90.0 || maxLat >= 90.0) {
+            return new BoundingBox(Math.max(minLat, -90.0), Math.min(maxLat, 90.0), -180.0, 180.0);
+        }
+
+        // 극점을 포함하지 않으면 angular < 90° - |위도| 이므로 비율은 1보다 작음
+        double ratio = Math.sin(angular) / Math.cos(Math.toRadians(latitude));
+        if (ratio >= 1.0) {
+            return new BoundingBox(minLat, maxLat, -180.0, 180.0);
+        }
+        double lngDelta = Math.toDegrees(Math.asin(ratio));
+        double minLng = longitude - lngDelta;
+        double maxLng = longitude + lngDelta;
+        if (minLng < -180.0 || maxLng > 180.0) {
+            return new BoundingBox(minLat, maxLat, -180.0, 180.0);
+        }
+        return new BoundingBox(minLat, maxLat, minLng, maxLng);
+    }
+
     /**
      * 위도가 유효한 범위인지 검증합니다
      * @param latitude 검증할 위도
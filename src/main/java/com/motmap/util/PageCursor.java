@@ -0,0 +1,48 @@
+package com.motmap.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 커서 페이징의 위치 (마지막으로 응답한 맛집의 정렬 키와 ID)
+ * 클라이언트에는 "정렬 기준|방향|정렬 키|ID"를 URL-safe Base64로 인코딩한 불투명한 문자열로 준다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final boolean descending;
+    private final String sortKey;
+    private final long id;
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + (descending ? "desc" : "asc") + SEPARATOR + sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @return 형식이 맞지 않으면 빈 값
+     */
+    public static Optional<PageCursor> decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !(parts[1].equals("asc") || parts[1].equals("desc"))) {
+                return Optional.empty();
+            }
+            return Optional.of(new PageCursor(parts[0], parts[1].equals("desc"), parts[2], Long.parseLong(parts[3])));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
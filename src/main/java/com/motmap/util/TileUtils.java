@@ -0,0 +1,67 @@
+package com.motmap.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 웹 메르카토르(XYZ) 타일 좌표 계산
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TileUtils {
+
+    // 메르카토르 투영에서 표현 가능한 최대 위도
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    /**
+     * 줌 레벨에서 경도가 속한 타일 X (0 ~ 2^z - 1)
+     */
+    public static int tileX(double longitude, int zoom) {
+        return clamp((int) Math.floor(worldX(longitude) * (1 << zoom)), zoom);
+    }
+
+    /**
+     * 줌 레벨에서 위도가 속한 타일 Y (0 ~ 2^z - 1, 북쪽이 0)
+     */
+    public static int tileY(double latitude, int zoom) {
+        return clamp((int) Math.floor(worldY(latitude) * (1 << zoom)), zoom);
+    }
+
+    /**
+     * 경도를 0~1 범위의 세계 좌표로 변환
+     */
+    public static double worldX(double longitude) {
+        return (longitude + 180.0) / 360.0;
+    }
+
+    /**
+     * 위도를 0~1 범위의 세계 좌표로 변환 (북쪽이 0)
+     */
+    public static double worldY(double latitude) {
+        double lat = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        return (1.0 - Math.log(Math.tan(lat) + 1.0 / Math.cos(lat)) / Math.PI) / 2.0;
+    }
+
+    /**
+     * 타일이 덮는 위도/경도 영역
+     */
+    public static BoundingBox tileBounds(int zoom, int x, int y) {
+        double n = 1 << zoom;
+        double minLongitude = x / n * 360.0 - 180.0;
+        double maxLongitude = (x + 1) / n * 360.0 - 180.0;
+        double maxLatitude = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / n))));
+        double minLatitude = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * (y + 1) / n))));
+        return new BoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    /**
+     * 타일 좌표가 해당 줌 레벨의 범위 안인지 검증
+     */
+    public static boolean isValidTile(int zoom, int x, int y) {
+        int n = 1 << zoom;
+        return x >= 0 && x < n && y >= 0 && y < n;
+    }
+
+    private static int clamp(int tile, int zoom) {
+        return Math.max(0, Math.min(tile, (1 << zoom) - 1));
+    }
+}
@@ -0,0 +1,13 @@
+-- src/main/resources/db/migration/V2__cache_events.sql
+-- 노드 간 캐시 동기화용 맛집 변경 기록
+
+CREATE TABLE IF NOT EXISTS cache_events (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  restaurant_id BIGINT NOT NULL,
+  type VARCHAR(20) NOT NULL,
+  origin VARCHAR(64) NOT NULL,
+  before_json LONGTEXT,
+  after_json LONGTEXT,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  KEY idx_cache_event_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
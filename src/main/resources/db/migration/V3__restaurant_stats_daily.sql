@@ -0,0 +1,11 @@
+-- src/main/resources/db/migration/V3__restaurant_stats_daily.sql
+-- 일별 맛집 통계 집계 (등록일, 카테고리 단위)
+
+CREATE TABLE IF NOT EXISTS restaurant_stats_daily (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  stat_date DATE NOT NULL,
+  category VARCHAR(20) NOT NULL,
+  restaurants_added BIGINT NOT NULL,
+  rating_sum BIGINT NOT NULL,
+  UNIQUE KEY uk_stats_daily_date_category (stat_date, category)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
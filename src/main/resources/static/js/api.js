@@ -150,8 +150,12 @@ class ApiService {
         return this.request(`${this.baseUrl}/category/${category}`);
     }
 
-    async searchRestaurants(keyword) {
-        return this.request(`${this.baseUrl}/search?keyword=${encodeURIComponent(keyword)}`);
+    async searchRestaurants(keyword, mode = 'keyword') {
+        return this.request(`${this.baseUrl}/search?keyword=${encodeURIComponent(keyword)}&mode=${mode}`);
+    }
+
+    async getSuggestions(prefix, limit = 8) {
+        return this.request(`${this.baseUrl}/suggest?prefix=${encodeURIComponent(prefix)}&limit=${limit}`);
     }
 
     async getRestaurantsByRating() {
@@ -169,7 +173,77 @@ class ApiService {
     async getNearbyRestaurants(lat, lng, radius = 3) {
         return this.request(`${this.baseUrl}/nearby?latitude=${lat}&longitude=${lng}&radius=${radius}`);
     }
+
+    async getViewport(swLat, swLng, neLat, neLng, zoom) {
+        return this.request(`${this.baseUrl}/viewport?swLat=${swLat}&swLng=${swLng}&neLat=${neLat}&neLng=${neLng}&zoom=${zoom}`);
+    }
+
+    // ════════════════════════════════
+    // MAP TILE API (binary, revalidated by the browser via ETag)
+    // ════════════════════════════════
+
+    async getTile(z, x, y) {
+        const response = await fetch(`/api/tiles/${z}/${x}/${y}`);
+        if (!response.ok) {
+            throw new Error(`타일을 불러오지 못했습니다 (${response.status})`);
+        }
+        return this.decodeTile(await response.arrayBuffer());
+    }
+
+    // Header: 'M' 'T' | version | z | x, y, count (varint)
+    // Feature: id delta (varint) | px, py (uint16, extent 4096) | category ordinal | rating
+    decodeTile(buffer) {
+        const view = new DataView(buffer);
+        let offset = 0;
+        const readVarint = () => {
+            let value = 0;
+            let multiplier = 1;
+            let byte;
+            do {
+                byte = view.getUint8(offset++);
+                value += (byte & 0x7F) * multiplier;
+                multiplier *= 128;
+            } while (byte & 0x80);
+            return value;
+        };
+
+        if (view.getUint8(0) !== 0x4D || view.getUint8(1) !== 0x54 || view.getUint8(2) !== 1) {
+            throw new Error('지원하지 않는 타일 형식입니다');
+        }
+        offset = 3;
+        const z = view.getUint8(offset++);
+        const x = readVarint();
+        const y = readVarint();
+        const count = readVarint();
+
+        const n = 2 ** z;
+        const features = [];
+        let id = 0;
+        for (let i = 0; i < count; i++) {
+            id += readVarint();
+            const px = view.getUint16(offset);
+            const py = view.getUint16(offset + 2);
+            const category = TILE_CATEGORIES[view.getUint8(offset + 4)];
+            const rating = view.getUint8(offset + 5);
+            offset += 6;
+
+            // Tile-local position (pixel center) → lat/lng
+            const worldX = (x + (px + 0.5) / 4096) / n;
+            const worldY = (y + (py + 0.5) / 4096) / n;
+            features.push({
+                id,
+                latitude: Math.atan(Math.sinh(Math.PI * (1 - 2 * worldY))) * 180 / Math.PI,
+                longitude: worldX * 360 - 180,
+                category,
+                rating
+            });
+        }
+        return features;
+    }
 }
 
+// Category enum order on the server (ordinal used in tiles)
+const TILE_CATEGORIES = ['KOREAN', 'CHINESE', 'JAPANESE', 'WESTERN', 'CAFE', 'ETC'];
+
 // Global instance
 const apiService = new ApiService();
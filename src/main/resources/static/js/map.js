@@ -1,8 +1,12 @@
 // ═══════════════════════════════════════════
 // MOTMAP — Kakao Map Manager
-// 카카오맵, 커스텀 오버레이, 이모지 마커, 내 위치, 드래프트 핀, 마커 클러스터러, 반경 원, 길찾기
+// 카카오맵, 커스텀 오버레이, 이모지 마커, 내 위치, 드래프트 핀, 서버 클러스터, 반경 원, 길찾기
 // ═══════════════════════════════════════════
 
+// Web zoom range served by /api/tiles (see motmap.tiles in application.yml)
+const TILE_MIN_ZOOM = 16;
+const TILE_MAX_ZOOM = 20;
+
 class KakaoMapManager {
     constructor() {
         this.map = null;
@@ -10,7 +14,9 @@ class KakaoMapManager {
         this.overlays = [];
         this.geocoder = null;
         this.places = null;
-        this.clusterer = null;
+        this.clusterOverlays = [];
+        this.viewportMode = false;
+        this.viewportRequestId = 0;
         this.radiusCircle = null;
         this.selectedPosition = null;
         this.currentOverlay = null;
@@ -37,14 +43,10 @@ class KakaoMapManager {
         const zoomControl = new kakao.maps.ZoomControl();
         this.map.addControl(zoomControl, kakao.maps.ControlPosition.RIGHT);
 
-        // Marker Clusterer
-        if (kakao.maps.MarkerClusterer) {
-            this.clusterer = new kakao.maps.MarkerClusterer({
-                map: this.map,
-                averageCenter: true,
-                minLevel: 6
-            });
-        }
+        // Viewport loading (server-side clusters per zoom level)
+        kakao.maps.event.addListener(this.map, 'idle', () => {
+            if (this.viewportMode) this.loadViewport();
+        });
 
         // Map click listener
         kakao.maps.event.addListener(this.map, 'click', (mouseEvent) => {
@@ -487,10 +489,154 @@ class KakaoMapManager {
             m.infoOverlay.setMap(null);
         });
         this.markers = [];
+        this.clusterOverlays.forEach(o => o.setMap(null));
+        this.clusterOverlays = [];
+    }
+
+    // ── Viewport Mode (markers/clusters for the visible area only) ──
+    enableViewportMode() {
+        this.viewportMode = true;
+        this.loadViewport();
+    }
+
+    // Kakao level (1 = closest) → web map zoom (larger = closer)
+    getWebZoom() {
+        return Math.max(0, 20 - this.map.getLevel());
+    }
+
+    async loadViewport() {
+        const bounds = this.map.getBounds();
+        const sw = bounds.getSouthWest();
+        const ne = bounds.getNorthEast();
+        const requestId = ++this.viewportRequestId;
+
+        // Close zoom: light pins from binary tiles, details fetched on click
+        if (this.getWebZoom() >= TILE_MIN_ZOOM) {
+            await this.loadTiles(sw, ne, requestId);
+            return;
+        }
+
+        try {
+            const viewport = await apiService.getViewport(sw.getLat(), sw.getLng(), ne.getLat(), ne.getLng(), this.getWebZoom());
+            // Ignore responses that arrive after a newer pan/zoom
+            if (requestId !== this.viewportRequestId || !this.viewportMode) return;
+
+            this.clearMarkers();
+            if (viewport.clustered) {
+                viewport.clusters.forEach(c => this.addClusterOverlay(c));
+            } else {
+                viewport.restaurants.forEach(r => this.addMarker(r));
+            }
+        } catch (e) {
+            console.warn('Failed to load viewport:', e);
+        }
+    }
+
+    async loadTiles(sw, ne, requestId) {
+        const z = Math.min(TILE_MAX_ZOOM, this.getWebZoom());
+        const n = 2 ** z;
+        const tileX = lng => Math.min(n - 1, Math.max(0, Math.floor((lng + 180) / 360 * n)));
+        const tileY = lat => {
+            const rad = lat * Math.PI / 180;
+            const y = Math.floor((1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2 * n);
+            return Math.min(n - 1, Math.max(0, y));
+        };
+
+        const keys = [];
+        for (let x = tileX(sw.getLng()); x <= tileX(ne.getLng()); x++) {
+            for (let y = tileY(ne.getLat()); y <= tileY(sw.getLat()); y++) {
+                keys.push(`${z}/${x}/${y}`);
+            }
+        }
+
+        try {
+            // The browser revalidates with If-None-Match, so re-requests are cheap 304s
+            const tiles = await Promise.all(keys.map(key => {
+                const [tz, tx, ty] = key.split('/').map(Number);
+                return apiService.getTile(tz, tx, ty);
+            }));
+            if (requestId !== this.viewportRequestId || !this.viewportMode) return;
+
+            this.clearMarkers();
+            tiles.flat().forEach(f => this.addTilePin(f));
+        } catch (e) {
+            console.warn('Failed to load tiles:', e);
+        }
+    }
+
+    // Lightweight pin from a tile feature; replaced by a full marker on click
+    addTilePin(feature) {
+        const position = new kakao.maps.LatLng(feature.latitude, feature.longitude);
+        const el = document.createElement('div');
+        el.className = 'map-tile-pin';
+        el.textContent = this.getCategoryEmoji(feature.category);
+
+        const overlay = new kakao.maps.CustomOverlay({
+            position: position,
+            content: el,
+            clickable: true,
+            yAnchor: 1,
+            zIndex: 1
+        });
+        overlay.setMap(this.map);
+
+        el.addEventListener('click', async (e) => {
+            e.stopPropagation();
+            try {
+                const restaurant = await apiService.getRestaurantById(feature.id);
+                overlay.setMap(null);
+                this.addMarker(restaurant);
+                const markerData = this.markers[this.markers.length - 1];
+                this.closeOverlay();
+                this.currentOverlay = markerData.infoOverlay;
+                markerData.infoOverlay.setMap(this.map);
+            } catch (err) {
+                console.warn('Failed to load restaurant:', err);
+            }
+        });
+
+        this.clusterOverlays.push(overlay);
+    }
+
+    addClusterOverlay(cluster) {
+        const position = new kakao.maps.LatLng(cluster.latitude, cluster.longitude);
+        const topCategory = Object.entries(cluster.categoryCounts || {})
+            .sort((a, b) => b[1] - a[1])[0];
+        const size = Math.min(64, 32 + Math.round(Math.log10(cluster.count) * 12));
+
+        const el = document.createElement('div');
+        el.className = 'map-cluster';
+        el.style.width = `${size}px`;
+        el.style.height = `${size}px`;
+        el.innerHTML = `
+            <span class="map-cluster-emoji">${topCategory ? this.getCategoryEmoji(topCategory[0]) : '🍴'}</span>
+            <span class="map-cluster-count">${cluster.count}</span>
+        `;
+        el.title = Object.entries(cluster.categoryCounts || {})
+            .map(([category, count]) => `${this.getCategoryLabel(category)} ${count}`)
+            .join(', ');
+
+        const overlay = new kakao.maps.CustomOverlay({
+            position: position,
+            content: el,
+            clickable: true,
+            xAnchor: 0.5,
+            yAnchor: 0.5,
+            zIndex: 2
+        });
+        overlay.setMap(this.map);
+
+        el.addEventListener('click', (e) => {
+            e.stopPropagation();
+            this.map.setLevel(Math.max(1, this.map.getLevel() - 2), { anchor: position });
+        });
+
+        this.clusterOverlays.push(overlay);
     }
 
     // ── Update Markers & Fit Bounds ──
     updateMarkers(restaurants, autoFit = true) {
+        this.viewportMode = false;
         this.clearMarkers();
         restaurants.forEach(r => this.addMarker(r));
         if (autoFit && restaurants.length > 0) {
@@ -23,14 +23,14 @@ class RestaurantUI {
     // ════════════════════════════════
 
     initEventListeners() {
-        // Search
-        const debouncedSearch = typeof debounce === 'function' ? debounce(() => this.handleSearch(), 350) : null;
+        // Search (typing only fetches suggestions; Enter/button runs the full search)
+        const debouncedSuggest = typeof debounce === 'function' ? debounce(() => this.handleSuggest(), 200) : null;
         document.getElementById('searchBtn').addEventListener('click', () => this.handleSearch());
         document.getElementById('searchInput').addEventListener('keypress', (e) => {
             if (e.key === 'Enter') this.handleSearch();
         });
-        if (debouncedSearch) {
-            document.getElementById('searchInput').addEventListener('input', debouncedSearch);
+        if (debouncedSuggest) {
+            document.getElementById('searchInput').addEventListener('input', debouncedSuggest);
         }
 
         // Address search button in form
@@ -241,7 +241,9 @@ class RestaurantUI {
 
         try {
             this.showSkeleton();
-            const results = await apiService.searchRestaurants(query);
+            // Initial consonants or a half-typed syllable (ㅁㄷㄱㅈ, 명ㄷ) → Hangul name search
+            const mode = /[ㄱ-ㅣ]/.test(query) ? 'hangul' : 'keyword';
+            const results = await apiService.searchRestaurants(query, mode);
             this.currentRestaurants = results;
             this.renderRestaurantList(results);
 
@@ -267,6 +269,25 @@ class RestaurantUI {
         }
     }
 
+    async handleSuggest() {
+        const query = document.getElementById('searchInput').value.trim();
+        const datalist = document.getElementById('searchSuggestions');
+        if (!datalist) return;
+        if (!query) {
+            datalist.innerHTML = '';
+            return;
+        }
+
+        try {
+            const suggestions = await apiService.getSuggestions(query);
+            // Restaurant name, or the address word that matched (e.g. "명동2가")
+            const values = [...new Set(suggestions.map(s => s.field === 'NAME' ? s.name : s.matched))];
+            datalist.innerHTML = values.map(v => `<option value="${escapeHtml(v)}"></option>`).join('');
+        } catch (e) {
+            datalist.innerHTML = '';
+        }
+    }
+
     async handleFilter() {
         const category = document.getElementById('categoryFilter').value;
         const sortOrder = document.getElementById('sortOrder').value;
@@ -384,7 +405,7 @@ class RestaurantUI {
             const restaurants = await apiService.getAllRestaurants();
             this.currentRestaurants = restaurants;
             this.renderRestaurantList(restaurants);
-            if (mapManager) mapManager.updateMarkers(restaurants, true);
+            if (mapManager) mapManager.enableViewportMode();
         } catch (error) {
             this.showEmpty('맛집 목록을 불러올 수 없습니다');
         }
@@ -1,4 +1,4 @@
-const CACHE_NAME = 'motmap-cache-v1';
+const CACHE_NAME = 'motmap-cache-v2';
 const ASSETS_TO_CACHE = [
   '/',
   '/css/style.css',
@@ -31,10 +31,52 @@ self.addEventListener('activate', (event) => {
   );
 });
 
+// Restaurant read APIs answer conditional requests with 304 when the data version is unchanged
+const REVALIDATED_API_PATH = '/api/restaurants';
+
+function isRevalidatedApi(request) {
+  const url = new URL(request.url);
+  return url.origin === self.location.origin &&
+    (url.pathname === REVALIDATED_API_PATH || url.pathname.startsWith(REVALIDATED_API_PATH + '/'));
+}
+
+// Send the stored ETag / Last-Modified; reuse the stored body on 304, store it on 200
+async function revalidate(request) {
+  const cache = await caches.open(CACHE_NAME);
+  const cached = await cache.match(request);
+
+  const headers = new Headers(request.headers);
+  if (cached) {
+    const etag = cached.headers.get('ETag');
+    const lastModified = cached.headers.get('Last-Modified');
+    if (etag) headers.set('If-None-Match', etag);
+    if (lastModified) headers.set('If-Modified-Since', lastModified);
+  }
+
+  try {
+    const networkResponse = await fetch(request, { headers, cache: 'no-store' });
+    if (networkResponse.status === 304 && cached) {
+      return cached;
+    }
+    if (networkResponse.status === 200 && networkResponse.headers.has('ETag')) {
+      await cache.put(request, networkResponse.clone());
+    }
+    return networkResponse;
+  } catch (error) {
+    if (cached) return cached;
+    throw error;
+  }
+}
+
 self.addEventListener('fetch', (event) => {
   // Network first fallback to cache for dynamic requests
   if (event.request.method !== 'GET') return;
 
+  if (isRevalidatedApi(event.request)) {
+    event.respondWith(revalidate(event.request));
+    return;
+  }
+
   event.respondWith(
     fetch(event.request)
       .then((networkResponse) => {
@@ -0,0 +1,167 @@
+package com.motmap.benchmark;
+
+import com.motmap.dto.RestaurantResponseDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 성능 측정 테스트 공통 도구
+ * 기본은 H2 메모리 DB를 쓰고, -Dbenchmark.jdbc.url(과 user/password)을 주면 그 DB(MySQL 등)에서 측정한다.
+ * 행 수 등은 -Dbenchmark.* 시스템 속성으로 바꿀 수 있다 (./gradlew benchmark -Dbenchmark.nearby.rows=1000000).
+ */
+final class BenchmarkSupport {
+
+    // 서울 부근 (맛집 좌표와 검색 중심을 뽑는 범위)
+    static final double MIN_LATITUDE = 37.40;
+    static final double MAX_LATITUDE = 37.70;
+    static final double MIN_LONGITUDE = 126.80;
+    static final double MAX_LONGITUDE = 127.20;
+
+    private BenchmarkSupport() {
+    }
+
+    static JdbcTemplate database() {
+        String url = System.getProperty("benchmark.jdbc.url");
+        if (url == null) {
+            return new JdbcTemplate(new DriverManagerDataSource(
+                    "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        }
+        return new JdbcTemplate(new DriverManagerDataSource(url,
+                System.getProperty("benchmark.jdbc.user", "root"), System.getProperty("benchmark.jdbc.password", "")));
+    }
+
+    static boolean isH2(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.execute((Connection connection) ->
+                connection.getMetaData().getDatabaseProductName()).startsWith("H2");
+    }
+
+    static int[] intsProperty(String name, String defaultValue) {
+        return Arrays.stream(System.getProperty(name, defaultValue).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    /**
+     * 측정용 bench_restaurants 테이블을 새로 만들고 무작위 맛집을 채움 (위치 인덱스 포함)
+     * @return 저장한 맛집 (인메모리 인덱스 구성용)
+     */
+    static List<RestaurantResponseDto> seedRestaurants(JdbcTemplate jdbcTemplate, int rows, Random random) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_restaurants");
+        jdbcTemplate.execute("CREATE TABLE bench_restaurants (id BIGINT PRIMARY KEY, name VARCHAR(50) NOT NULL, " +
+                "address VARCHAR(200) NOT NULL, review VARCHAR(1000), rating INT NOT NULL, " +
+                "latitude DOUBLE NOT NULL, longitude DOUBLE NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX idx_bench_location ON bench_restaurants (latitude, longitude)");
+
+        List<RestaurantResponseDto> restaurants = new ArrayList<>(rows);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 1; i <= rows; i++) {
+            RestaurantResponseDto restaurant = new RestaurantResponseDto();
+            restaurant.setId((long) i);
+            restaurant.setName(KoreanText.name(random, i));
+            restaurant.setAddress(KoreanText.address(random));
+            restaurant.setReview(KoreanText.review(random));
+            restaurant.setRating(1 + random.nextInt(5));
+            restaurant.setLatitude(MIN_LATITUDE + random.nextDouble() * (MAX_LATITUDE - MIN_LATITUDE));
+            restaurant.setLongitude(MIN_LONGITUDE + random.nextDouble() * (MAX_LONGITUDE - MIN_LONGITUDE));
+            restaurants.add(restaurant);
+            batch.add(new Object[]{i, restaurant.getName(), restaurant.getAddress(), restaurant.getReview(),
+                    restaurant.getRating(), restaurant.getLatitude(), restaurant.getLongitude()});
+            if (batch.size() == 5_000 || i == rows) {
+                jdbcTemplate.batchUpdate("INSERT INTO bench_restaurants " +
+                        "(id, name, address, review, rating, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!isH2(jdbcTemplate)) {
+            jdbcTemplate.execute("ANALYZE TABLE bench_restaurants");
+        }
+        return restaurants;
+    }
+
+    /**
+     * 실행 시간 분포 측정 (워밍업 후 iterations번 실행)
+     */
+    static Latency measure(int warmup, int iterations, Runnable task) {
+        for (int i = 0; i < warmup; i++) {
+            task.run();
+        }
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            task.run();
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return new Latency(nanos);
+    }
+
+    /**
+     * 현재 스레드가 task 실행 중에 할당한 바이트 수 (HotSpot 전용)
+     */
+    static long allocatedBytes(Runnable task) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        task.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    static final class Latency {
+        private final long[] sortedNanos;
+
+        private Latency(long[] sortedNanos) {
+            this.sortedNanos = sortedNanos;
+        }
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("p50 %8.3fms  p99 %8.3fms", percentileMillis(50), percentileMillis(99));
+        }
+    }
+
+    /**
+     * 한글 맛집 이름/주소/리뷰 생성 (검색 측정용)
+     */
+    static final class KoreanText {
+
+        private static final String[] NAME_WORDS = {"명동", "교자", "전주", "중앙", "회관", "스타", "짬뽕", "국밥", "냉면",
+                "치킨", "분식", "곱창", "삼겹살", "초밥", "라멘", "카페", "베이커리", "떡볶이", "순대", "막국수"};
+        private static final String[] DISTRICTS = {"중구", "종로구", "강남구", "서초구", "마포구", "용산구", "성동구", "송파구"};
+        private static final String[] REVIEW_WORDS = {"맛있어요", "친절해요", "분위기가", "좋아요", "가격이", "저렴해요",
+                "양이", "많아요", "웨이팅이", "길어요", "재방문", "의사", "있어요", "국물이", "진해요", "매콤해요"};
+
+        private KoreanText() {
+        }
+
+        static String name(Random random, int n) {
+            return NAME_WORDS[random.nextInt(NAME_WORDS.length)] + NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " " + n;
+        }
+
+        static String address(Random random) {
+            return "서울특별시 " + DISTRICTS[random.nextInt(DISTRICTS.length)] + " " + (1 + random.nextInt(300)) + "-"
+                    + (1 + random.nextInt(50));
+        }
+
+        static String review(Random random) {
+            StringBuilder review = new StringBuilder();
+            for (int i = 0; i < 6; i++) {
+                review.append(REVIEW_WORDS[random.nextInt(REVIEW_WORDS.length)]).append(' ');
+            }
+            return review.toString().trim();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.motmap.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY vs 풀링 시퀀스(pooled-lo) ID 생성 INSERT 성능 비교
+ * 애플리케이션과 같은 Hibernate 배치 설정(batch_size 100, order_inserts)으로
+ * 10만 행을 1000행 트랜잭션으로 나눠 저장하고, 걸린 시간과 준비한 JDBC 문장 수를 출력한다.
+ * (배치로 묶이면 배치 하나에 문장 하나만 준비하므로 문장 수가 곧 DB 왕복 횟수)
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class IdGenerationBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+
+    @Test
+    void pooledSequenceBatchesInsertsThatIdentityCannot() {
+        Result identity = run(IdentityRow.class, IdentityRow::new);
+        Result pooled = run(PooledRow.class, PooledRow::new);
+
+        System.out.printf("%-12s %8s %8s %12s%n", "strategy", "rows", "millis", "statements");
+        System.out.println(identity);
+        System.out.println(pooled);
+
+        // IDENTITY는 행마다 생성된 키를 읽어야 해서 배치로 묶이지 않음
+        assertThat(identity.statements).isGreaterThanOrEqualTo(ROWS);
+        // 풀링 시퀀스: 100행마다 배치 하나 + 50행마다 시퀀스 호출 하나
+        assertThat(pooled.statements).isLessThanOrEqualTo(ROWS / 100 + ROWS / 50);
+    }
+
+    private Result run(Class<?> entity, IntFunction<Object> factory) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 100)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .applySetting(AvailableSettings.LOG_SESSION_METRICS, false)
+                .build();
+        try (SessionFactory sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(entity)
+                .buildMetadata()
+                .buildSessionFactory()) {
+            // 워밍업 한 번 후 통계 초기화
+            insert(sessionFactory, factory, ROWS_PER_TRANSACTION);
+            Statistics statistics = sessionFactory.getStatistics();
+            statistics.clear();
+
+            long started = System.nanoTime();
+            insert(sessionFactory, factory, ROWS);
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            return new Result(entity.getSimpleName(), millis, statistics.getPrepareStatementCount());
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    private void insert(SessionFactory sessionFactory, IntFunction<Object> factory, int rows) {
+        for (int from = 0; from < rows; from += ROWS_PER_TRANSACTION) {
+            int to = Math.min(rows, from + ROWS_PER_TRANSACTION);
+            int start = from;
+            sessionFactory.inTransaction(session -> {
+                for (int i = start; i < to; i++) {
+                    session.persist(factory.apply(i));
+                }
+            });
+        }
+    }
+
+    private static final class Result {
+        private final String strategy;
+        private final long millis;
+        private final long statements;
+
+        private Result(String strategy, long millis, long statements) {
+            this.strategy = strategy;
+            this.millis = millis;
+            this.statements = statements;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-12s %8d %8d %12d", strategy, ROWS, millis, statements);
+        }
+    }
+
+    @Entity
+    @Table(name = "identity_rows")
+    static class IdentityRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        String name;
+
+        IdentityRow() {
+        }
+
+        IdentityRow(int i) {
+            this.name = "맛집" + i;
+        }
+    }
+
+    @Entity
+    @Table(name = "pooled_rows")
+    static class PooledRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_row_id")
+        @SequenceGenerator(name = "pooled_row_id", sequenceName = "pooled_row_seq", allocationSize = 50)
+        Long id;
+
+        String name;
+
+        PooledRow() {
+        }
+
+        PooledRow(int i) {
+            this.name = "맛집" + i;
+        }
+    }
+}
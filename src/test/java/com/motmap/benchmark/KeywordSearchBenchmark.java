@@ -0,0 +1,82 @@
+package com.motmap.benchmark;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.index.NgramSearchIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키워드 검색: n-gram 역색인 vs 기존 JPQL(이름/주소/리뷰 LOWER LIKE '%키워드%')
+ * 맛집 수별로 같은 키워드를 두 방식으로 검색해 지연 시간 분포와 검색 한 번당 할당 바이트를 출력한다.
+ * 실행: ./gradlew benchmark --tests '*KeywordSearchBenchmark' [-Dbenchmark.search.rows=10000,100000,500000]
+ */
+@Tag("benchmark")
+class KeywordSearchBenchmark {
+
+    // RestaurantRepository.searchDtosByKeyword와 같은 조건
+    private static final String LIKE_SQL = "SELECT id FROM bench_restaurants WHERE " +
+            "LOWER(name) LIKE LOWER(CONCAT('%', ?, '%')) OR " +
+            "LOWER(address) LIKE LOWER(CONCAT('%', ?, '%')) OR " +
+            "LOWER(review) LIKE LOWER(CONCAT('%', ?, '%')) ORDER BY id";
+
+    private static final String[] KEYWORDS = {"명동", "교자", "국밥", "강남구", "맛있어요", "웨이팅이", "치킨분식",
+            "냉면", "서울특별시 마포구", "카", "진해요", "없는가게"};
+
+    private static final int QUERIES = 120;
+
+    @Test
+    void ngramIndexVersusLikeQuery() {
+        int[] sizes = BenchmarkSupport.intsProperty("benchmark.search.rows", "10000,100000");
+        JdbcTemplate jdbcTemplate = BenchmarkSupport.database();
+
+        System.out.printf("%-10s %-12s %-36s %-18s %s%n", "rows", "method", "latency", "alloc/query", "avg hits");
+        for (int rows : sizes) {
+            List<RestaurantResponseDto> restaurants = BenchmarkSupport.seedRestaurants(jdbcTemplate, rows, new Random(rows));
+            NgramSearchIndex index = new NgramSearchIndex(1.2, 0.75, 3.0, 1.5, 1.0);
+            index.rebuild(restaurants);
+
+            // 두 방식의 결과가 같아야 비교가 의미 있음
+            long hits = 0;
+            for (String keyword : KEYWORDS) {
+                List<Long> found = index.search(keyword);
+                assertThat(found).as(keyword).isEqualTo(likeSearch(jdbcTemplate, keyword));
+                hits += found.size();
+            }
+            long avgHits = hits / KEYWORDS.length;
+
+            int[] cursor = {0};
+            Runnable indexSearch = () -> index.search(KEYWORDS[cursor[0]++ % KEYWORDS.length]);
+            Runnable likeSearch = () -> likeSearch(jdbcTemplate, KEYWORDS[cursor[0]++ % KEYWORDS.length]);
+
+            BenchmarkSupport.Latency indexLatency = BenchmarkSupport.measure(QUERIES, QUERIES, indexSearch);
+            long indexAlloc = BenchmarkSupport.allocatedBytes(() -> repeat(indexSearch, KEYWORDS.length)) / KEYWORDS.length;
+
+            int likeQueries = rows >= 100_000 ? QUERIES / 4 : QUERIES;
+            BenchmarkSupport.Latency likeLatency = BenchmarkSupport.measure(KEYWORDS.length, likeQueries, likeSearch);
+            long likeAlloc = BenchmarkSupport.allocatedBytes(() -> repeat(likeSearch, KEYWORDS.length)) / KEYWORDS.length;
+
+            System.out.printf("%-10d %-12s %-36s %-18s %d%n", rows, "n-gram", indexLatency, kib(indexAlloc), avgHits);
+            System.out.printf("%-10d %-12s %-36s %-18s %d%n", rows, "LIKE", likeLatency, kib(likeAlloc), avgHits);
+        }
+    }
+
+    private List<Long> likeSearch(JdbcTemplate jdbcTemplate, String keyword) {
+        return jdbcTemplate.queryForList(LIKE_SQL, Long.class, keyword, keyword, keyword);
+    }
+
+    private void repeat(Runnable task, int times) {
+        for (int i = 0; i < times; i++) {
+            task.run();
+        }
+    }
+
+    private String kib(long bytes) {
+        return String.format("%.1f KiB", bytes / 1024.0);
+    }
+}
@@ -0,0 +1,128 @@
+package com.motmap.benchmark;
+
+import com.motmap.util.BoundingBox;
+import com.motmap.util.LocationUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반경 검색 SQL: 전체 행 거리 계산 vs 사각 영역(BETWEEN) 선필터
+ * 같은 검색을 두 쿼리로 실행해 읽은 행 수와 지연 시간(p50/p99)을 출력한다.
+ * 읽은 행 수는 H2에서는 EXPLAIN ANALYZE의 scanCount, MySQL에서는 세션 Handler_read_* 증가량으로 잰다.
+ * 실행: ./gradlew benchmark --tests '*NearbyBoundingBoxBenchmark' [-Dbenchmark.bbox.rows=500000]
+ *       MySQL: -Dbenchmark.jdbc.url=jdbc:mysql://localhost:3306/motmap_bench -Dbenchmark.jdbc.user=... -Dbenchmark.jdbc.password=...
+ */
+@Tag("benchmark")
+class NearbyBoundingBoxBenchmark {
+
+    private static final String DISTANCE = "(6371 * acos(cos(radians(?)) * cos(radians(latitude)) * " +
+            "cos(radians(longitude) - radians(?)) + sin(radians(?)) * sin(radians(latitude))))";
+
+    private static final String FULL_SCAN_SQL = "SELECT id, " + DISTANCE + " AS distance FROM bench_restaurants " +
+            "WHERE " + DISTANCE + " < ? ORDER BY distance";
+
+    private static final String BOUNDING_BOX_SQL = "SELECT id, " + DISTANCE + " AS distance FROM bench_restaurants " +
+            "WHERE latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ? AND " + DISTANCE + " < ? ORDER BY distance";
+
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    private static final int QUERIES = 100;
+
+    @Test
+    void boundingBoxPrefilterExaminesFewerRows() {
+        int rows = BenchmarkSupport.intsProperty("benchmark.bbox.rows", "500000")[0];
+        JdbcTemplate jdbcTemplate = BenchmarkSupport.database();
+        Random random = new Random(rows);
+        BenchmarkSupport.seedRestaurants(jdbcTemplate, rows, random);
+        boolean h2 = BenchmarkSupport.isH2(jdbcTemplate);
+
+        Object[][] fullScanArgs = new Object[QUERIES][];
+        Object[][] boundingBoxArgs = new Object[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            double latitude = BenchmarkSupport.MIN_LATITUDE + 0.05 + random.nextDouble() * 0.2;
+            double longitude = BenchmarkSupport.MIN_LONGITUDE + 0.05 + random.nextDouble() * 0.3;
+            double radius = 0.5 + random.nextDouble() * 2.5;
+            BoundingBox box = LocationUtils.boundingBox(latitude, longitude, radius);
+            fullScanArgs[i] = new Object[]{latitude, longitude, latitude, latitude, longitude, latitude, radius};
+            boundingBoxArgs[i] = new Object[]{latitude, longitude, latitude,
+                    box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude(),
+                    latitude, longitude, latitude, radius};
+        }
+
+        Result fullScan = run(jdbcTemplate, h2, FULL_SCAN_SQL, fullScanArgs);
+        Result boundingBox = run(jdbcTemplate, h2, BOUNDING_BOX_SQL, boundingBoxArgs);
+
+        System.out.printf("%s, %d rows%n", h2 ? "H2" : "external DB", rows);
+        System.out.printf("%-14s %-36s %-16s %s%n", "query", "latency", "rows examined", "avg hits");
+        System.out.printf("%-14s %-36s %-16d %d%n", "full scan", fullScan.latency, fullScan.rowsExamined, fullScan.hits);
+        System.out.printf("%-14s %-36s %-16d %d%n", "bounding box", boundingBox.latency, boundingBox.rowsExamined, boundingBox.hits);
+
+        assertThat(boundingBox.hits).isEqualTo(fullScan.hits);
+        assertThat(boundingBox.rowsExamined).isLessThan(fullScan.rowsExamined / 10);
+    }
+
+    private Result run(JdbcTemplate jdbcTemplate, boolean h2, String sql, Object[][] args) {
+        int[] cursor = {0};
+        long[] hits = {0};
+        BenchmarkSupport.Latency latency = BenchmarkSupport.measure(10, QUERIES, () ->
+                hits[0] += jdbcTemplate.queryForList(sql, args[cursor[0]++ % QUERIES]).size());
+
+        long examined = 0;
+        int sampled = 10;
+        for (int i = 0; i < sampled; i++) {
+            examined += rowsExamined(jdbcTemplate, h2, sql, args[i]);
+        }
+        return new Result(latency, examined / sampled, hits[0] / (QUERIES + 10));
+    }
+
+    // 쿼리 한 번에 읽은 행 수
+    private long rowsExamined(JdbcTemplate jdbcTemplate, boolean h2, String sql, Object[] args) {
+        if (h2) {
+            long scanned = 0;
+            for (String line : jdbcTemplate.queryForList("EXPLAIN ANALYZE " + sql, String.class, args)) {
+                Matcher matcher = SCAN_COUNT.matcher(line);
+                while (matcher.find()) {
+                    scanned += Long.parseLong(matcher.group(1));
+                }
+            }
+            return scanned;
+        }
+        // 커넥션 풀이 없으므로 같은 세션에서 실행되도록 한 커넥션 안에서 전후 상태를 읽음
+        return jdbcTemplate.execute((Connection connection) -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            long before = handlerReads(session);
+            session.queryForList(sql, args);
+            return handlerReads(session) - before;
+        });
+    }
+
+    private long handlerReads(JdbcTemplate session) {
+        long total = 0;
+        for (Map<String, Object> row : session.queryForList("SHOW SESSION STATUS LIKE 'Handler_read%'")) {
+            total += Long.parseLong(row.get("Value").toString());
+        }
+        return total;
+    }
+
+    private static final class Result {
+        private final BenchmarkSupport.Latency latency;
+        private final long rowsExamined;
+        private final long hits;
+
+        private Result(BenchmarkSupport.Latency latency, long rowsExamined, long hits) {
+            this.latency = latency;
+            this.rowsExamined = rowsExamined;
+            this.hits = hits;
+        }
+    }
+}
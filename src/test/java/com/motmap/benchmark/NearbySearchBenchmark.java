@@ -0,0 +1,74 @@
+package com.motmap.benchmark;
+
+import com.motmap.index.GridSpatialIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반경 검색: 격자 위치 인덱스 vs 기존 네이티브 쿼리(전체 행에 acos 거리 계산)
+ * 맛집 수별로 같은 검색 중심/반경을 두 방식으로 실행해 지연 시간 분포를 출력한다.
+ * 실행: ./gradlew benchmark --tests '*NearbySearchBenchmark' [-Dbenchmark.nearby.rows=10000,100000,1000000]
+ */
+@Tag("benchmark")
+class NearbySearchBenchmark {
+
+    private static final String NATIVE_NEARBY_SQL = "SELECT id FROM bench_restaurants WHERE " +
+            "(6371 * acos(cos(radians(?)) * cos(radians(latitude)) * cos(radians(longitude) - radians(?)) " +
+            "+ sin(radians(?)) * sin(radians(latitude)))) < ?";
+
+    private static final int QUERIES = 200;
+
+    @Test
+    void gridIndexVersusNativeDistanceQuery() {
+        int[] sizes = BenchmarkSupport.intsProperty("benchmark.nearby.rows", "10000,100000");
+        JdbcTemplate jdbcTemplate = BenchmarkSupport.database();
+
+        System.out.printf("%-10s %-14s %-36s %s%n", "rows", "method", "latency", "avg hits");
+        for (int rows : sizes) {
+            Random random = new Random(rows);
+            GridSpatialIndex index = new GridSpatialIndex(0.01);
+            index.rebuild(BenchmarkSupport.seedRestaurants(jdbcTemplate, rows, random));
+
+            double[][] queries = queries(random);
+            int[] cursor = {0};
+            long[] gridHits = {0};
+            long[] sqlHits = {0};
+
+            BenchmarkSupport.Latency grid = BenchmarkSupport.measure(QUERIES, QUERIES, () -> {
+                double[] q = queries[cursor[0]++ % QUERIES];
+                gridHits[0] += index.findWithinRadius(q[0], q[1], q[2]).size();
+            });
+            int sqlQueries = rows >= 1_000_000 ? QUERIES / 10 : QUERIES;
+            BenchmarkSupport.Latency sql = BenchmarkSupport.measure(5, sqlQueries, () -> {
+                double[] q = queries[cursor[0]++ % QUERIES];
+                sqlHits[0] += jdbcTemplate.queryForList(NATIVE_NEARBY_SQL, Long.class, q[0], q[1], q[0], q[2]).size();
+            });
+
+            System.out.printf("%-10d %-14s %-36s %d%n", rows, "grid index", grid, gridHits[0] / (2 * QUERIES));
+            System.out.printf("%-10d %-14s %-36s %d%n", rows, "native SQL", sql, sqlHits[0] / (5 + sqlQueries));
+
+            // 같은 검색에 대해 두 방식의 결과 수가 (acos/하버사인 경계 오차를 빼면) 같은지 확인
+            double[] q = queries[0];
+            int fromSql = jdbcTemplate.queryForList(NATIVE_NEARBY_SQL, Long.class, q[0], q[1], q[0], q[2]).size();
+            assertThat(index.findWithinRadius(q[0], q[1], q[2]).size()).isCloseTo(fromSql, org.assertj.core.data.Offset.offset(2));
+            assertThat(grid.percentileMillis(50)).isLessThan(sql.percentileMillis(50));
+        }
+    }
+
+    // 검색 중심과 반경 (0.5~5km)
+    private double[][] queries(Random random) {
+        double[][] queries = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new double[]{
+                    BenchmarkSupport.MIN_LATITUDE + 0.05 + random.nextDouble() * 0.2,
+                    BenchmarkSupport.MIN_LONGITUDE + 0.05 + random.nextDouble() * 0.3,
+                    0.5 + random.nextDouble() * 4.5};
+        }
+        return queries;
+    }
+}
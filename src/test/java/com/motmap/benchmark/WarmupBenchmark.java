@@ -0,0 +1,151 @@
+package com.motmap.benchmark;
+
+import com.motmap.cache.JsonResponseCache;
+import com.motmap.config.CacheConfig;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.dto.WarmupStatusDto;
+import com.motmap.entity.Category;
+import com.motmap.entity.Restaurant;
+import com.motmap.index.RestaurantIndexManager;
+import com.motmap.repository.RestaurantRepository;
+import com.motmap.service.RestaurantService;
+import com.motmap.service.WarmupService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기동 워밍업 효과: 캐시가 빈 상태의 첫 요청 vs 워밍업 뒤 첫 요청
+ * 맛집 수별로 캐시를 비운 채 주요 조회를 한 번씩 실행해 지연 시간을 재고,
+ * 다시 캐시를 비운 뒤 워밍업을 돌려 소요 시간과 적재 항목 수를 출력한 다음 같은 조회를 다시 잰다.
+ * 같은 JVM에서 반복하므로 두 번째 크기부터는 JIT가 이미 예열되어 있어 캐시 적재 효과만 드러난다.
+ * 실행: ./gradlew benchmark --tests '*WarmupBenchmark' [-Dbenchmark.warmup.rows=10000,50000]
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "motmap.warmup.timeout=10m")
+class WarmupBenchmark {
+
+    private static final int DETAIL_BATCH = 100;
+
+    @Autowired
+    private WarmupService warmupService;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private RestaurantIndexManager indexManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JsonResponseCache jsonResponseCache;
+
+    @Test
+    void firstRequestsAfterWarmupSkipCacheMisses() throws InterruptedException {
+        int[] sizes = BenchmarkSupport.intsProperty("benchmark.warmup.rows", "10000,50000");
+        awaitReady();
+
+        Random random = new Random(18);
+        for (int rows : sizes) {
+            seed(rows, random);
+            indexManager.rebuildAll();
+
+            clearCaches();
+            Map<String, Double> cold = firstRequests();
+
+            clearCaches();
+            warmupService.onApplicationReady();
+            WarmupStatusDto status = awaitReady();
+            Map<String, Double> warm = firstRequests();
+
+            assertThat(status.getStatus()).isEqualTo("READY");
+            assertThat(status.getCacheEntries().get("restaurants")).isEqualTo(1L);
+            System.out.printf("%n%d rows - warm-up %dms, cache entries %d %s, exercised calls %d%n", rows,
+                    status.getDurationMillis(), status.getEntriesLoaded(), status.getCacheEntries(),
+                    status.getExercisedCalls());
+            System.out.printf("%-24s %12s %12s%n", "first request", "cold", "warmed up");
+            cold.forEach((name, millis) ->
+                    System.out.printf("%-24s %10.3fms %10.3fms%n", name, millis, warm.get(name)));
+        }
+    }
+
+    // 목록/카테고리/고평점/통계 응답(직렬화 포함)과 상세 일괄 조회를 한 번씩 실행한 시간
+    private Map<String, Double> firstRequests() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        millis.put("GET /restaurants", time(() -> jsonResponseCache.get(JsonResponseCache.ALL_KEY,
+                restaurantService::getAllRestaurants)));
+        millis.put("GET /category/KOREAN", time(() -> jsonResponseCache.get(JsonResponseCache.categoryKey(Category.KOREAN),
+                () -> restaurantService.getRestaurantsByCategory(Category.KOREAN))));
+        millis.put("GET /high-rated", time(() -> jsonResponseCache.get(JsonResponseCache.HIGH_RATED_KEY,
+                restaurantService::getHighRatedRestaurants)));
+        millis.put("GET /statistics", time(() -> jsonResponseCache.get(JsonResponseCache.STATS_KEY,
+                restaurantService::getRestaurantStatistics)));
+        List<Long> ids = restaurantService.getAllRestaurants().stream().limit(DETAIL_BATCH).map(RestaurantResponseDto::getId).toList();
+        millis.put("GET /batch (" + ids.size() + " ids)", time(() -> restaurantService.getRestaurantsByIds(ids)));
+        return millis;
+    }
+
+    private double time(Runnable... steps) {
+        long startedAt = System.nanoTime();
+        for (Runnable step : steps) {
+            step.run();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0;
+    }
+
+    private void seed(int rows, Random random) {
+        long existing = restaurantRepository.count();
+        List<Restaurant> batch = new ArrayList<>();
+        for (long i = existing + 1; i <= rows; i++) {
+            batch.add(Restaurant.builder()
+                    .name(BenchmarkSupport.KoreanText.name(random, (int) i))
+                    .address(BenchmarkSupport.KoreanText.address(random))
+                    .category(Category.values()[random.nextInt(Category.values().length)])
+                    .rating(1 + random.nextInt(5))
+                    .review(BenchmarkSupport.KoreanText.review(random))
+                    .latitude(BenchmarkSupport.MIN_LATITUDE
+                            + random.nextDouble() * (BenchmarkSupport.MAX_LATITUDE - BenchmarkSupport.MIN_LATITUDE))
+                    .longitude(BenchmarkSupport.MIN_LONGITUDE
+                            + random.nextDouble() * (BenchmarkSupport.MAX_LONGITUDE - BenchmarkSupport.MIN_LONGITUDE))
+                    .build());
+            if (batch.size() == 1_000) {
+                restaurantRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        restaurantRepository.saveAll(batch);
+    }
+
+    private void clearCaches() {
+        for (String name : CacheConfig.CACHE_NAMES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        jsonResponseCache.clear();
+    }
+
+    private WarmupStatusDto awaitReady() throws InterruptedException {
+        while (!warmupService.isReady()) {
+            Thread.sleep(10);
+        }
+        return warmupService.getStatus();
+    }
+}
@@ -0,0 +1,86 @@
+package com.motmap.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.motmap.entity.CacheEvent;
+import com.motmap.repository.CacheEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 캐시 변경 기록 폴링의 빈 ID 처리 테스트
+ */
+class CacheEventBusTest {
+
+    private static final Duration GAP_TIMEOUT = Duration.ofMillis(300);
+
+    private final CacheEventRepository repository = mock(CacheEventRepository.class);
+    private CacheEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findMaxId()).thenReturn(0L);
+        when(repository.findAllById(anyIterable())).thenReturn(List.of());
+        when(repository.findTop100ByIdGreaterThanOrderByIdAsc(anyLong())).thenReturn(List.of());
+        bus = new CacheEventBus(repository, mock(ApplicationEventPublisher.class), new ObjectMapper(),
+                mock(PlatformTransactionManager.class), "node-a", GAP_TIMEOUT, Duration.ofHours(1));
+        bus.initCursor();
+        bus.onApplicationReady();
+    }
+
+    @Test
+    void waitsForEachGapFromItsOwnFirstSighting() throws InterruptedException {
+        when(repository.findTop100ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(event(1), event(3)));
+        bus.poll();
+        assertThat(bus.metrics().getCursor()).isEqualTo(1L);
+
+        Thread.sleep(GAP_TIMEOUT.toMillis() + 100);
+
+        // 2번은 기다린 시간이 지나 건너뛰지만, 방금 발견한 4번은 바로 건너뛰지 않음
+        when(repository.findTop100ByIdGreaterThanOrderByIdAsc(3L)).thenReturn(List.of(event(5)));
+        bus.poll();
+        assertThat(bus.metrics().getCursor()).isEqualTo(3L);
+        assertThat(bus.metrics().getSkippedGaps()).isEqualTo(1L);
+        assertThat(bus.metrics().getPendingGaps()).isEqualTo(1L);
+    }
+
+    @Test
+    void readsNewEventsAfterHighestSeenIdWhileStalled() {
+        when(repository.findTop100ByIdGreaterThanOrderByIdAsc(0L)).thenReturn(List.of(event(2), event(3)));
+        bus.poll();
+        bus.poll();
+
+        // 커서는 1번 앞에 멈춰 있어도 새 기록은 3번 이후부터 읽고, 빈 1번만 따로 다시 확인
+        assertThat(bus.metrics().getCursor()).isZero();
+        verify(repository).findTop100ByIdGreaterThanOrderByIdAsc(3L);
+        verify(repository).findAllById(List.of(1L));
+
+        // 늦게 커밋된 1번이 보이면 커서가 끝까지 이어짐
+        when(repository.findAllById(List.of(1L))).thenReturn(List.of(event(1)));
+        bus.poll();
+        assertThat(bus.metrics().getCursor()).isEqualTo(3L);
+        assertThat(bus.metrics().getPendingGaps()).isZero();
+    }
+
+    private CacheEvent event(long id) {
+        return CacheEvent.builder()
+                .id(id)
+                .restaurantId(0L)
+                .type(CacheEventBus.RELOADED_TYPE)
+                .origin("node-b")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
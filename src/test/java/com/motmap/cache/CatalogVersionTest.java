@@ -0,0 +1,69 @@
+package com.motmap.cache;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.index.RestaurantStatsAggregate;
+import com.motmap.repository.CacheEventRepository;
+import com.motmap.service.RestaurantChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 노드 간 ETag 일치 테스트
+ */
+class CatalogVersionTest {
+
+    @Test
+    void nodesThatReflectedTheSameChangesShareEtag() {
+        CatalogVersion nodeA = node(41L);
+        CatalogVersion nodeB = node(41L);
+        assertThat(nodeA.etag(false)).isEqualTo(nodeB.etag(false));
+
+        // A에서 커밋된 변경(기록 42번)을 B가 다시 발행받아 반영하면 다시 같아짐
+        RestaurantChangedEvent local = RestaurantChangedEvent.created(restaurant());
+        local.setLogId(42L);
+        nodeA.onRestaurantChanged(local);
+        assertThat(nodeA.etag(false)).isNotEqualTo(nodeB.etag(false));
+
+        RestaurantChangedEvent replayed = RestaurantChangedEvent.replayed(
+                RestaurantChangedEvent.Type.CREATED, null, restaurant());
+        replayed.setLogId(42L);
+        nodeB.onRestaurantChanged(replayed);
+        assertThat(nodeA.etag(false)).isEqualTo(nodeB.etag(false));
+    }
+
+    @Test
+    void dailyEtagChangesAtDayRollover() {
+        CatalogVersion version = node(7L);
+        LocalDate today = LocalDate.of(2024, 3, 31);
+
+        assertThat(version.etag(false, today)).isNotEqualTo(version.etag(false, today.plusDays(1)));
+        assertThat(version.etag(true, today)).isNotEqualTo(version.etag(false, today));
+    }
+
+    private CatalogVersion node(long maxLogId) {
+        CacheEventRepository repository = mock(CacheEventRepository.class);
+        when(repository.findMaxId()).thenReturn(maxLogId);
+        RestaurantStatsAggregate statsAggregate = new RestaurantStatsAggregate();
+        statsAggregate.rebuild(List.of(restaurant()));
+        CatalogVersion version = new CatalogVersion(repository, statsAggregate);
+        version.onApplicationReady();
+        return version;
+    }
+
+    private RestaurantResponseDto restaurant() {
+        RestaurantResponseDto restaurant = new RestaurantResponseDto();
+        restaurant.setId(1L);
+        restaurant.setCategory(Category.KOREAN);
+        restaurant.setRating(4);
+        restaurant.setCreatedAt(LocalDateTime.now());
+        return restaurant;
+    }
+}
@@ -0,0 +1,86 @@
+package com.motmap.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.motmap.dto.EncodedJson;
+import com.motmap.entity.Category;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 직렬화 결과 캐시가 데이터 버전이 바뀔 때만 다시 조회/직렬화하는지 테스트
+ */
+class JsonResponseCacheTest {
+
+    private final CatalogVersion catalogVersion = mock(CatalogVersion.class);
+    private final JsonResponseCache cache = new JsonResponseCache(new ObjectMapper(), catalogVersion, true, 64);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void reusesBytesUntilVersionChanges() {
+        when(catalogVersion.etag(false)).thenReturn("\"1-2\"");
+        EncodedJson first = cache.get(JsonResponseCache.ALL_KEY, counting(List.of("명동교자", "교동짬뽕")));
+        EncodedJson second = cache.get(JsonResponseCache.ALL_KEY, counting(List.of("바뀌었지만 같은 버전")));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(new String(first.getData(), StandardCharsets.UTF_8)).isEqualTo("[\"명동교자\",\"교동짬뽕\"]");
+
+        when(catalogVersion.etag(false)).thenReturn("\"2-3\"");
+        EncodedJson changed = cache.get(JsonResponseCache.ALL_KEY, counting(List.of("명동교자", "교동짬뽕", "새 맛집")));
+        assertThat(loads).hasValue(2);
+        assertThat(new String(changed.getData(), StandardCharsets.UTF_8)).contains("새 맛집");
+
+        // 엔드포인트 키마다 따로 저장
+        cache.get(JsonResponseCache.HIGH_RATED_KEY, counting(List.of()));
+        assertThat(loads).hasValue(3);
+
+        cache.clear();
+        cache.get(JsonResponseCache.ALL_KEY, counting(List.of()));
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void statisticsAreReencodedWhenTheDateChanges() {
+        when(catalogVersion.etag(eq(false), any(LocalDate.class))).thenReturn("\"1-2-100\"");
+        cache.get(JsonResponseCache.STATS_KEY, counting(List.of(1)));
+        cache.get(JsonResponseCache.STATS_KEY, counting(List.of(1)));
+        assertThat(loads).hasValue(1);
+
+        when(catalogVersion.etag(eq(false), any(LocalDate.class))).thenReturn("\"1-2-101\"");
+        cache.get(JsonResponseCache.STATS_KEY, counting(List.of(2)));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void largeBodiesAlsoKeepGzipCopy() throws IOException {
+        when(catalogVersion.etag(false)).thenReturn("\"1-1\"");
+        EncodedJson small = cache.get(JsonResponseCache.categoryKey(Category.CAFE), counting(List.of()));
+        EncodedJson large = cache.get(JsonResponseCache.ALL_KEY, counting(List.of("맛집".repeat(100))));
+
+        assertThat(small.getGzipData()).isNull();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.getGzipData()))) {
+            assertThat(in.readAllBytes()).isEqualTo(large.getData());
+        }
+    }
+
+    private Supplier<Object> counting(Object value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+}
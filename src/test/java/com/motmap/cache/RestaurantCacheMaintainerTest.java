@@ -0,0 +1,133 @@
+package com.motmap.cache;
+
+import com.motmap.dto.RestaurantRequestDto;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.repository.RestaurantRepository;
+import com.motmap.service.RestaurantService;
+import com.motmap.service.WarmupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생성/수정/삭제 후 제자리에서 고친 목록 캐시가 DB를 새로 조회한 결과와 같은지 보는 통합 테스트
+ * ID 순 삽입/교체, 카테고리 키 사이 이동, 고평점 기준(4점)을 넘나드는 평점 순 목록을 모두 지난다.
+ * 다른 테스트와 섞이지 않게 별도 인메모리 DB를 쓴다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cachemaintainertest;DB_CLOSE_DELAY=-1;MODE=MySQL")
+@WithMockUser(username = "admin", roles = "ADMIN")
+class RestaurantCacheMaintainerTest {
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private WarmupService warmupService;
+
+    @BeforeEach
+    void fillListCaches() throws InterruptedException {
+        // 워밍업이 캐시를 채우는 중에 덮어쓰지 않도록 끝날 때까지 기다린 뒤 모든 목록 캐시를 채운다
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!warmupService.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(warmupService.isReady()).isTrue();
+
+        restaurantService.getAllRestaurants();
+        restaurantService.getHighRatedRestaurants();
+        for (Category category : Category.values()) {
+            restaurantService.getRestaurantsByCategory(category);
+        }
+        assertCachesMatchDatabase();
+    }
+
+    @Test
+    void patchedListCachesMatchFreshQueriesAfterEveryChange() {
+        // 생성: 전체/카테고리 목록 끝에 ID 순으로 추가, 5점이라 고평점 목록에도 평점 순 자리에 추가
+        RestaurantResponseDto created = restaurantService.addRestaurant(request("캐시패치국밥", Category.KOREAN, 5));
+        assertCachesMatchDatabase();
+        assertThat(cached(RestaurantCacheMaintainer.HIGH_RATED_CACHE, RestaurantCacheMaintainer.HIGH_RATED_KEY))
+                .extracting(RestaurantResponseDto::getId).contains(created.getId());
+
+        // 카테고리 변경 + 평점 5 -> 3: 한식 목록에서 빠지고 중식 목록에 들어가며 고평점 목록에서 빠진다
+        restaurantService.updateRestaurant(created.getId(), request("캐시패치국밥", Category.CHINESE, 3));
+        assertCachesMatchDatabase();
+        assertThat(cached(RestaurantCacheMaintainer.CATEGORY_CACHE, Category.KOREAN))
+                .extracting(RestaurantResponseDto::getId).doesNotContain(created.getId());
+        assertThat(cached(RestaurantCacheMaintainer.HIGH_RATED_CACHE, RestaurantCacheMaintainer.HIGH_RATED_KEY))
+                .extracting(RestaurantResponseDto::getId).doesNotContain(created.getId());
+
+        // 평점 3 -> 4: 기준을 넘어 고평점 목록의 4점 무리 안에 ID 순으로 다시 들어간다
+        restaurantService.updateRestaurant(created.getId(), request("캐시패치국밥", Category.CHINESE, 4));
+        assertCachesMatchDatabase();
+
+        // 이름만 변경: 모든 목록에서 같은 자리에 교체
+        restaurantService.updateRestaurant(created.getId(), request("캐시패치짜장", Category.CHINESE, 4));
+        assertCachesMatchDatabase();
+        assertThat(cached(RestaurantCacheMaintainer.ALL_CACHE, RestaurantCacheMaintainer.ALL_KEY))
+                .extracting(RestaurantResponseDto::getName).contains("캐시패치짜장").doesNotContain("캐시패치국밥");
+
+        // 고평점이 아닌 맛집 추가: 고평점 목록은 그대로
+        RestaurantResponseDto lowRated = restaurantService.addRestaurant(request("캐시패치분식", Category.KOREAN, 2));
+        assertCachesMatchDatabase();
+
+        // 평점 4 -> 5: 고평점 목록 안에서 4점 무리에서 5점 무리로 자리 이동
+        restaurantService.updateRestaurant(created.getId(), request("캐시패치짜장", Category.CHINESE, 5));
+        assertCachesMatchDatabase();
+
+        // 삭제: 전체/카테고리/고평점 목록에서 빠진다
+        restaurantService.deleteRestaurant(created.getId());
+        assertCachesMatchDatabase();
+        restaurantService.deleteRestaurant(lowRated.getId());
+        assertCachesMatchDatabase();
+        assertThat(cached(RestaurantCacheMaintainer.ALL_CACHE, RestaurantCacheMaintainer.ALL_KEY))
+                .extracting(RestaurantResponseDto::getId).doesNotContain(created.getId(), lowRated.getId());
+    }
+
+    // 캐시가 비워지지 않고(패치되었고) 캐시를 채우는 쿼리의 결과와 순서까지 같아야 한다
+    private void assertCachesMatchDatabase() {
+        assertThat(cached(RestaurantCacheMaintainer.ALL_CACHE, RestaurantCacheMaintainer.ALL_KEY))
+                .containsExactlyElementsOf(restaurantRepository.findAllDtos());
+        for (Category category : Category.values()) {
+            assertThat(cached(RestaurantCacheMaintainer.CATEGORY_CACHE, category))
+                    .as("category %s", category)
+                    .containsExactlyElementsOf(restaurantRepository.findDtosByCategory(category));
+        }
+        assertThat(cached(RestaurantCacheMaintainer.HIGH_RATED_CACHE, RestaurantCacheMaintainer.HIGH_RATED_KEY))
+                .containsExactlyElementsOf(restaurantRepository.findDtosByRatingAtLeast(4));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RestaurantResponseDto> cached(String cacheName, Object key) {
+        Cache.ValueWrapper wrapper = cacheManager.getCache(cacheName).get(key);
+        assertThat(wrapper).as("%s[%s] 캐시가 비워지지 않아야 한다", cacheName, key).isNotNull();
+        return (List<RestaurantResponseDto>) wrapper.get();
+    }
+
+    private RestaurantRequestDto request(String name, Category category, int rating) {
+        return RestaurantRequestDto.builder()
+                .name(name)
+                .address("서울특별시 중구 캐시로 1")
+                .category(category)
+                .rating(rating)
+                .review("캐시 패치 테스트")
+                .latitude(37.5665)
+                .longitude(126.978)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.motmap.cache;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.service.RestaurantChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 맛집 상세 캐시 채우기와 변경 반영이 겹칠 때의 테스트
+ */
+class RestaurantDetailCacheTest {
+
+    private final RestaurantDetailCache detailCache = new RestaurantDetailCache(new ConcurrentMapCacheManager(
+            RestaurantDetailCache.CACHE_NAME, RestaurantDetailCache.MISSING_CACHE_NAME));
+
+    @Test
+    void deleteCommittedDuringLoadIsNotOverwrittenByLoadedValue() {
+        RestaurantResponseDto restaurant = restaurant(1L, "명동교자");
+
+        // DB에서 읽은 직후, 캐시에 채우기 전에 삭제가 커밋됨
+        Optional<RestaurantResponseDto> loaded = detailCache.find(1L, id -> {
+            detailCache.onRestaurantChanged(RestaurantChangedEvent.deleted(restaurant));
+            return Optional.of(restaurant);
+        });
+
+        assertThat(loaded).contains(restaurant);
+        assertThat(detailCache.find(1L, id -> Optional.of(restaurant(1L, "다시 읽음")))).isEmpty();
+    }
+
+    @Test
+    void createCommittedDuringLoadIsNotHiddenAsMissing() {
+        RestaurantResponseDto created = restaurant(2L, "전주중앙회관");
+
+        detailCache.findAll(List.of(2L), ids -> {
+            detailCache.onRestaurantChanged(RestaurantChangedEvent.created(created));
+            return List.of();
+        });
+
+        assertThat(detailCache.find(2L, id -> Optional.empty())).contains(created);
+    }
+
+    @Test
+    void loadedValueIsCachedWhenNothingChanged() {
+        RestaurantResponseDto restaurant = restaurant(3L, "교동짬뽕");
+        detailCache.find(3L, id -> Optional.of(restaurant));
+
+        assertThat(detailCache.find(3L, id -> Optional.empty())).contains(restaurant);
+    }
+
+    private RestaurantResponseDto restaurant(Long id, String name) {
+        RestaurantResponseDto restaurant = new RestaurantResponseDto();
+        restaurant.setId(id);
+        restaurant.setName(name);
+        return restaurant;
+    }
+}
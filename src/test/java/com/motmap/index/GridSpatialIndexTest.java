@@ -0,0 +1,73 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.util.LocationUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 격자 위치 인덱스의 반경 검색을 전체 하버사인 거리 계산과 비교
+ */
+class GridSpatialIndexTest {
+
+    private final Random random = new Random(7);
+
+    @Test
+    void radiusSearchMatchesBruteForceHaversineScan() {
+        List<RestaurantResponseDto> restaurants = new ArrayList<>();
+        addAround(restaurants, 37.55, 126.98, 0.3, 4_000);   // 서울
+        addAround(restaurants, 0.0, 179.95, 0.1, 300);       // 날짜 변경선 부근
+        addAround(restaurants, 89.95, 0.0, 0.05, 300);       // 북극 부근
+        GridSpatialIndex index = new GridSpatialIndex(0.01);
+        index.rebuild(restaurants);
+
+        double[][] centers = {{37.55, 126.98}, {0.0, 179.99}, {0.0, -179.99}, {89.99, 90.0}};
+        for (int i = 0; i < 300; i++) {
+            double[] center = centers[i % centers.length];
+            double latitude = Math.max(-90, Math.min(90, center[0] + (random.nextDouble() - 0.5) * 0.2));
+            double longitude = center[1];
+            double radius = random.nextDouble() * 20;
+
+            List<Long> expected = restaurants.stream()
+                    .filter(r -> LocationUtils.calculateDistance(latitude, longitude, r.getLatitude(), r.getLongitude()) < radius)
+                    .map(RestaurantResponseDto::getId)
+                    .sorted()
+                    .toList();
+            List<Neighbor> found = index.findWithinRadius(latitude, longitude, radius);
+
+            assertThat(found.stream().map(Neighbor::getId).sorted().toList())
+                    .as("(%f, %f) %fkm", latitude, longitude, radius)
+                    .isEqualTo(expected);
+            assertThat(found).isSortedAccordingTo((a, b) -> Double.compare(a.getDistance(), b.getDistance()));
+        }
+    }
+
+    @Test
+    void rejectsNegativeOrNonFiniteRadius() {
+        GridSpatialIndex index = new GridSpatialIndex(0.01);
+
+        assertThatThrownBy(() -> index.findWithinRadius(37.5, 127.0, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.findWithinRadius(37.5, 127.0, Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.findWithinRadius(37.5, 127.0, Double.POSITIVE_INFINITY))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(index.findWithinRadius(37.5, 127.0, 0)).isEmpty();
+    }
+
+    private void addAround(List<RestaurantResponseDto> restaurants, double latitude, double longitude,
+                           double spread, int count) {
+        for (int i = 0; i < count; i++) {
+            RestaurantResponseDto restaurant = new RestaurantResponseDto();
+            restaurant.setId((long) restaurants.size() + 1);
+            restaurant.setLatitude(Math.max(-90, Math.min(90, latitude + (random.nextDouble() - 0.5) * spread)));
+            double lng = longitude + (random.nextDouble() - 0.5) * spread;
+            restaurant.setLongitude(lng > 180 ? lng - 360 : lng < -180 ? lng + 360 : lng);
+            restaurants.add(restaurant);
+        }
+    }
+}
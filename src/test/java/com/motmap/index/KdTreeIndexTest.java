@@ -0,0 +1,145 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.util.LocationUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * KD-트리 최근접 검색을 전체 거리 정렬과 비교 (추가/수정/삭제 후, 재구성 전후)
+ * 재구성 기준은 살아있는 노드 수의 절반(최소 64)을 넘는 삭제 표시 또는 추가
+ */
+class KdTreeIndexTest {
+
+    private static final int INITIAL = 300;
+
+    private final Random random = new Random(3);
+    private final Map<Long, RestaurantResponseDto> live = new LinkedHashMap<>();
+    private final KdTreeIndex index = new KdTreeIndex();
+
+    @Test
+    void nearestMatchesBruteForceSortAfterRebuild() {
+        for (long id = 1; id <= INITIAL; id++) {
+            live.put(id, restaurant(id));
+        }
+        index.rebuild(new ArrayList<>(live.values()));
+
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void nearestStaysCorrectAcrossUpdatesDeletesAndRebalance() {
+        for (long id = 1; id <= INITIAL; id++) {
+            live.put(id, restaurant(id));
+        }
+        index.rebuild(new ArrayList<>(live.values()));
+
+        // 재구성 기준(150) 아래: 삭제 표시와 불균형 삽입이 트리에 남은 상태
+        mutate(60, 1_000);
+        assertMatchesBruteForce();
+
+        // 기준을 넘겨 재구성이 일어난 뒤, 이어서 다시 변경
+        mutate(400, 2_000);
+        assertMatchesBruteForce();
+        mutate(40, 3_000);
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void nearestAroundAntimeridianAndPoles() {
+        long id = 1;
+        for (double[] center : new double[][]{{0, 179.9}, {0, -179.9}, {89.9, 0}, {-89.9, 120}}) {
+            for (int i = 0; i < 100; i++) {
+                RestaurantResponseDto restaurant = restaurant(id++);
+                // 극점 자체(경도와 무관하게 같은 점)에는 두지 않아 거리가 같은 후보가 생기지 않게 함
+                restaurant.setLatitude(center[0] + (random.nextDouble() - 0.5) * 0.15);
+                double lng = center[1] + (random.nextDouble() - 0.5) * 0.5;
+                restaurant.setLongitude(lng > 180 ? lng - 360 : lng < -180 ? lng + 360 : lng);
+                live.put(restaurant.getId(), restaurant);
+            }
+        }
+        index.rebuild(new ArrayList<>(live.values()));
+
+        for (double[] target : new double[][]{{0, 180}, {0, -180}, {90, 0}, {-90, 0}, {45, 90}}) {
+            assertNearest(target[0], target[1], 25);
+        }
+    }
+
+    @Test
+    void returnsAllLiveRestaurantsWhenKExceedsCount() {
+        for (long id = 1; id <= 40; id++) {
+            live.put(id, restaurant(id));
+        }
+        index.rebuild(new ArrayList<>(live.values()));
+        for (long id = 1; id <= 10; id++) {
+            index.remove(live.remove(id));
+        }
+
+        List<Neighbor> found = index.findNearest(37.55, 126.98, 100);
+
+        assertThat(found).hasSize(30);
+        assertNearest(37.55, 126.98, 100);
+        assertThat(index.findNearest(37.55, 126.98, 0)).isEmpty();
+        assertThat(new KdTreeIndex().findNearest(37.55, 126.98, 5)).isEmpty();
+    }
+
+    // 추가(새 ID) / 위치 수정(같은 ID로 다시 추가) / 삭제를 섞어 적용
+    private void mutate(int operations, long nextId) {
+        for (int i = 0; i < operations; i++) {
+            int action = random.nextInt(3);
+            if (action == 0 || live.isEmpty()) {
+                RestaurantResponseDto added = restaurant(nextId++);
+                live.put(added.getId(), added);
+                index.add(added);
+            } else {
+                Long id = new ArrayList<>(live.keySet()).get(random.nextInt(live.size()));
+                if (action == 1) {
+                    RestaurantResponseDto moved = restaurant(id);
+                    live.put(id, moved);
+                    index.add(moved);
+                } else {
+                    index.remove(live.remove(id));
+                }
+            }
+        }
+    }
+
+    private void assertMatchesBruteForce() {
+        for (int i = 0; i < 200; i++) {
+            double latitude = 37.3 + random.nextDouble() * 0.6;
+            double longitude = 126.7 + random.nextDouble() * 0.6;
+            assertNearest(latitude, longitude, 1 + random.nextInt(20));
+        }
+    }
+
+    private void assertNearest(double latitude, double longitude, int k) {
+        List<Neighbor> expected = live.values().stream()
+                .map(r -> new Neighbor(r.getId(),
+                        LocationUtils.calculateDistance(latitude, longitude, r.getLatitude(), r.getLongitude())))
+                .sorted(Comparator.comparingDouble(Neighbor::getDistance))
+                .limit(k)
+                .toList();
+        List<Neighbor> found = index.findNearest(latitude, longitude, k);
+
+        assertThat(found).extracting(Neighbor::getId)
+                .as("(%f, %f) k=%d", latitude, longitude, k)
+                .isEqualTo(expected.stream().map(Neighbor::getId).toList());
+        assertThat(found).isSortedAccordingTo(Comparator.comparingDouble(Neighbor::getDistance));
+    }
+
+    private RestaurantResponseDto restaurant(long id) {
+        RestaurantResponseDto restaurant = new RestaurantResponseDto();
+        restaurant.setId(id);
+        restaurant.setLatitude(37.4 + random.nextDouble() * 0.4);
+        restaurant.setLongitude(126.8 + random.nextDouble() * 0.4);
+        return restaurant;
+    }
+}
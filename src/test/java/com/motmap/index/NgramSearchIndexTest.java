@@ -0,0 +1,267 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * n-gram 검색 인덱스의 결과를 이름/주소/리뷰 전체 LIKE '%검색어%' 비교(대소문자 무시)와 비교
+ * 순위 검색은 전체 일치 건수를 단어별 gram OR 일치와 비교하고, 필드 가중치와 페이지 경계를 확인한다.
+ */
+class NgramSearchIndexTest {
+
+    private static final String[] WORDS = {"명동", "교자", "국밥", "냉면", "치킨", "분식", "카페", "맛있어요", "웨이팅",
+            "서울특별시", "마포구", "강남구", "Cafe", "PIZZA", "Bistro", "떡볶이", "짬뽕", "초밥", "국수", "  "};
+
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하명동교국밥냉면치킨분식떡볶이짬뽕초국수ABCabc ";
+
+    private final Random random = new Random(11);
+
+    @Test
+    void searchMatchesBruteForceSubstringScan() {
+        List<RestaurantResponseDto> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            restaurants.add(restaurant(id));
+        }
+        NgramSearchIndex index = newIndex();
+        index.rebuild(restaurants);
+
+        for (String keyword : keywords(restaurants)) {
+            assertThat(index.search(keyword)).as(keyword).isEqualTo(bruteForce(restaurants, keyword));
+        }
+    }
+
+    @Test
+    void addAndRemoveKeepIndexConsistentWithDocuments() {
+        List<RestaurantResponseDto> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            restaurants.add(restaurant(id));
+        }
+        NgramSearchIndex index = newIndex();
+        index.rebuild(restaurants);
+
+        for (int step = 0; step < 300; step++) {
+            if (!restaurants.isEmpty() && random.nextInt(3) == 0) {
+                index.remove(restaurants.remove(random.nextInt(restaurants.size())));
+            } else if (!restaurants.isEmpty() && random.nextBoolean()) {
+                // 수정 = 같은 ID로 다시 추가
+                RestaurantResponseDto updated = restaurant(restaurants.get(random.nextInt(restaurants.size())).getId());
+                restaurants.removeIf(r -> r.getId().equals(updated.getId()));
+                restaurants.add(updated);
+                index.add(updated);
+            } else {
+                RestaurantResponseDto added = restaurant(1_000L + step);
+                restaurants.add(added);
+                index.add(added);
+            }
+        }
+
+        for (String keyword : keywords(restaurants)) {
+            assertThat(index.search(keyword)).as(keyword).isEqualTo(bruteForce(restaurants, keyword));
+        }
+    }
+
+    @Test
+    void keywordIsCaseInsensitiveAndNormalized() {
+        RestaurantResponseDto restaurant = new RestaurantResponseDto();
+        restaurant.setId(1L);
+        restaurant.setName("Cafe 명동");
+        restaurant.setAddress("서울특별시 중구");
+        restaurant.setReview(null);
+        NgramSearchIndex index = newIndex();
+        index.rebuild(List.of(restaurant));
+
+        assertThat(index.search("CAFE")).containsExactly(1L);
+        assertThat(index.search("fe 명")).containsExactly(1L);
+        // 자모로 분리된(NFD) 검색어도 완성형과 같게 검색
+        assertThat(index.search(Normalizer.normalize("명동", Normalizer.Form.NFD))).containsExactly(1L);
+        assertThat(index.search("명동 카페")).isEmpty();
+    }
+
+    @Test
+    void wildcardCharactersMatchLiterally() {
+        NgramSearchIndex index = newIndex();
+        index.rebuild(List.of(
+                document(1L, "100% 국산", "서울 중구", null),
+                document(2L, "A_B 비스트로", "서울 중구", null),
+                document(3L, "AxB 비스트로", "서울 중구", "1000원 할인")));
+
+        // LIKE였다면 %와 _가 아무 글자와 일치했을 검색어
+        assertThat(index.search("100%")).containsExactly(1L);
+        assertThat(index.search("%")).containsExactly(1L);
+        assertThat(index.search("a_b")).containsExactly(2L);
+        assertThat(index.search("_")).containsExactly(2L);
+        assertThat(index.search("a%b")).isEmpty();
+    }
+
+    @Test
+    void nameHitOutranksReviewOnlyHit() {
+        NgramSearchIndex index = newIndex();
+        index.rebuild(List.of(
+                document(1L, "천국식당", "서울 중구", "국밥이 맛있어요"),
+                document(2L, "국밥천국", "서울 중구", "맛있어요 천국"),
+                document(3L, "냉면식당", "서울 중구", "시원한 냉면")));
+
+        RankedHits ranked = index.searchRanked("국밥", 10);
+
+        assertThat(ranked.getTotalHits()).isEqualTo(2);
+        assertThat(ranked.getHits()).extracting(SearchHit::getId).containsExactly(2L, 1L);
+        assertThat(ranked.getHits().get(0).getScore()).isGreaterThan(ranked.getHits().get(1).getScore());
+    }
+
+    @Test
+    void rankedTotalHitsMatchesBruteForceGramUnion() {
+        List<RestaurantResponseDto> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            restaurants.add(restaurant(id));
+        }
+        NgramSearchIndex index = newIndex();
+        index.rebuild(restaurants);
+
+        List<String> keywords = new ArrayList<>(keywords(restaurants));
+        keywords.addAll(List.of("명동 국밥", "a 마포구", "  치킨   PIZZA "));
+        for (String keyword : keywords) {
+            List<Long> expected = bruteForceAnyGram(restaurants, keyword);
+            RankedHits ranked = index.searchRanked(keyword, restaurants.size());
+
+            assertThat(ranked.getTotalHits()).as(keyword).isEqualTo(expected.size());
+            assertThat(ranked.getHits()).as(keyword)
+                    .extracting(SearchHit::getId)
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void rankedPagesDoNotOverlapAndFollowFullRanking() {
+        List<RestaurantResponseDto> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            restaurants.add(restaurant(id));
+        }
+        NgramSearchIndex index = newIndex();
+        index.rebuild(restaurants);
+
+        int size = 7;
+        for (String keyword : keywords(restaurants).subList(0, 60)) {
+            RankedHits full = index.searchRanked(keyword, restaurants.size());
+
+            // 서비스와 같은 방식: (page + 1) * size 개를 받아 앞 페이지만큼 건너뜀
+            List<SearchHit> paged = new ArrayList<>();
+            for (int page = 0; ; page++) {
+                RankedHits ranked = index.searchRanked(keyword, (page + 1) * size);
+                assertThat(ranked.getTotalHits()).as(keyword).isEqualTo(full.getTotalHits());
+                List<SearchHit> hits = ranked.getHits();
+                if (hits.size() <= page * size) {
+                    break;
+                }
+                paged.addAll(hits.subList(page * size, hits.size()));
+            }
+
+            List<Long> ids = paged.stream().map(SearchHit::getId).toList();
+            assertThat(new HashSet<>(ids)).as(keyword).hasSameSizeAs(ids);
+            assertThat(ids).as(keyword).isEqualTo(full.getHits().stream().map(SearchHit::getId).toList());
+            for (int i = 1; i < paged.size(); i++) {
+                assertThat(paged.get(i).getScore()).as(keyword).isLessThanOrEqualTo(paged.get(i - 1).getScore());
+            }
+        }
+    }
+
+    private NgramSearchIndex newIndex() {
+        return new NgramSearchIndex(1.2, 0.75, 3.0, 1.5, 1.0);
+    }
+
+    private RestaurantResponseDto restaurant(long id) {
+        RestaurantResponseDto restaurant = new RestaurantResponseDto();
+        restaurant.setId(id);
+        restaurant.setName(sentence(2));
+        restaurant.setAddress(sentence(3));
+        restaurant.setReview(random.nextInt(10) == 0 ? null : sentence(6));
+        return restaurant;
+    }
+
+    private RestaurantResponseDto document(long id, String name, String address, String review) {
+        RestaurantResponseDto restaurant = new RestaurantResponseDto();
+        restaurant.setId(id);
+        restaurant.setName(name);
+        restaurant.setAddress(address);
+        restaurant.setReview(review);
+        return restaurant;
+    }
+
+    private String sentence(int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(random.nextBoolean() ? WORDS[random.nextInt(WORDS.length)] : randomText(1 + random.nextInt(3)));
+            text.append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    private String randomText(int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return text.toString();
+    }
+
+    // 문서의 부분 문자열, 1-4글자 무작위 문자열, 대소문자를 섞은 영문
+    private List<String> keywords(List<RestaurantResponseDto> restaurants) {
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            RestaurantResponseDto restaurant = restaurants.get(random.nextInt(restaurants.size()));
+            String field = Stream.of(restaurant.getName(), restaurant.getAddress(), restaurant.getReview())
+                    .filter(f -> f != null && !f.isEmpty())
+                    .toList()
+                    .get(0);
+            int start = random.nextInt(field.length());
+            int end = Math.min(field.length(), start + 1 + random.nextInt(6));
+            keywords.add(field.substring(start, end));
+            keywords.add(randomText(1 + random.nextInt(4)));
+        }
+        keywords.addAll(List.of("cafe", "CAFE", "cAfE", "pizza", "bistro", "BI", "a", "Z", "마포구 ", " 명동"));
+        return keywords;
+    }
+
+    private List<Long> bruteForce(List<RestaurantResponseDto> restaurants, String keyword) {
+        String query = normalize(keyword);
+        return restaurants.stream()
+                .filter(r -> Stream.of(r.getName(), r.getAddress(), r.getReview())
+                        .anyMatch(field -> normalize(field).contains(query)))
+                .map(RestaurantResponseDto::getId)
+                .sorted()
+                .toList();
+    }
+
+    // 공백으로 나눈 단어별 bigram(한 글자 단어는 그 글자) 중 하나라도 어느 필드에 들어 있는 맛집
+    private List<Long> bruteForceAnyGram(List<RestaurantResponseDto> restaurants, String keyword) {
+        List<String> grams = new ArrayList<>();
+        for (String word : normalize(keyword).trim().split("\\s+")) {
+            if (word.length() == 1) {
+                grams.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return restaurants.stream()
+                .filter(r -> Stream.of(r.getName(), r.getAddress(), r.getReview())
+                        .map(this::normalize)
+                        .anyMatch(field -> grams.stream().anyMatch(field::contains)))
+                .map(RestaurantResponseDto::getId)
+                .sorted()
+                .toList();
+    }
+
+    private String normalize(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,123 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.repository.RestaurantRepository;
+import com.motmap.service.RestaurantChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 전체 재구성 중에 커밋된 변경 반영 테스트
+ */
+class RestaurantIndexManagerTest {
+
+    private final RestaurantRepository repository = mock(RestaurantRepository.class);
+    private final MapIndex index = new MapIndex();
+    private final RestaurantIndexManager manager = new RestaurantIndexManager(
+            List.of(index), repository, mock(PlatformTransactionManager.class));
+
+    @Test
+    void changesCommittedDuringRebuildAreReplayedFromDatabase() {
+        RestaurantResponseDto before = restaurant(1L, "명동교자");
+        RestaurantResponseDto after = restaurant(1L, "명동교자 본점");
+        RestaurantResponseDto created = restaurant(2L, "전주중앙회관");
+        RestaurantResponseDto deleted = restaurant(3L, "교동짬뽕");
+
+        // 스냅샷을 읽은 직후(재구성 전) 다른 트랜잭션의 변경이 커밋됨
+        when(repository.findAllDtos()).thenAnswer(invocation -> {
+            manager.onRestaurantChanged(RestaurantChangedEvent.updated(before, after));
+            manager.onRestaurantChanged(RestaurantChangedEvent.created(created));
+            manager.onRestaurantChanged(RestaurantChangedEvent.deleted(deleted));
+            return List.of(before, deleted);
+        });
+        when(repository.findDtosByIdIn(anyCollection())).thenReturn(List.of(after, created));
+
+        manager.rebuildAll();
+
+        assertThat(index.restaurants).containsOnlyKeys(1L, 2L);
+        assertThat(index.restaurants.get(1L).getName()).isEqualTo("명동교자 본점");
+        assertThat(manager.isReady()).isTrue();
+    }
+
+    @Test
+    void changesAfterRebuildAreAppliedDirectly() {
+        when(repository.findAllDtos()).thenReturn(List.of());
+        manager.rebuildAll();
+
+        manager.onRestaurantChanged(RestaurantChangedEvent.created(restaurant(5L, "긴자료코")));
+
+        assertThat(index.restaurants).containsOnlyKeys(5L);
+    }
+
+    @Test
+    void singleIndexRebuildReplaysOnlyIntoThatIndex() {
+        RestaurantStatsAggregate stats = new RestaurantStatsAggregate();
+        RestaurantIndexManager statsManager = new RestaurantIndexManager(
+                List.of(index, stats), repository, mock(PlatformTransactionManager.class));
+        RestaurantResponseDto existing = rated(1L, 3);
+        RestaurantResponseDto created = rated(2L, 5);
+        when(repository.findAllDtos()).thenReturn(List.of(existing));
+        statsManager.rebuildAll();
+
+        // 스냅샷을 읽은 직후 커밋된 등록: 통계에는 재구성 뒤 한 번만, 다른 인덱스에는 바로 반영
+        when(repository.findDtosByIdIn(anyCollection())).thenReturn(List.of(created));
+        statsManager.rebuildIndex(stats, () -> {
+            statsManager.onRestaurantChanged(RestaurantChangedEvent.created(created));
+            assertThat(index.restaurants).containsOnlyKeys(1L, 2L);
+            return List.of(existing);
+        });
+
+        assertThat(stats.getStatistics().getTotalRestaurants()).isEqualTo(2L);
+        assertThat(stats.getStatistics().getRatingStats()).containsEntry(3, 1L).containsEntry(5, 1L);
+
+        // 재구성이 끝나면 다시 모든 인덱스에 바로 반영
+        statsManager.onRestaurantChanged(RestaurantChangedEvent.deleted(existing));
+        assertThat(stats.getStatistics().getTotalRestaurants()).isEqualTo(1L);
+        assertThat(index.restaurants).containsOnlyKeys(2L);
+    }
+
+    private RestaurantResponseDto rated(Long id, int rating) {
+        RestaurantResponseDto restaurant = restaurant(id, "맛집" + id);
+        restaurant.setCategory(Category.KOREAN);
+        restaurant.setRating(rating);
+        return restaurant;
+    }
+
+    private RestaurantResponseDto restaurant(Long id, String name) {
+        RestaurantResponseDto restaurant = new RestaurantResponseDto();
+        restaurant.setId(id);
+        restaurant.setName(name);
+        return restaurant;
+    }
+
+    private static final class MapIndex implements RestaurantIndex {
+        private final Map<Long, RestaurantResponseDto> restaurants = new TreeMap<>();
+
+        @Override
+        public void rebuild(List<RestaurantResponseDto> all) {
+            restaurants.clear();
+            new ArrayList<>(all).forEach(this::add);
+        }
+
+        @Override
+        public void add(RestaurantResponseDto restaurant) {
+            restaurants.put(restaurant.getId(), restaurant);
+        }
+
+        @Override
+        public void remove(RestaurantResponseDto restaurant) {
+            restaurants.remove(restaurant.getId());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.dto.SuggestionDto;
+import com.motmap.entity.Category;
+import com.motmap.util.HangulUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 트라이의 노드별 상위 목록을 전체 접두어 비교와 비교 (추가/평점·이름 수정/삭제를 섞은 뒤)
+ * 순위는 평점 높은 순, 이름 일치 우선, ID 순이며 맛집 하나는 접두어마다 한 번만 나온다.
+ */
+class SuggestTrieTest {
+
+    private static final int TOP_K = 5;
+
+    // 접두어가 많이 겹치도록 좁은 어휘를 씀
+    private static final String[] NAME_WORDS = {"명동", "명동교자", "명가", "교자", "교동", "국밥", "국수", "Cafe", "cake", "가온"};
+    private static final String[] ADDRESS_WORDS = {"서울특별시", "서울", "중구", "중앙로", "명동2가", "교동길", "국회대로", "가산동"};
+
+    private final Random random = new Random(9);
+    private final Map<Long, RestaurantResponseDto> live = new LinkedHashMap<>();
+    private final SuggestTrie trie = new SuggestTrie(TOP_K);
+
+    @Test
+    void suggestionsMatchBruteForceAfterRandomChanges() {
+        for (long id = 1; id <= 150; id++) {
+            live.put(id, restaurant(id));
+        }
+        trie.rebuild(new ArrayList<>(live.values()));
+        assertMatchesBruteForce();
+
+        long nextId = 1_000;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 40; i++) {
+                int action = random.nextInt(4);
+                if (action == 0 || live.isEmpty()) {
+                    RestaurantResponseDto added = restaurant(nextId++);
+                    live.put(added.getId(), added);
+                    trie.add(added);
+                } else if (action == 3) {
+                    Long id = pick();
+                    trie.remove(live.remove(id));
+                } else {
+                    // 평점만 바꾸거나, 이름/주소까지 바꿈
+                    Long id = pick();
+                    RestaurantResponseDto updated = action == 1
+                            ? live.get(id).toBuilder().rating(1 + random.nextInt(5)).build()
+                            : restaurant(id);
+                    live.put(id, updated);
+                    trie.add(updated);
+                }
+            }
+            assertMatchesBruteForce();
+        }
+    }
+
+    @Test
+    void removingEveryRestaurantLeavesNoSuggestions() {
+        for (long id = 1; id <= 50; id++) {
+            live.put(id, restaurant(id));
+            trie.add(live.get(id));
+        }
+        assertMatchesBruteForce();
+
+        live.values().forEach(trie::remove);
+        live.clear();
+
+        for (String prefix : prefixes()) {
+            assertThat(trie.suggest(prefix, TOP_K)).as(prefix).isEmpty();
+        }
+        assertThat(trie.metrics().getNodes()).isEqualTo(1L);
+    }
+
+    private void assertMatchesBruteForce() {
+        for (String prefix : prefixes()) {
+            List<SuggestionDto> found = trie.suggest(prefix, TOP_K);
+
+            assertThat(found).extracting(s -> s.getRestaurantId() + ":" + s.getField() + ":" + s.getRating())
+                    .as(prefix)
+                    .isEqualTo(bruteForce(prefix));
+            assertThat(found.stream().map(SuggestionDto::getRestaurantId).distinct().count())
+                    .as(prefix).isEqualTo(found.size());
+            String key = HangulUtils.normalize(prefix);
+            assertThat(found).filteredOn(s -> "ADDRESS".equals(s.getField()))
+                    .allMatch(s -> HangulUtils.normalize(s.getMatched()).startsWith(key));
+        }
+    }
+
+    // 맛집마다 접두어와 일치하는 가장 좋은 항목 하나를 골라 순위대로 k개
+    private List<String> bruteForce(String prefix) {
+        String key = HangulUtils.normalize(prefix);
+        List<RestaurantResponseDto> nameHits = new ArrayList<>();
+        List<RestaurantResponseDto> hits = new ArrayList<>();
+        for (RestaurantResponseDto restaurant : live.values()) {
+            boolean name = HangulUtils.normalize(restaurant.getName()).startsWith(key)
+                    || words(restaurant.getName()).stream().anyMatch(word -> word.startsWith(key));
+            boolean address = words(restaurant.getAddress()).stream().anyMatch(word -> word.startsWith(key));
+            if (name) {
+                nameHits.add(restaurant);
+            }
+            if (name || address) {
+                hits.add(restaurant);
+            }
+        }
+        return hits.stream()
+                .sorted(Comparator.comparingInt((RestaurantResponseDto r) -> -r.getRating())
+                        .thenComparing(r -> !nameHits.contains(r))
+                        .thenComparingLong(RestaurantResponseDto::getId))
+                .limit(TOP_K)
+                .map(r -> r.getId() + ":" + (nameHits.contains(r) ? "NAME" : "ADDRESS") + ":" + r.getRating())
+                .toList();
+    }
+
+    private List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.trim().split("\\s+")) {
+            words.add(HangulUtils.normalize(word));
+        }
+        return words;
+    }
+
+    private List<String> prefixes() {
+        Set<String> prefixes = new HashSet<>();
+        for (String[] words : new String[][]{NAME_WORDS, ADDRESS_WORDS}) {
+            for (String word : words) {
+                for (int length = 1; length <= word.length(); length++) {
+                    prefixes.add(word.substring(0, length));
+                }
+            }
+        }
+        prefixes.addAll(List.of("CAFE", "ca", "명동 교자", "없는말", "명동교자국"));
+        return new ArrayList<>(prefixes);
+    }
+
+    private Long pick() {
+        return new ArrayList<>(live.keySet()).get(random.nextInt(live.size()));
+    }
+
+    private RestaurantResponseDto restaurant(long id) {
+        RestaurantResponseDto restaurant = new RestaurantResponseDto();
+        restaurant.setId(id);
+        restaurant.setName(NAME_WORDS[random.nextInt(NAME_WORDS.length)]
+                + (random.nextBoolean() ? " " + NAME_WORDS[random.nextInt(NAME_WORDS.length)] : ""));
+        restaurant.setAddress(ADDRESS_WORDS[random.nextInt(ADDRESS_WORDS.length)] + " "
+                + ADDRESS_WORDS[random.nextInt(ADDRESS_WORDS.length)] + " " + (1 + random.nextInt(9)));
+        restaurant.setCategory(Category.values()[random.nextInt(Category.values().length)]);
+        restaurant.setRating(1 + random.nextInt(5));
+        return restaurant;
+    }
+}
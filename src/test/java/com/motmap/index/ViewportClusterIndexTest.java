@@ -0,0 +1,79 @@
+package com.motmap.index;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.util.BoundingBox;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 클러스터 인덱스의 영역 내 맛집 수를 전체 좌표 확인과 비교
+ */
+class ViewportClusterIndexTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void countMatchesBruteForceAtEveryZoom() {
+        List<RestaurantResponseDto> restaurants = seoulRestaurants(3_000);
+        for (int maxZoom : new int[]{10, 18}) {
+            ViewportClusterIndex index = new ViewportClusterIndex(maxZoom);
+            index.rebuild(restaurants);
+
+            for (int i = 0; i < 200; i++) {
+                BoundingBox box = randomBox();
+                int zoom = random.nextInt(maxZoom + 1);
+                assertThat(index.count(box, zoom))
+                        .as("maxZoom %d, zoom %d, %s", maxZoom, zoom, box)
+                        .isEqualTo(restaurants.stream()
+                                .filter(r -> box.contains(r.getLatitude(), r.getLongitude()))
+                                .count());
+            }
+        }
+    }
+
+    @Test
+    void countStaysExactAfterRemovals() {
+        List<RestaurantResponseDto> restaurants = seoulRestaurants(500);
+        ViewportClusterIndex index = new ViewportClusterIndex(18);
+        index.rebuild(restaurants);
+        List<RestaurantResponseDto> remaining = new ArrayList<>(restaurants);
+        for (int i = 0; i < 200; i++) {
+            index.remove(remaining.remove(remaining.size() - 1));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            BoundingBox box = randomBox();
+            assertThat(index.count(box, random.nextInt(19)))
+                    .isEqualTo(remaining.stream()
+                            .filter(r -> box.contains(r.getLatitude(), r.getLongitude()))
+                            .count());
+        }
+    }
+
+    // 서울 부근 무작위 좌표
+    private List<RestaurantResponseDto> seoulRestaurants(int count) {
+        List<RestaurantResponseDto> restaurants = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RestaurantResponseDto restaurant = new RestaurantResponseDto();
+            restaurant.setId((long) i + 1);
+            restaurant.setCategory(Category.values()[i % Category.values().length]);
+            restaurant.setLatitude(37.45 + random.nextDouble() * 0.2);
+            restaurant.setLongitude(126.85 + random.nextDouble() * 0.3);
+            restaurants.add(restaurant);
+        }
+        return restaurants;
+    }
+
+    private BoundingBox randomBox() {
+        double latitude = 37.45 + random.nextDouble() * 0.2;
+        double longitude = 126.85 + random.nextDouble() * 0.3;
+        double size = Math.pow(10, -3 + random.nextDouble() * 2.5);
+        return new BoundingBox(latitude, latitude + size, longitude, longitude + size * 1.3);
+    }
+}
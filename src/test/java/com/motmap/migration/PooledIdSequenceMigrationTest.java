@@ -0,0 +1,64 @@
+package com.motmap.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * V4 풀링 시퀀스 마이그레이션 테스트
+ * 이미 데이터가 있는 DB에 적용해도 시퀀스가 기존 최대 ID 다음 값부터 시작하는지 확인한다.
+ */
+class PooledIdSequenceMigrationTest {
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @Test
+    void seedsSequencesFromExistingMaxId() {
+        // V3까지 적용된(또는 Hibernate가 만든) 기존 DB에 IDENTITY로 쌓인 데이터
+        flyway("3").migrate();
+        for (int i = 1; i <= 120; i++) {
+            jdbcTemplate.update("INSERT INTO restaurants (name, address) VALUES (?, ?)", "맛집" + i, "주소" + i);
+        }
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT NOT NULL PRIMARY KEY, username VARCHAR(50) NOT NULL, " +
+                "email VARCHAR(100) NOT NULL, password VARCHAR(255) NOT NULL, nickname VARCHAR(100), " +
+                "role VARCHAR(20) NOT NULL, enabled BOOLEAN NOT NULL, created_at TIMESTAMP(6) NOT NULL, " +
+                "updated_at TIMESTAMP(6), last_login_at TIMESTAMP(6))");
+        jdbcTemplate.update("INSERT INTO users (id, username, email, password, role, enabled, created_at) " +
+                "VALUES (7, 'john', 'john@example.com', 'x', 'USER', TRUE, CURRENT_TIMESTAMP)");
+
+        flyway(null).migrate();
+
+        assertThat(nextValue("restaurant_seq")).isEqualTo(121L);
+        assertThat(nextValue("user_seq")).isEqualTo(8L);
+    }
+
+    @Test
+    void startsSequencesAtOneOnEmptyDatabase() {
+        flyway(null).migrate();
+
+        assertThat(nextValue("restaurant_seq")).isEqualTo(1L);
+        assertThat(nextValue("user_seq")).isEqualTo(1L);
+    }
+
+    private Flyway flyway(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private Long nextValue(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+    }
+}
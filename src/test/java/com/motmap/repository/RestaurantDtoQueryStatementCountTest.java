@@ -0,0 +1,115 @@
+package com.motmap.repository;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.entity.Restaurant;
+import com.motmap.entity.Role;
+import com.motmap.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 맛집 목록 DTO 조회의 SQL 문장 수 테스트
+ * 맛집과 등록자 수가 늘어나도 목록 조회마다 실행되는 문장 수가 같아야 한다 (등록자별 추가 조회 없음).
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RestaurantDtoQueryStatementCountTest {
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private int created;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void statementCountPerQueryDoesNotGrowWithRows() {
+        insertRestaurantsWithOwners(10);
+        Map<String, Long> small = statementCounts();
+
+        insertRestaurantsWithOwners(200);
+        Map<String, Long> large = statementCounts();
+
+        assertThat(large).isEqualTo(small);
+        assertThat(small).containsEntry("all", 1L)
+                .containsEntry("category", 1L)
+                .containsEntry("rating", 1L)
+                .containsEntry("ids", 1L)
+                .containsEntry("page", 2L);
+    }
+
+    private Map<String, Long> statementCounts() {
+        List<Long> ids = restaurantRepository.findAll().stream().map(Restaurant::getId).limit(50).toList();
+        entityManager.clear();
+        return Map.of(
+                "all", count(() -> restaurantRepository.findAllDtos()),
+                "category", count(() -> restaurantRepository.findDtosByCategory(Category.KOREAN)),
+                "rating", count(() -> restaurantRepository.findDtosByRatingAtLeast(3)),
+                "ids", count(() -> restaurantRepository.findDtosByIdIn(ids)),
+                "page", count(() -> restaurantRepository.findDtoPage(PageRequest.of(1, 5, Sort.by("id"))).getContent()));
+    }
+
+    // 조회 한 번에 준비한 SQL 문장 수 (조회 결과의 등록자 정보까지 읽음)
+    private long count(Supplier<List<RestaurantResponseDto>> query) {
+        entityManager.clear();
+        statistics.clear();
+        List<RestaurantResponseDto> result = query.get();
+        assertThat(result).isNotEmpty().allSatisfy(restaurant -> assertThat(restaurant.getCreatedBy()).startsWith("owner"));
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 맛집마다 다른 등록자를 붙여 저장
+    private void insertRestaurantsWithOwners(int count) {
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int n = created++;
+            User owner = userRepository.save(User.builder()
+                    .username("owner" + n)
+                    .email("owner" + n + "@example.com")
+                    .password("password")
+                    .nickname("owner" + n)
+                    .role(Role.USER)
+                    .build());
+            Restaurant restaurant = new Restaurant("맛집" + n, "주소" + n,
+                    Category.values()[n % Category.values().length], 1 + n % 5, "리뷰입니다", 37.5, 127.0);
+            restaurant.setUser(owner);
+            restaurants.add(restaurant);
+        }
+        restaurantRepository.saveAll(restaurants);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.motmap.repository;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.entity.Restaurant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키셋(커서) 페이징 쿼리 테스트
+ * 페이지를 이어 읽은 결과가 전체 정렬과 같고, 커서 조건이 (정렬 값, id) 복합 인덱스의 범위 검색으로 실행되는지 확인한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RestaurantKeysetQueryTest {
+
+    private static final int PAGE_SIZE = 7;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            restaurants.add(new Restaurant("맛집" + i, "주소" + i, Category.KOREAN, 1 + i % 5, "리뷰입니다", 37.5, 127.0));
+        }
+        restaurantRepository.saveAllAndFlush(restaurants);
+    }
+
+    @Test
+    void ratingPagesFollowFullOrderWithoutGapsOrDuplicates() {
+        List<Long> expected = ids(restaurantRepository.findDtosByRatingDesc(Pageable.unpaged()));
+
+        List<Long> paged = new ArrayList<>();
+        List<RestaurantResponseDto> page = restaurantRepository.findDtosByRatingDesc(Pageable.ofSize(PAGE_SIZE));
+        while (!page.isEmpty()) {
+            paged.addAll(ids(page));
+            RestaurantResponseDto last = page.get(page.size() - 1);
+            page = restaurantRepository.findDtosByRatingDescAfter(last.getRating(), last.getId(), Pageable.ofSize(PAGE_SIZE));
+        }
+
+        assertThat(paged).isEqualTo(expected).hasSize(50);
+    }
+
+    @Test
+    void createdAtPagesFollowFullOrderWithoutGapsOrDuplicates() {
+        List<Long> expected = ids(restaurantRepository.findDtosByCreatedAtAsc(Pageable.unpaged()));
+
+        List<Long> paged = new ArrayList<>();
+        List<RestaurantResponseDto> page = restaurantRepository.findDtosByCreatedAtAsc(Pageable.ofSize(PAGE_SIZE));
+        while (!page.isEmpty()) {
+            paged.addAll(ids(page));
+            RestaurantResponseDto last = page.get(page.size() - 1);
+            page = restaurantRepository.findDtosByCreatedAtAscAfter(last.getCreatedAt(), last.getId(), Pageable.ofSize(PAGE_SIZE));
+        }
+
+        assertThat(paged).isEqualTo(expected).hasSize(50);
+    }
+
+    @Test
+    void cursorPredicateUsesCompositeIndexRange() {
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM restaurants WHERE rating <= 3 AND (rating < 3 OR id < 20) " +
+                "ORDER BY rating DESC, id DESC LIMIT 7", String.class));
+
+        assertThat(plan).containsIgnoringCase("IDX_RESTAURANT_RATING_ID").containsIgnoringCase("RATING <= 3");
+    }
+
+    private List<Long> ids(List<RestaurantResponseDto> restaurants) {
+        return restaurants.stream().map(RestaurantResponseDto::getId).toList();
+    }
+}
@@ -0,0 +1,60 @@
+package com.motmap.repository;
+
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.entity.Restaurant;
+import com.motmap.index.NgramSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인덱스 구성 전에 쓰는 DB 통합 검색이 n-gram 검색 인덱스와 같은 결과를 내는지 확인
+ * LIKE의 와일드카드(%, _)와 이스케이프 문자(!)가 들어간 검색어도 글자 그대로 비교해야 한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RestaurantKeywordSearchQueryTest {
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @BeforeEach
+    void setUp() {
+        restaurantRepository.saveAllAndFlush(List.of(
+                new Restaurant("100% 국산 만두", "서울특별시 중구 1", Category.KOREAN, 4, "할인 50%", 37.5, 127.0),
+                new Restaurant("A_B 비스트로", "서울특별시 중구 2", Category.WESTERN, 3, null, 37.5, 127.0),
+                new Restaurant("AxB 비스트로", "서울특별시 중구 3", Category.WESTERN, 3, "최고!", 37.5, 127.0),
+                new Restaurant("A!B 카페", "서울특별시 중구 4", Category.CAFE, 5, "100점 만점", 37.5, 127.0),
+                new Restaurant("1000 국수", "서울특별시 중구 5", Category.KOREAN, 2, "국산 밀", 37.5, 127.0)));
+    }
+
+    @Test
+    void wildcardCharactersMatchLiterallyLikeTheIndex() {
+        List<RestaurantResponseDto> restaurants = restaurantRepository.findAllDtos();
+        NgramSearchIndex index = new NgramSearchIndex(1.2, 0.75, 3.0, 1.5, 1.0);
+        index.rebuild(restaurants);
+
+        for (String keyword : List.of("%", "0%", "100%", "% 국산", "_", "a_b", "A_", "!", "a!b", "!%", "!_",
+                "a%b", "1_0", "국산", "비스트로", "")) {
+            List<Long> fromDatabase = restaurantRepository.searchDtosByKeyword(keyword).stream()
+                    .map(RestaurantResponseDto::getId)
+                    .toList();
+            assertThat(fromDatabase).as(keyword).isEqualTo(index.search(keyword));
+        }
+
+        // 와일드카드로 해석했다면 "AxB"와 "1000"도 걸렸을 검색어
+        assertThat(restaurantRepository.searchDtosByKeyword("a_b"))
+                .extracting(RestaurantResponseDto::getName)
+                .containsExactly("A_B 비스트로");
+        assertThat(restaurantRepository.searchDtosByKeyword("100%"))
+                .extracting(RestaurantResponseDto::getName)
+                .containsExactly("100% 국산 만두");
+    }
+}
@@ -0,0 +1,115 @@
+package com.motmap.service;
+
+import com.motmap.dto.RestaurantPageResponseDto;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.entity.Restaurant;
+import com.motmap.exception.BusinessException;
+import com.motmap.index.NgramSearchIndex;
+import com.motmap.index.RankedHits;
+import com.motmap.index.RestaurantIndexManager;
+import com.motmap.index.SearchHit;
+import com.motmap.repository.RestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 순위 검색 페이징 통합 테스트
+ * 상위 1000건(MAX_RANKED_WINDOW)보다 많이 일치하도록 맛집을 넣고, 창 끝의 마지막 페이지까지 겹침 없이 이어지는지 확인한다.
+ * 다른 테스트와 섞이지 않게 별도 인메모리 DB를 쓴다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:rankedsearchtest;DB_CLOSE_DELAY=-1;MODE=MySQL")
+class RankedSearchPagingTest {
+
+    private static final String KEYWORD = "순위검색";
+    private static final int MATCHING = 1_100;
+    private static final int WINDOW = 1_000;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private RestaurantIndexManager indexManager;
+
+    @Autowired
+    private NgramSearchIndex ngramSearchIndex;
+
+    @Autowired
+    private WarmupService warmupService;
+
+    @BeforeEach
+    void insertMatchingRestaurants() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!warmupService.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        if (restaurantRepository.searchDtosByKeyword(KEYWORD).size() >= MATCHING) {
+            return;
+        }
+
+        // 이름 길이와 리뷰 출현 여부를 달리해 점수가 여러 값으로 갈리고, 같은 점수 안에서는 ID 순이 되게 함
+        List<Restaurant> restaurants = new ArrayList<>(MATCHING);
+        for (int i = 0; i < MATCHING; i++) {
+            restaurants.add(new Restaurant(KEYWORD + " " + "가".repeat(i % 7), "서울특별시 중구 " + i,
+                    Category.values()[i % Category.values().length], 1 + i % 5,
+                    i % 3 == 0 ? KEYWORD + " 리뷰" : null, 37.5 + i * 1e-4, 127.0));
+        }
+        restaurantRepository.saveAll(restaurants);
+        indexManager.rebuildAll();
+    }
+
+    @Test
+    void pagesUpToWindowEdgeFollowIndexRankingWithoutOverlap() {
+        RankedHits ranked = ngramSearchIndex.searchRanked(KEYWORD, WINDOW);
+        assertThat(ranked.getTotalHits()).isGreaterThanOrEqualTo(MATCHING);
+
+        int size = 100;
+        List<RestaurantResponseDto> paged = new ArrayList<>();
+        for (int page = 0; page * size < WINDOW; page++) {
+            RestaurantPageResponseDto result = restaurantService.searchRestaurantsRanked(KEYWORD, page, size);
+            assertThat(result.getRestaurants()).hasSize(size);
+            assertThat(result.getTotalElements()).isEqualTo(ranked.getTotalHits());
+            // 창 밖에 일치 항목이 더 남아 있으므로 창 끝 페이지도 마지막 페이지가 아님
+            assertThat(result.isLast()).isFalse();
+            paged.addAll(result.getRestaurants());
+        }
+
+        List<Long> ids = paged.stream().map(RestaurantResponseDto::getId).toList();
+        assertThat(new HashSet<>(ids)).hasSize(WINDOW);
+        assertThat(ids).isEqualTo(ranked.getHits().stream().map(SearchHit::getId).toList());
+        for (int i = 1; i < paged.size(); i++) {
+            assertThat(paged.get(i).getScore()).isLessThanOrEqualTo(paged.get(i - 1).getScore());
+        }
+
+        // 크기 1로 창의 마지막 항목 하나만 조회
+        RestaurantPageResponseDto lastInWindow = restaurantService.searchRestaurantsRanked(KEYWORD, WINDOW - 1, 1);
+        assertThat(lastInWindow.getRestaurants())
+                .extracting(RestaurantResponseDto::getId)
+                .containsExactly(ids.get(WINDOW - 1));
+    }
+
+    @Test
+    void pagesBeyondWindowAreRejected() {
+        assertThatThrownBy(() -> restaurantService.searchRestaurantsRanked(KEYWORD, WINDOW / 100, 100))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(String.valueOf(WINDOW));
+        assertThatThrownBy(() -> restaurantService.searchRestaurantsRanked(KEYWORD, WINDOW, 1))
+                .isInstanceOf(BusinessException.class);
+        // (page + 1) * size 가 창을 넘으면 거절 (39 * 26 = 1014)
+        assertThatThrownBy(() -> restaurantService.searchRestaurantsRanked(KEYWORD, 38, 26))
+                .isInstanceOf(BusinessException.class);
+        assertThat(restaurantService.searchRestaurantsRanked(KEYWORD, 39, 25).getRestaurants()).hasSize(25);
+    }
+}
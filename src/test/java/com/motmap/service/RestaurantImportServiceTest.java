@@ -0,0 +1,202 @@
+package com.motmap.service;
+
+import com.motmap.dto.ImportFormat;
+import com.motmap.dto.ImportReportDto;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.entity.Restaurant;
+import com.motmap.exception.BusinessException;
+import com.motmap.index.NgramSearchIndex;
+import com.motmap.index.RestaurantStatsAggregate;
+import com.motmap.repository.RestaurantRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doCallRealMethod;
+
+/**
+ * 맛집 대량 가져오기 (CSV / NDJSON) 통합 테스트
+ * 덩어리 경계를 지나는 중복/오류 처리를 보려고 batch-size를 2로 줄이고, 다른 테스트와 섞이지 않게 별도 인메모리 DB를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "motmap.import.batch-size=2",
+        "spring.datasource.url=jdbc:h2:mem:importtest;DB_CLOSE_DELAY=-1;MODE=MySQL"
+})
+@RecordApplicationEvents
+@WithMockUser(username = "admin", roles = "ADMIN")
+class RestaurantImportServiceTest {
+
+    // 열 순서가 다르고 대소문자/밑줄이 섞인 헤더, 따옴표 안의 쉼표와 "", 여러 줄 값, 빈 줄, 파일 안의 중복과 오류 행
+    private static final String CSV = String.join("\n",
+            "Latitude,Longitude,Name,Address,Category,Rating,Review,image_url",
+            "37.56,126.98,가져오기국밥,\"서울특별시 중구, 1\",KOREAN,4,\"따옴표 \"\"진한\"\" 국물\",",
+            "37.57,126.99,가져오기냉면,서울특별시 중구 2,한식,5,\"여러 줄",
+            "리뷰\",https://example.com/a.jpg",
+            "",
+            "37.58,127.0,가져오기분식,서울특별시 중구 3,KOREAN,다섯,,",
+            "37.56,126.98,가져오기국밥,\"서울특별시 중구, 1\",KOREAN,3,파일 안 중복,",
+            "37.5,127.0,가져오기열부족,서울특별시 중구 4",
+            "137.5,127.0,가져오기위치,서울특별시 중구 5,KOREAN,3,,",
+            "37.59,127.01,가져오기카페,서울특별시 중구 6,cafe,3,,");
+
+    @Autowired
+    private RestaurantImportService importService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private NgramSearchIndex ngramSearchIndex;
+
+    @Autowired
+    private RestaurantStatsAggregate statsAggregate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void importsCsvWithReportedDuplicatesAndInvalidRows() throws Exception {
+        long maxIdBefore = maxId();
+
+        ImportReportDto report = importService.importRestaurants(stream(CSV), "text/csv; charset=UTF-8", null);
+
+        assertThat(report.getFormat()).isEqualTo(ImportFormat.CSV);
+        assertThat(report.getTotalRows()).isEqualTo(7);
+        assertThat(report.getImported()).isEqualTo(3);
+        assertThat(report.getDuplicates()).isEqualTo(1);
+        assertThat(report.getInvalid()).isEqualTo(3);
+        // 오류 줄 번호는 행이 시작된 줄 (여러 줄 값과 빈 줄 뒤에도 파일의 줄 번호)
+        assertThat(report.getErrors()).extracting(ImportReportDto.RowError::getLine).containsExactly(6L, 8L, 9L);
+        assertThat(report.getErrors().get(0).getMessage()).isEqualTo("평점이 숫자가 아닙니다");
+        assertThat(report.getErrors().get(1).getMessage()).startsWith("열 개수가 헤더와 다릅니다");
+
+        List<RestaurantResponseDto> imported = findByNamePrefix("가져오기");
+        assertThat(imported)
+                .extracting(RestaurantResponseDto::getName, RestaurantResponseDto::getAddress,
+                        RestaurantResponseDto::getCategory, RestaurantResponseDto::getRating,
+                        RestaurantResponseDto::getReview, RestaurantResponseDto::getImageUrl,
+                        RestaurantResponseDto::getCreatedBy)
+                .containsExactlyInAnyOrder(
+                        tuple("가져오기국밥", "서울특별시 중구, 1", Category.KOREAN, 4, "따옴표 \"진한\" 국물", null, "admin"),
+                        tuple("가져오기냉면", "서울특별시 중구 2", Category.KOREAN, 5, "여러 줄\n리뷰",
+                                "https://example.com/a.jpg", "admin"),
+                        tuple("가져오기카페", "서울특별시 중구 6", Category.CAFE, 3, null, null, "admin"));
+
+        List<Long> ids = imported.stream().map(RestaurantResponseDto::getId).toList();
+        // 건별 이벤트 없이 한 번만 알리고, 그 커밋 후 인덱스를 DB에서 다시 구성
+        assertThat(events.stream(CatalogReloadedEvent.class))
+                .singleElement()
+                .extracting(CatalogReloadedEvent::getChangedCount)
+                .isEqualTo(3L);
+        assertThat(events.stream(RestaurantChangedEvent.class)).isEmpty();
+        assertThat(ngramSearchIndex.search("가져오기")).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(statsAggregate.count()).isEqualTo(restaurantRepository.count());
+
+        // ID는 엔티티와 같은 풀링 시퀀스에서 받으므로, 이후 JPA로 저장하는 맛집과 겹치지 않고 시퀀스도 그 뒤에 있음
+        assertThat(ids).allMatch(id -> id > maxIdBefore);
+        Restaurant saved = restaurantRepository.save(
+                new Restaurant("가져오기이후", "서울특별시 중구 7", Category.KOREAN, 3, null, 37.5, 127.0));
+        assertThat(saved.getId()).isGreaterThan(ids.stream().mapToLong(Long::longValue).max().orElseThrow());
+        assertThat(jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR restaurant_seq", Long.class))
+                .isGreaterThan(saved.getId());
+
+        // 같은 파일을 다시 가져오면 모두 DB 중복이고, 바뀐 것이 없으니 알리지도 않음
+        events.clear();
+        ImportReportDto again = importService.importRestaurants(stream(CSV), null, ImportFormat.CSV);
+        assertThat(again.getImported()).isZero();
+        assertThat(again.getDuplicates()).isEqualTo(4);
+        assertThat(again.getInvalid()).isEqualTo(3);
+        assertThat(events.stream(CatalogReloadedEvent.class)).isEmpty();
+    }
+
+    @Test
+    void importsNdjsonSkippingBlankLines() throws Exception {
+        String ndjson = String.join("\n",
+                "{\"name\":\"제이슨국수\",\"address\":\"서울특별시 종로구 1\",\"category\":\"KOREAN\",\"rating\":4,"
+                        + "\"latitude\":37.57,\"longitude\":126.98}",
+                "",
+                "{\"name\":\"제이슨깨짐\",",
+                // 초기 데이터에 이미 있는 맛집
+                "{\"name\":\"명동교자\",\"address\":\"서울특별시 중구 명동2가 25-2\",\"category\":\"KOREAN\",\"rating\":5,"
+                        + "\"latitude\":37.56,\"longitude\":126.98}",
+                "{\"name\":\"제이슨평점\",\"address\":\"서울특별시 종로구 2\",\"category\":\"KOREAN\",\"rating\":9,"
+                        + "\"latitude\":37.57,\"longitude\":126.98}",
+                "");
+
+        ImportReportDto report = importService.importRestaurants(stream(ndjson), "application/x-ndjson", null);
+
+        assertThat(report.getFormat()).isEqualTo(ImportFormat.NDJSON);
+        assertThat(report.getTotalRows()).isEqualTo(4);
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getDuplicates()).isEqualTo(1);
+        assertThat(report.getInvalid()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(ImportReportDto.RowError::getLine).containsExactly(3L, 5L);
+        assertThat(report.getErrors().get(0).getMessage()).startsWith("JSON 형식이 올바르지 않습니다");
+        assertThat(findByNamePrefix("제이슨")).extracting(RestaurantResponseDto::getName).containsExactly("제이슨국수");
+        assertThat(events.stream(CatalogReloadedEvent.class)).hasSize(1);
+    }
+
+    @Test
+    void failedBatchReportsRowsAlreadyCommittedAndStillReloads() {
+        // 첫 덩어리는 저장되고, 마지막 덩어리(가져오기카페) 저장에서 실패
+        doCallRealMethod()
+                .doThrow(new DataIntegrityViolationException("저장 실패"))
+                .when(jdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        String csv = CSV.replace("가져오기", "실패");
+
+        assertThatThrownBy(() -> importService.importRestaurants(stream(csv), "text/csv", null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("2건까지 저장되었습니다");
+
+        assertThat(findByNamePrefix("실패")).extracting(RestaurantResponseDto::getName)
+                .containsExactlyInAnyOrder("실패국밥", "실패냉면");
+        assertThat(events.stream(CatalogReloadedEvent.class))
+                .singleElement()
+                .extracting(CatalogReloadedEvent::getChangedCount)
+                .isEqualTo(2L);
+        assertThat(ngramSearchIndex.search("실패")).hasSize(2);
+    }
+
+    @Test
+    void rejectsCsvWithoutRequiredColumnsOrUnknownFormat() {
+        assertThatThrownBy(() -> importService.importRestaurants(stream("name,address\n국밥,주소\n"), "text/csv", null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("category, rating, latitude, longitude");
+        assertThatThrownBy(() -> importService.importRestaurants(stream(CSV), "application/json", null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("지원하지 않는 파일 형식");
+    }
+
+    private List<RestaurantResponseDto> findByNamePrefix(String prefix) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM restaurants WHERE name LIKE ?", Long.class, prefix + "%");
+        return ids.isEmpty() ? List.of() : restaurantRepository.findDtosByIdIn(ids);
+    }
+
+    private long maxId() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM restaurants", Long.class);
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
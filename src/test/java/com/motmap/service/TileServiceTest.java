@@ -0,0 +1,249 @@
+package com.motmap.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.motmap.dto.EncodedTile;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.entity.Category;
+import com.motmap.repository.RestaurantRepository;
+import com.motmap.util.BoundingBox;
+import com.motmap.util.TileUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 바이너리 타일 형식 왕복 테스트
+ * 인코딩한 타일의 헤더와 맛집 행을 다시 읽어 ID 차이(varint), 좌표 양자화, 경계선 규칙(각 맛집은 정확히 한 타일),
+ * 그리고 좌표 이동 시 해당 타일만 비우는지 확인한다. DB 조회는 같은 BETWEEN 조건의 목록 필터로 대신한다.
+ */
+class TileServiceTest {
+
+    private static final int ZOOM = 14;
+    private static final int EXTENT = 4096;
+
+    private final RestaurantRepository restaurantRepository = mock(RestaurantRepository.class);
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    private final List<Object[]> rows = new ArrayList<>();
+    private final Random random = new Random(6);
+
+    private TileService tileService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.registerCustomCache(TileService.CACHE_NAME, Caffeine.newBuilder().build());
+        tileService = new TileService(restaurantRepository, cacheManager, 10, 20);
+        when(restaurantRepository.findTilePoints(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> {
+                    double minLat = invocation.getArgument(0);
+                    double maxLat = invocation.getArgument(1);
+                    double minLng = invocation.getArgument(2);
+                    double maxLng = invocation.getArgument(3);
+                    return rows.stream()
+                            .filter(row -> (Double) row[1] >= minLat && (Double) row[1] <= maxLat
+                                    && (Double) row[2] >= minLng && (Double) row[2] <= maxLng)
+                            .toList();
+                });
+    }
+
+    @Test
+    void decodedTilesReproduceEveryRestaurantExactlyOnce() {
+        int minX = TileUtils.tileX(126.95, ZOOM);
+        int maxX = TileUtils.tileX(127.05, ZOOM);
+        int minY = TileUtils.tileY(37.60, ZOOM);
+        int maxY = TileUtils.tileY(37.52, ZOOM);
+        BoundingBox area = new BoundingBox(
+                TileUtils.tileBounds(ZOOM, minX, maxY).getMinLatitude(), TileUtils.tileBounds(ZOOM, minX, minY).getMaxLatitude(),
+                TileUtils.tileBounds(ZOOM, minX, minY).getMinLongitude(), TileUtils.tileBounds(ZOOM, maxX, minY).getMaxLongitude());
+
+        // ID 간격을 1바이트부터 5바이트 varint까지 섞음
+        Map<Long, Object[]> expected = new HashMap<>();
+        long id = 0;
+        for (int i = 0; i < 3_000; i++) {
+            id += switch (random.nextInt(4)) {
+                case 0 -> 1;
+                case 1 -> 1 + random.nextInt(200);
+                case 2 -> 1 + random.nextInt(100_000);
+                default -> 1 + (long) random.nextInt(Integer.MAX_VALUE) * 4;
+            };
+            double latitude;
+            double longitude;
+            if (i % 10 == 0) {
+                // 안쪽 타일 경계선 위의 맛집 (왼쪽/위쪽 경계)
+                BoundingBox tile = TileUtils.tileBounds(ZOOM, minX + 1 + random.nextInt(maxX - minX),
+                        minY + 1 + random.nextInt(maxY - minY));
+                latitude = random.nextBoolean() ? tile.getMaxLatitude()
+                        : tile.getMinLatitude() + random.nextDouble() * (tile.getMaxLatitude() - tile.getMinLatitude());
+                longitude = random.nextBoolean() ? tile.getMinLongitude()
+                        : tile.getMinLongitude() + random.nextDouble() * (tile.getMaxLongitude() - tile.getMinLongitude());
+            } else {
+                latitude = area.getMinLatitude() + random.nextDouble() * (area.getMaxLatitude() - area.getMinLatitude());
+                longitude = area.getMinLongitude() + random.nextDouble() * (area.getMaxLongitude() - area.getMinLongitude());
+            }
+            Object[] row = {id, latitude, longitude, Category.values()[random.nextInt(Category.values().length)],
+                    1 + random.nextInt(5)};
+            rows.add(row);
+            expected.put(id, row);
+        }
+
+        Map<Long, Integer> seen = new HashMap<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                DecodedTile tile = decode(tileService.getTile(ZOOM, x, y).getData());
+                assertThat(tile.zoom).isEqualTo(ZOOM);
+                assertThat(tile.x).isEqualTo(x);
+                assertThat(tile.y).isEqualTo(y);
+
+                long previous = 0;
+                for (long[] marker : tile.markers) {
+                    assertThat(marker[0]).isGreaterThan(previous);
+                    previous = marker[0];
+                    seen.merge(marker[0], 1, Integer::sum);
+
+                    Object[] row = expected.get(marker[0]);
+                    double latitude = (Double) row[1];
+                    double longitude = (Double) row[2];
+                    assertThat(TileUtils.tileX(longitude, ZOOM)).isEqualTo(x);
+                    assertThat(TileUtils.tileY(latitude, ZOOM)).isEqualTo(y);
+                    // 양자화 좌표는 타일 안 위치를 1/4096 아래로 내림한 값
+                    double offsetX = TileUtils.worldX(longitude) * (1 << ZOOM) - x;
+                    double offsetY = TileUtils.worldY(latitude) * (1 << ZOOM) - y;
+                    assertThat(marker[1]).isBetween(0L, EXTENT - 1L);
+                    assertThat(marker[2]).isBetween(0L, EXTENT - 1L);
+                    assertThat((marker[1] + 0.5) / EXTENT).isCloseTo(offsetX, within(1.0 / EXTENT));
+                    assertThat((marker[2] + 0.5) / EXTENT).isCloseTo(offsetY, within(1.0 / EXTENT));
+                    assertThat(marker[3]).isEqualTo(((Category) row[3]).ordinal());
+                    assertThat(marker[4]).isEqualTo(((Integer) row[4]).longValue());
+                }
+            }
+        }
+
+        assertThat(seen).hasSize(expected.size());
+        assertThat(seen.values()).containsOnly(1);
+    }
+
+    @Test
+    void emptyTileHasOnlyHeader() {
+        byte[] data = tileService.getTile(ZOOM, 300, 5_000).getData();
+        DecodedTile tile = decode(data);
+
+        assertThat(tile.x).isEqualTo(300);
+        assertThat(tile.y).isEqualTo(5_000);
+        assertThat(tile.markers).isEmpty();
+        // 'M' 'T' 버전 z | x(2바이트 varint) | y(2바이트 varint) | 맛집 수 0
+        assertThat(data).hasSize(4 + 2 + 2 + 1);
+    }
+
+    @Test
+    void movingRestaurantEvictsOnlyTilesCoveringOldAndNewPosition() {
+        RestaurantResponseDto before = restaurant(37.5636, 126.9828);
+        RestaurantResponseDto after = restaurant(37.5512, 126.9882);
+        rows.add(new Object[]{1L, before.getLatitude(), before.getLongitude(), Category.KOREAN, 4});
+        int[] oldTile = {TileUtils.tileX(before.getLongitude(), ZOOM), TileUtils.tileY(before.getLatitude(), ZOOM)};
+        int[] newTile = {TileUtils.tileX(after.getLongitude(), ZOOM), TileUtils.tileY(after.getLatitude(), ZOOM)};
+        int[] otherTile = {oldTile[0] + 5, oldTile[1] + 5};
+        assertThat(newTile).isNotEqualTo(oldTile);
+
+        EncodedTile oldEncoded = tileService.getTile(ZOOM, oldTile[0], oldTile[1]);
+        EncodedTile newEncoded = tileService.getTile(ZOOM, newTile[0], newTile[1]);
+        EncodedTile otherEncoded = tileService.getTile(ZOOM, otherTile[0], otherTile[1]);
+        assertThat(decode(oldEncoded.getData()).markers).hasSize(1);
+        assertThat(decode(newEncoded.getData()).markers).isEmpty();
+
+        // 마커에 영향이 없는 변경(이름 등)은 아무 타일도 비우지 않음
+        RestaurantResponseDto renamed = restaurant(before.getLatitude(), before.getLongitude());
+        renamed.setName("새 이름");
+        tileService.onRestaurantChanged(RestaurantChangedEvent.updated(before, renamed));
+        assertThat(cached(ZOOM, oldTile)).isSameAs(oldEncoded);
+
+        rows.clear();
+        rows.add(new Object[]{1L, after.getLatitude(), after.getLongitude(), Category.KOREAN, 4});
+        tileService.onRestaurantChanged(RestaurantChangedEvent.updated(before, after));
+
+        // 모든 줌 레벨에서 이전/새 위치의 타일만 비워짐
+        for (int zoom = 10; zoom <= 20; zoom++) {
+            int[] from = {TileUtils.tileX(before.getLongitude(), zoom), TileUtils.tileY(before.getLatitude(), zoom)};
+            int[] to = {TileUtils.tileX(after.getLongitude(), zoom), TileUtils.tileY(after.getLatitude(), zoom)};
+            assertThat(cached(zoom, from)).isNull();
+            assertThat(cached(zoom, to)).isNull();
+        }
+        assertThat(cached(ZOOM, otherTile)).isSameAs(otherEncoded);
+
+        assertThat(decode(tileService.getTile(ZOOM, oldTile[0], oldTile[1]).getData()).markers).isEmpty();
+        assertThat(decode(tileService.getTile(ZOOM, newTile[0], newTile[1]).getData()).markers)
+                .singleElement()
+                .satisfies(marker -> assertThat(marker[0]).isEqualTo(1L));
+    }
+
+    private EncodedTile cached(int zoom, int[] tile) {
+        Cache.ValueWrapper wrapper = cacheManager.getCache(TileService.CACHE_NAME).get(zoom + "/" + tile[0] + "/" + tile[1]);
+        return wrapper == null ? null : (EncodedTile) wrapper.get();
+    }
+
+    private RestaurantResponseDto restaurant(double latitude, double longitude) {
+        RestaurantResponseDto restaurant = new RestaurantResponseDto();
+        restaurant.setId(1L);
+        restaurant.setName("명동교자");
+        restaurant.setCategory(Category.KOREAN);
+        restaurant.setRating(4);
+        restaurant.setLatitude(latitude);
+        restaurant.setLongitude(longitude);
+        return restaurant;
+    }
+
+    // 'M' 'T' | 버전 | z | x | y | 맛집 수 | (ID 차이, X, Y, 카테고리, 평점)*
+    private DecodedTile decode(byte[] data) {
+        ByteArrayInputStream in = new ByteArrayInputStream(data);
+        assertThat(in.read()).isEqualTo('M');
+        assertThat(in.read()).isEqualTo('T');
+        assertThat(in.read()).isEqualTo(1);
+        DecodedTile tile = new DecodedTile();
+        tile.zoom = in.read();
+        tile.x = (int) readVarint(in);
+        tile.y = (int) readVarint(in);
+        long count = readVarint(in);
+        long id = 0;
+        for (long i = 0; i < count; i++) {
+            id += readVarint(in);
+            tile.markers.add(new long[]{id, readShort(in), readShort(in), in.read(), in.read()});
+        }
+        assertThat(in.available()).isZero();
+        return tile;
+    }
+
+    private static long readVarint(ByteArrayInputStream in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.read();
+            assertThat(b).isNotNegative();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static long readShort(ByteArrayInputStream in) {
+        return ((long) in.read() << 8) | in.read();
+    }
+
+    private static final class DecodedTile {
+        private int zoom;
+        private int x;
+        private int y;
+        private final List<long[]> markers = new ArrayList<>();
+    }
+}
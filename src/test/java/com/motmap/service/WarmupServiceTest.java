@@ -0,0 +1,206 @@
+package com.motmap.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.motmap.cache.CatalogVersion;
+import com.motmap.cache.JsonResponseCache;
+import com.motmap.config.CacheConfig;
+import com.motmap.controller.HealthController;
+import com.motmap.dto.RestaurantResponseDto;
+import com.motmap.dto.RestaurantStatsDto;
+import com.motmap.dto.WarmupStatusDto;
+import com.motmap.entity.Category;
+import com.motmap.index.RestaurantIndexManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기동 워밍업의 준비 상태 응답, 캐시 적재, 소요 시간/항목 수 보고 테스트
+ * 서비스 캐시(@Cacheable, 상세 캐시)는 모의 객체가 실제 캐시에 직접 넣는 것으로 대신한다.
+ */
+class WarmupServiceTest {
+
+    private static final int RESTAURANTS = 250;
+    private static final int DETAIL_LIMIT = 120;
+    private static final int JIT_ITERATIONS = 20;
+
+    private final RestaurantIndexManager indexManager = mock(RestaurantIndexManager.class);
+    private final RestaurantService restaurantService = mock(RestaurantService.class);
+    private final CatalogVersion catalogVersion = mock(CatalogVersion.class);
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    private final CountDownLatch rebuildGate = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig.CACHE_NAMES.forEach(name -> cacheManager.registerCustomCache(name, Caffeine.newBuilder().build()));
+
+        List<RestaurantResponseDto> restaurants = new ArrayList<>();
+        for (long id = 1; id <= RESTAURANTS; id++) {
+            RestaurantResponseDto restaurant = new RestaurantResponseDto();
+            restaurant.setId(id);
+            restaurant.setName("맛집" + id);
+            restaurant.setCategory(Category.values()[(int) (id % Category.values().length)]);
+            restaurant.setLatitude(37.5);
+            restaurant.setLongitude(127.0);
+            restaurants.add(restaurant);
+        }
+        when(catalogVersion.etag(anyBoolean())).thenReturn("\"1-" + RESTAURANTS + "\"");
+        when(catalogVersion.etag(anyBoolean(), any())).thenReturn("\"1-" + RESTAURANTS + "-1\"");
+        when(restaurantService.getAllRestaurants()).thenAnswer(invocation -> {
+            cache("restaurants").put("all", restaurants);
+            return restaurants;
+        });
+        when(restaurantService.getHighRatedRestaurants()).thenAnswer(invocation -> {
+            cache("highRatedRestaurants").put("highRated", List.of());
+            return List.of();
+        });
+        when(restaurantService.getRestaurantsByCategory(any())).thenAnswer(invocation -> {
+            Category category = invocation.getArgument(0);
+            List<RestaurantResponseDto> found = restaurants.stream().filter(r -> r.getCategory() == category).toList();
+            cache("categoryRestaurants").put(category, found);
+            return found;
+        });
+        when(restaurantService.getRestaurantsByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            ids.forEach(id -> cache("restaurantById").put(id, restaurants.get((int) (id - 1))));
+            return List.of();
+        });
+        when(restaurantService.getRestaurantStatistics()).thenReturn(new RestaurantStatsDto());
+        when(restaurantService.searchRestaurants(anyString())).thenReturn(List.of());
+        when(restaurantService.getSuggestions(anyString(), any())).thenReturn(List.of());
+        when(restaurantService.getNearbyRestaurants(anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        rebuildGate.countDown();
+    }
+
+    @Test
+    void readinessIsUnavailableUntilWarmupCompletes() throws InterruptedException {
+        blockIndexRebuild();
+        // 적재 전에 채워진 캐시 항목은 워밍업이 비우고 다시 채움
+        cache("nearbyRestaurants").put("stale", List.of());
+        WarmupService warmupService = warmupService(Duration.ofSeconds(30));
+        HealthController controller = new HealthController(warmupService);
+
+        ResponseEntity<WarmupStatusDto> beforeStart = controller.getReadiness();
+        assertThat(beforeStart.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(beforeStart.getBody().getStatus()).isEqualTo("WARMING_UP");
+
+        warmupService.onApplicationReady();
+        Thread.sleep(150);
+        ResponseEntity<WarmupStatusDto> warming = controller.getReadiness();
+        assertThat(warming.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(warming.getBody().getDurationMillis()).isGreaterThanOrEqualTo(150);
+
+        rebuildGate.countDown();
+        awaitReady(warmupService);
+
+        ResponseEntity<WarmupStatusDto> ready = controller.getReadiness();
+        WarmupStatusDto status = ready.getBody();
+        assertThat(ready.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(status.getStatus()).isEqualTo("READY");
+        assertThat(status.getDurationMillis()).isGreaterThanOrEqualTo(150);
+        assertThat(status.getCacheEntries())
+                .containsEntry("restaurants", 1L)
+                .containsEntry("highRatedRestaurants", 1L)
+                .containsEntry("categoryRestaurants", (long) Category.values().length)
+                .containsEntry("restaurantById", (long) DETAIL_LIMIT)
+                .containsEntry("nearbyRestaurants", 0L);
+        assertThat(status.getEntriesLoaded())
+                .isEqualTo(status.getCacheEntries().values().stream().mapToLong(Long::longValue).sum());
+        assertThat(status.getExercisedCalls()).isEqualTo(3L * JIT_ITERATIONS);
+
+        // 완료 후 소요 시간은 더 늘어나지 않음
+        Thread.sleep(50);
+        assertThat(warmupService.getStatus().getDurationMillis()).isEqualTo(status.getDurationMillis());
+    }
+
+    @Test
+    void becomesReadyAfterTimeoutWhileWarmupIsStillRunning() throws InterruptedException {
+        blockIndexRebuild();
+        WarmupService warmupService = warmupService(Duration.ofMillis(200));
+        HealthController controller = new HealthController(warmupService);
+
+        warmupService.onApplicationReady();
+        assertThat(controller.getReadiness().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+        Thread.sleep(300);
+        ResponseEntity<WarmupStatusDto> timedOut = controller.getReadiness();
+        assertThat(timedOut.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(timedOut.getBody().getStatus()).isEqualTo("TIMED_OUT");
+        assertThat(timedOut.getBody().getEntriesLoaded()).isZero();
+    }
+
+    @Test
+    void failedWarmupStillReportsReady() throws InterruptedException {
+        doThrow(new IllegalStateException("인덱스 구성 실패")).when(indexManager).rebuildAll();
+        WarmupService warmupService = warmupService(Duration.ofSeconds(30));
+
+        warmupService.onApplicationReady();
+        awaitReady(warmupService);
+
+        assertThat(warmupService.getStatus().getStatus()).isEqualTo("READY");
+        assertThat(warmupService.getStatus().getEntriesLoaded()).isZero();
+    }
+
+    @Test
+    void restartReportsUnavailableUntilTheNewRunCompletes() throws InterruptedException {
+        WarmupService warmupService = warmupService(Duration.ofSeconds(30));
+        warmupService.onApplicationReady();
+        awaitReady(warmupService);
+
+        blockIndexRebuild();
+        warmupService.onApplicationReady();
+        assertThat(warmupService.isReady()).isFalse();
+        assertThat(warmupService.getStatus().getExercisedCalls()).isZero();
+
+        rebuildGate.countDown();
+        awaitReady(warmupService);
+        assertThat(warmupService.getStatus().getExercisedCalls()).isEqualTo(3L * JIT_ITERATIONS);
+    }
+
+    private WarmupService warmupService(Duration timeout) {
+        return new WarmupService(indexManager, restaurantService, cacheManager,
+                new JsonResponseCache(new ObjectMapper(), catalogVersion, true, 1024), timeout, JIT_ITERATIONS, DETAIL_LIMIT);
+    }
+
+    private void blockIndexRebuild() {
+        doAnswer(invocation -> rebuildGate.await(10, TimeUnit.SECONDS)).when(indexManager).rebuildAll();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private void awaitReady(WarmupService warmupService) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!"READY".equals(warmupService.getStatus().getStatus()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(warmupService.getStatus().getStatus()).isEqualTo("READY");
+    }
+}
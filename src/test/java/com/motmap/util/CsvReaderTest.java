@@ -0,0 +1,74 @@
+package com.motmap.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CSV 읽기의 따옴표, 줄바꿈, 줄 번호 처리 테스트
+ */
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsWithCommasEscapedQuotesAndNewlines() throws IOException {
+        List<List<String>> rows = readAll("a,\"b,c\",\"say \"\"hi\"\"\"\n\"line1\nline2\",,\"\"\n");
+
+        assertThat(rows).containsExactly(
+                List.of("a", "b,c", "say \"hi\""),
+                List.of("line1\nline2", "", ""));
+    }
+
+    @Test
+    void acceptsCrlfAndLfAndSkipsBomAndBlankLines() throws IOException {
+        List<List<String>> rows = readAll("﻿name,rating\r\n\r\n국밥,4\r\n\n냉면,5\r단독CR,3");
+
+        assertThat(rows).containsExactly(
+                List.of("name", "rating"),
+                List.of("국밥", "4"),
+                List.of("냉면", "5"),
+                List.of("단독CR", "3"));
+    }
+
+    @Test
+    void recordLineIsTheLineWhereTheRecordStarts() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("h1,h2\n\"a\nb\nc\",1\n\nx,2\r\n\"q\r\nr\",3\ny,4"));
+        List<Long> lines = new ArrayList<>();
+        while (reader.next() != null) {
+            lines.add(reader.getRecordLine());
+        }
+
+        assertThat(lines).containsExactly(1L, 2L, 6L, 7L, 9L);
+    }
+
+    @Test
+    void keepsEmptyQuotedRowAndTrailingEmptyField() throws IOException {
+        // 따옴표로 감싼 빈 값 한 개는 빈 줄이 아니라 값이 하나인 행
+        assertThat(readAll("\"\"\na,\n")).containsExactly(List.of(""), List.of("a", ""));
+    }
+
+    @Test
+    void unterminatedQuoteReadsToEndOfInput() throws IOException {
+        assertThat(readAll("a,\"open\nrest")).containsExactly(List.of("a", "open\nrest"));
+    }
+
+    @Test
+    void quoteInsideUnquotedFieldIsLiteral() throws IOException {
+        assertThat(readAll("ab\"c,d\n")).containsExactly(List.of("ab\"c", "d"));
+    }
+
+    private List<List<String>> readAll(String text) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(text))) {
+            List<String> row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
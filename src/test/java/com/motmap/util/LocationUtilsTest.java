@@ -0,0 +1,124 @@
+package com.motmap.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 반경 검색 사각 영역(BoundingBox) 선필터 테스트
+ * 반경 안의 점은 모두 사각 영역 안에 있어야 한다 (선필터가 결과를 빠뜨리지 않음).
+ * 반경이 크거나 위도가 높을수록 경도 폭 근사가 모자라기 쉬우므로 수천 km 반경과 극점 부근도 확인한다.
+ */
+class LocationUtilsTest {
+
+    private final Random random = new Random(11);
+
+    @Test
+    void boundingBoxContainsEveryPointWithinRadius() {
+        for (int i = 0; i < 2_000; i++) {
+            double latitude = -89.0 + random.nextDouble() * 178.0;
+            double longitude = -180.0 + random.nextDouble() * 360.0;
+            double radius = random.nextDouble() * 50.0;
+            BoundingBox box = LocationUtils.boundingBox(latitude, longitude, radius);
+
+            for (int j = 0; j < 50; j++) {
+                // 중심에서 반경 안쪽의 무작위 방향/거리로 이동한 점
+                double bearing = random.nextDouble() * 2 * Math.PI;
+                double distance = random.nextDouble() * radius;
+                double[] point = destination(latitude, longitude, bearing, distance);
+                if (LocationUtils.calculateDistance(latitude, longitude, point[0], point[1]) >= radius) {
+                    continue;
+                }
+                assertThat(box.contains(point[0], point[1]))
+                        .as("center (%f, %f) radius %f point (%f, %f)", latitude, longitude, radius, point[0], point[1])
+                        .isTrue();
+            }
+        }
+    }
+
+    @Test
+    void boundingBoxContainsPointsNearTheEdgeOfLargeRadiiAtHighLatitudes() {
+        for (int i = 0; i < 2_000; i++) {
+            double latitude = (random.nextBoolean() ? 1 : -1) * (50.0 + random.nextDouble() * 39.9);
+            double longitude = -180.0 + random.nextDouble() * 360.0;
+            double radius = random.nextInt(4) == 0 ? random.nextDouble() * 8_000.0 : random.nextDouble() * 2_000.0;
+            BoundingBox box = LocationUtils.boundingBox(latitude, longitude, radius);
+
+            for (int j = 0; j < 50; j++) {
+                // 경도 폭이 가장 넓어지는 원의 가장자리 부근 (동서 방향 근처, 반경의 99% 이상)
+                double bearing = (random.nextBoolean() ? 0.5 : 1.5) * Math.PI + (random.nextDouble() - 0.5) * Math.PI;
+                double distance = radius * (0.99 + random.nextDouble() * 0.01);
+                double[] point = destination(latitude, longitude, bearing, distance);
+                if (LocationUtils.calculateDistance(latitude, longitude, point[0], point[1]) >= radius) {
+                    continue;
+                }
+                assertThat(box.contains(point[0], point[1]))
+                        .as("center (%f, %f) radius %f point (%f, %f)", latitude, longitude, radius, point[0], point[1])
+                        .isTrue();
+            }
+        }
+    }
+
+    @Test
+    void longitudeHalfWidthIsExactOnTheSphere() {
+        // 위도 60도, 각거리 0.5rad: asin(sin 0.5 / cos 60°) = 73.6도 (근사 0.5 / cos 60° = 57.3도보다 넓음)
+        BoundingBox box = LocationUtils.boundingBox(60.0, 0.0, 0.5 * 6371.0);
+        assertThat(box.getMaxLongitude()).isCloseTo(Math.toDegrees(Math.asin(Math.sin(0.5) / 0.5)), within(1e-9));
+        assertThat(box.getMaxLongitude()).isGreaterThan(73.0);
+
+        // 가장자리 점의 최대 경도 차이가 반폭과 거의 같음 (사각 영역이 필요 이상으로 넓지 않음)
+        double widest = 0;
+        for (int k = 0; k < 3_600; k++) {
+            double[] point = destination(60.0, 0.0, k * Math.PI / 1_800, 0.5 * 6371.0);
+            widest = Math.max(widest, point[1]);
+        }
+        assertThat(widest).isCloseTo(box.getMaxLongitude(), within(0.01));
+    }
+
+    @Test
+    void polesAntimeridianAndHugeRadiiUseFullLongitudeRange() {
+        // 북극을 포함하는 원
+        BoundingBox polar = LocationUtils.boundingBox(85.0, 30.0, 600.0);
+        assertThat(polar.getMaxLatitude()).isEqualTo(90.0);
+        assertThat(polar.getMinLongitude()).isEqualTo(-180.0);
+        assertThat(polar.getMaxLongitude()).isEqualTo(180.0);
+        assertThat(polar.contains(88.0, -150.0)).isTrue();
+
+        // 경도 180도를 넘는 원
+        BoundingBox antimeridian = LocationUtils.boundingBox(-17.0, 179.95, 20.0);
+        assertThat(antimeridian.getMinLongitude()).isEqualTo(-180.0);
+        assertThat(antimeridian.getMaxLongitude()).isEqualTo(180.0);
+        assertThat(antimeridian.contains(-17.0, -179.95)).isTrue();
+
+        // 지구 둘레의 절반을 넘는 반경은 지구 전체
+        BoundingBox globe = LocationUtils.boundingBox(10.0, 10.0, 30_000.0);
+        assertThat(globe.getMinLatitude()).isEqualTo(-90.0);
+        assertThat(globe.getMaxLatitude()).isEqualTo(90.0);
+        assertThat(globe.contains(-10.0, -170.0)).isTrue();
+    }
+
+    @Test
+    void boundingBoxIsTightAwayFromPolesAndAntimeridian() {
+        BoundingBox box = LocationUtils.boundingBox(37.5665, 126.9780, 1.0);
+
+        // 위도 1도는 약 111km이므로 1km 반경의 사각 영역은 위도 방향으로 약 0.018도
+        assertThat(box.getMaxLatitude() - box.getMinLatitude()).isBetween(0.017, 0.019);
+        assertThat(box.getMaxLongitude() - box.getMinLongitude()).isBetween(0.021, 0.024);
+    }
+
+    // 대원 경로로 distanceKm만큼 이동한 지점 (경도는 -180~180으로 맞춤)
+    private double[] destination(double latitude, double longitude, double bearing, double distanceKm) {
+        double angular = distanceKm / 6371.0;
+        double lat1 = Math.toRadians(latitude);
+        double lon1 = Math.toRadians(longitude);
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular) + Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+        double lon2 = lon1 + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+                Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+        double lon = Math.toDegrees(lon2);
+        lon = ((lon + 540.0) % 360.0) - 180.0;
+        return new double[]{Math.toDegrees(lat2), lon};
+    }
+}